@@ -0,0 +1,54 @@
+package com.example.employee.benchmark;
+
+import com.example.employee.model.Employee;
+import com.example.employee.model.enums.EmploymentType;
+import com.example.employee.repository.ColumnarSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The same filtered salary aggregate computed over employee objects and over
+ * the columnar snapshot.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnalyticsBenchmark {
+
+    private static final LocalDate HIRED_FROM = LocalDate.of(2015, 1, 1);
+    private static final LocalDate HIRED_TO = LocalDate.of(2019, 12, 31);
+
+    @Benchmark
+    public double objectScan(WorkforceState state) {
+        String department = EmployeeDataGenerator.DEPARTMENTS[0];
+        double total = 0.0;
+        for (Employee emp : state.repository.findAll()) {
+            if (department.equals(emp.getDepartment())
+                    && emp.getEmploymentType() == EmploymentType.FULL_TIME
+                    && !emp.getHireDate().isBefore(HIRED_FROM)
+                    && !emp.getHireDate().isAfter(HIRED_TO)) {
+                total += emp.getSalary();
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double columnarScan(WorkforceState state) {
+        ColumnarSnapshot snapshot = state.repository.columnarSnapshot();
+        return snapshot.summarize(EmployeeDataGenerator.DEPARTMENTS[0], EmploymentType.FULL_TIME,
+            HIRED_FROM, HIRED_TO).getTotalSalary();
+    }
+}
+
+// Made with Bob
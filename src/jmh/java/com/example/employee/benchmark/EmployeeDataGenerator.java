@@ -0,0 +1,95 @@
+package com.example.employee.benchmark;
+
+import com.example.employee.model.Address;
+import com.example.employee.model.Employee;
+import com.example.employee.model.PaymentInfo;
+import com.example.employee.model.enums.EmploymentType;
+import com.example.employee.model.enums.PaymentMethod;
+import com.example.employee.repository.EmployeeRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic workforce for benchmarks. The same seed and size
+ * always produce the same employees, so runs are comparable.
+ */
+public final class EmployeeDataGenerator {
+    public static final String[] DEPARTMENTS = {
+        "Engineering", "Sales", "HR", "Marketing", "Finance", "Legal",
+        "Support", "Operations", "Product", "Design", "Security", "Research"
+    };
+    private static final String[] POSITIONS = {
+        "Engineer", "Senior Engineer", "Lead Engineer", "Manager", "Senior Manager",
+        "Director", "Analyst", "Senior Analyst", "Specialist", "Associate"
+    };
+    private static final String[] SKILLS = {
+        "Java", "Python", "AWS", "Docker", "Kubernetes", "SQL", "Go", "Rust", "React",
+        "Salesforce", "Negotiation", "CRM", "Recruiting", "Training", "SEO", "Excel",
+        "Accounting", "Compliance", "Figma", "Terraform", "Kafka", "Spark", "Linux",
+        "Networking", "Security", "Scrum", "Writing", "Public Speaking", "Tableau", "C++"
+    };
+    private static final String[] CITIES = {
+        "San Francisco", "New York", "Austin", "Seattle", "Chicago", "Boston", "Denver", "Atlanta"
+    };
+    private static final String[] BANKS = {
+        "Chase Bank", "Bank of America", "Wells Fargo", "US Bank", "Citibank"
+    };
+    private static final LocalDate FIRST_HIRE = LocalDate.of(1995, 1, 1);
+
+    private EmployeeDataGenerator() {
+    }
+
+    public static List<Employee> generate(int count, long seed) {
+        Random random = new Random(seed);
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(generate(i, random));
+        }
+        return employees;
+    }
+
+    public static EmployeeRepository populate(int count, long seed) {
+        EmployeeRepository repository = new EmployeeRepository();
+        for (Employee emp : generate(count, seed)) {
+            repository.save(emp);
+        }
+        return repository;
+    }
+
+    public static String employeeId(int index) {
+        return "B" + index;
+    }
+
+    private static Employee generate(int index, Random random) {
+        String id = employeeId(index);
+        String city = CITIES[random.nextInt(CITIES.length)];
+        Address address = new Address(random.nextInt(9_999) + " Main St", city, "CA",
+                String.format("%05d", random.nextInt(100_000)), "USA");
+        PaymentInfo payment = new PaymentInfo(String.valueOf(1_000_000_000L + random.nextInt(999_999_999)),
+                String.valueOf(100_000_000 + random.nextInt(899_999_999)),
+                BANKS[random.nextInt(BANKS.length)], PaymentMethod.values()[random.nextInt(PaymentMethod.values().length)]);
+
+        int skillCount = 2 + random.nextInt(5);
+        List<String> skills = new ArrayList<>(skillCount);
+        while (skills.size() < skillCount) {
+            String skill = SKILLS[random.nextInt(SKILLS.length)];
+            if (!skills.contains(skill)) {
+                skills.add(skill);
+            }
+        }
+
+        return new Employee(id, "First" + index, "Last" + index, "user" + index + "@company.com",
+                DEPARTMENTS[random.nextInt(DEPARTMENTS.length)],
+                POSITIONS[random.nextInt(POSITIONS.length)],
+                30_000 + random.nextInt(270_000),
+                FIRST_HIRE.plusDays(random.nextInt(11_000)),
+                address, payment,
+                EmploymentType.values()[random.nextInt(EmploymentType.values().length)],
+                skills);
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,69 @@
+package com.example.employee.benchmark;
+
+import com.example.employee.io.ExchangeFormat;
+import com.example.employee.io.WorkforceExporter;
+import com.example.employee.io.WorkforceImporter;
+import com.example.employee.model.Employee;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Retained heap per employee, measured as the growth of the live heap after
+ * full collections while holding a decoded workforce. Employees are read back
+ * from CSV so every string is a fresh instance, as after an import or recovery.
+ * Compare the two storage modes in separate JVMs:
+ *
+ * <pre>
+ *   java -cp target/benchmarks.jar -Demployee.compact=false com.example.employee.benchmark.EmployeeFootprint
+ *   java -cp target/benchmarks.jar com.example.employee.benchmark.EmployeeFootprint
+ * </pre>
+ */
+public final class EmployeeFootprint {
+    private static final int COUNT = 200_000;
+
+    private EmployeeFootprint() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : COUNT;
+        Path file = Files.createTempFile("workforce", ".csv");
+        try {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                WorkforceExporter.export(EmployeeDataGenerator.generate(count, 42L).iterator(), channel,
+                    ExchangeFormat.CSV);
+            }
+            // Warm the codec and interner classes before the baseline.
+            WorkforceImporter.read(file, ExchangeFormat.CSV, 1, 1, batch -> { });
+
+            long before = liveHeap();
+            List<Employee> employees = new ArrayList<>(count);
+            WorkforceImporter.read(file, ExchangeFormat.CSV, 1, WorkforceImporter.DEFAULT_BATCH_SIZE,
+                employees::addAll);
+            long after = liveHeap();
+
+            System.out.printf("employee.compact=%s: %d employees, %.1f bytes/employee%n",
+                System.getProperty("employee.compact", "true"), employees.size(),
+                (double) (after - before) / employees.size());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static long liveHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,92 @@
+package com.example.employee.benchmark;
+
+import com.example.employee.eventbus.Backpressure;
+import com.example.employee.eventbus.EventBus;
+import com.example.employee.eventbus.WaitStrategy;
+import com.example.employee.model.event.AuditEvent;
+import com.example.employee.model.event.EmployeeCreatedEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publish latency with four producers and one consuming subscriber: the ring
+ * buffer bus under each wait strategy against an {@link ArrayBlockingQueue}
+ * of the same capacity drained by one thread.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class EventBusBenchmark {
+    private static final int CAPACITY = 8192;
+
+    @Param({"yielding", "sleeping", "blocking"})
+    public String waitStrategy;
+
+    private final AuditEvent event = new EmployeeCreatedEvent("EVT1", LocalDateTime.now(), "system", "E001");
+    private EventBus<AuditEvent> bus;
+    private BlockingQueue<AuditEvent> queue;
+    private Thread queueConsumer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        WaitStrategy strategy = "yielding".equals(waitStrategy) ? WaitStrategy.yielding()
+            : "sleeping".equals(waitStrategy) ? WaitStrategy.sleeping() : WaitStrategy.blocking();
+        bus = new EventBus<>(CAPACITY, strategy, Backpressure.BLOCK);
+        Blackhole sink = new Blackhole(
+            "Today's password is swordfish. I understand instantiating Blackholes directly is dangerous.");
+        bus.subscribe("consumer", (e, sequence, endOfBatch) -> sink.consume(e));
+
+        queue = new ArrayBlockingQueue<>(CAPACITY);
+        queueConsumer = new Thread(() -> {
+            try {
+                while (true) {
+                    sink.consume(queue.take());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        queueConsumer.setDaemon(true);
+        queueConsumer.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        bus.close();
+        queueConsumer.interrupt();
+    }
+
+    @Benchmark
+    public boolean ringBufferPublish() {
+        return bus.publish(event);
+    }
+
+    @Benchmark
+    public void blockingQueuePut() throws InterruptedException {
+        queue.put(event);
+    }
+}
+
+// Made with Bob
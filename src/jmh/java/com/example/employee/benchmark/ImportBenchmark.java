@@ -0,0 +1,74 @@
+package com.example.employee.benchmark;
+
+import com.example.employee.model.Employee;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.repository.InMemoryAuditLog;
+import com.example.employee.service.EmployeeService;
+import com.example.employee.service.ImportResult;
+import com.example.employee.util.ValidationUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading {@code rows} new employees into an empty repository, one validated
+ * {@code save} at a time versus one {@code importEmployees} call. Divide
+ * {@code rows} by the score for rows per second.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 15)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class ImportBenchmark {
+
+    @Param({"50000"})
+    public int rows;
+
+    private List<Employee> employees;
+    private EmployeeRepository repository;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        employees = EmployeeDataGenerator.generate(rows, 42L);
+    }
+
+    @Setup(Level.Invocation)
+    public void emptyRepository() {
+        repository = new EmployeeRepository(new InMemoryAuditLog(), false);
+    }
+
+    @Benchmark
+    public int perRecordSave() {
+        int saved = 0;
+        for (Employee emp : employees) {
+            if (ValidationUtils.validateEmployeeData(emp.getFirstName(), emp.getLastName(),
+                    emp.getEmail(), emp.getSalary()) == null
+                    && ValidationUtils.isValidZipCode(emp.getAddress().getZipCode())) {
+                repository.save(emp);
+                saved++;
+            }
+        }
+        return saved;
+    }
+
+    @Benchmark
+    public ImportResult bulkImport() {
+        return new EmployeeService(repository).importEmployees(employees);
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,87 @@
+package com.example.employee.benchmark;
+
+import com.example.employee.exception.EmployeeNotFoundException;
+import com.example.employee.metrics.Counter;
+import com.example.employee.metrics.InstrumentedEmployeeRepository;
+import com.example.employee.metrics.MetricsRegistry;
+import com.example.employee.metrics.Timer;
+import com.example.employee.model.Employee;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.repository.InMemoryAuditLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the instrumentation primitives on their own and of a timed
+ * {@code findById} against the plain repository.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+    private static final int SIZE = 100_000;
+
+    private EmployeeRepository plain;
+    private EmployeeRepository instrumented;
+    private Counter counter;
+    private Timer timer;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        MetricsRegistry metrics = new MetricsRegistry();
+        plain = new EmployeeRepository(new InMemoryAuditLog(), false);
+        instrumented = new InstrumentedEmployeeRepository(metrics, new InMemoryAuditLog(), false);
+        for (Employee emp : EmployeeDataGenerator.generate(SIZE, 42L)) {
+            plain.restore(emp);
+            instrumented.restore(emp);
+        }
+        counter = metrics.counter("benchmark.counter");
+        timer = metrics.timer("benchmark.timer");
+    }
+
+    @Benchmark
+    public void counterIncrement() {
+        counter.increment();
+    }
+
+    @Benchmark
+    public void timerRecord() {
+        timer.record(1_234);
+    }
+
+    @Benchmark
+    public void timerStartStop() {
+        timer.stop(timer.start());
+    }
+
+    @Benchmark
+    public Employee findByIdPlain() throws EmployeeNotFoundException {
+        return plain.findById(nextId());
+    }
+
+    @Benchmark
+    public Employee findByIdInstrumented() throws EmployeeNotFoundException {
+        return instrumented.findById(nextId());
+    }
+
+    private String nextId() {
+        next = (next + 7919) % SIZE;
+        return EmployeeDataGenerator.employeeId(next);
+    }
+}
+
+// Made with Bob
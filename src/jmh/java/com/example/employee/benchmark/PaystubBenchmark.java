@@ -0,0 +1,102 @@
+package com.example.employee.benchmark;
+
+import com.example.employee.model.Employee;
+import com.example.employee.model.Paycheck;
+import com.example.employee.service.PaystubRenderer;
+import com.example.employee.util.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-stub cost and allocation of paystub rendering: the original
+ * concatenate-and-format code against the buffered renderer writing to a
+ * channel. Run with the GC profiler to compare {@code gc.alloc.rate.norm}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PaystubBenchmark {
+
+    private Employee employee;
+    private Paycheck paycheck;
+    private PaystubRenderer renderer;
+    private WritableByteChannel channel;
+
+    @Setup
+    public void setUp() {
+        employee = EmployeeDataGenerator.generate(1, 42L).get(0);
+        double gross = employee.getSalary() / 12;
+        paycheck = new Paycheck(employee.getId(), gross, gross * 0.25, 500.0, gross * 0.05,
+            gross - gross * 0.25 - 500.0 - gross * 0.05);
+        renderer = new PaystubRenderer();
+        channel = new DiscardingChannel();
+    }
+
+    @Benchmark
+    public String concatenateAndFormat() {
+        String payStub = "========================================\n";
+        payStub += "           PAYROLL STATEMENT            \n";
+        payStub += "========================================\n";
+        payStub += "Employee: " + employee.getFullName() + "\n";
+        payStub += "Employee ID: " + employee.getId() + "\n";
+        payStub += "Department: " + employee.getDepartment() + "\n";
+        payStub += "Position: " + employee.getPosition() + "\n";
+        payStub += "Employment Type: " + employee.getEmploymentType() + "\n";
+        payStub += "----------------------------------------\n";
+        payStub += "Gross Pay:        $" + String.format("%.2f", paycheck.getGrossPay()) + "\n";
+        payStub += "Taxes (25%):      $" + String.format("%.2f", paycheck.getTaxes()) + "\n";
+        payStub += "Health Insurance: $" + String.format("%.2f", paycheck.getHealthInsurance()) + "\n";
+        payStub += "Retirement (5%):  $" + String.format("%.2f", paycheck.getRetirement()) + "\n";
+        payStub += "----------------------------------------\n";
+        payStub += "Net Pay:          $" + String.format("%.2f", paycheck.getNetPay()) + "\n";
+        payStub += "========================================\n";
+        payStub += "Payment Method: " + employee.getPaymentInfo().getPaymentMethod() + "\n";
+        payStub += "Bank: " + employee.getPaymentInfo().getBankName() + "\n";
+        payStub += "Account: " + StringUtils.maskSensitiveData(
+            employee.getPaymentInfo().getAccountNumber()) + "\n";
+        payStub += "========================================\n";
+        return payStub;
+    }
+
+    @Benchmark
+    public PaystubRenderer renderToChannel() throws IOException {
+        renderer.write(employee, paycheck, channel);
+        return renderer;
+    }
+
+    private static final class DiscardingChannel implements WritableByteChannel {
+        @Override
+        public int write(ByteBuffer src) {
+            int written = src.remaining();
+            src.position(src.limit());
+            return written;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,69 @@
+package com.example.employee.benchmark;
+
+import com.example.employee.model.Employee;
+import com.example.employee.persistence.EmployeeStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Startup time of an {@link EmployeeStore}: parallel snapshot decode plus
+ * rebuilding the repository and its indexes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class RecoveryBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    private Path directory;
+
+    @Setup(Level.Trial)
+    public void writeSnapshot() throws IOException {
+        directory = Files.createTempDirectory("employee-store-bench");
+        try (EmployeeStore store = EmployeeStore.open(directory)) {
+            for (Employee emp : EmployeeDataGenerator.generate(size, 42L)) {
+                store.getRepository().restore(emp);
+            }
+            store.checkpoint();
+        }
+    }
+
+    @Benchmark
+    public long recover() throws IOException {
+        try (EmployeeStore store = EmployeeStore.open(directory)) {
+            return store.getRecoveredEmployees();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteSnapshot() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
+
+// Made with Bob
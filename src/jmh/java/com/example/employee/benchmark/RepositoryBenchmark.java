@@ -0,0 +1,57 @@
+package com.example.employee.benchmark;
+
+import com.example.employee.exception.EmployeeNotFoundException;
+import com.example.employee.model.Employee;
+import com.example.employee.repository.RepositorySnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    @Benchmark
+    public List<Employee> findByDepartment(WorkforceState state) {
+        return state.repository.findByDepartment(state.randomDepartment());
+    }
+
+    @Benchmark
+    public List<Employee> findBySalaryRange(WorkforceState state) {
+        double min = 30_000 + ThreadLocalRandom.current().nextInt(260_000);
+        return state.repository.findBySalaryRange(min, min + 10_000);
+    }
+
+    @Benchmark
+    public Employee getNewestEmployee(WorkforceState state) {
+        return state.repository.getNewestEmployee();
+    }
+
+    // Same salary, so no salary history entry accumulates across iterations.
+    @Benchmark
+    public Employee saveReplacement(WorkforceState state) throws EmployeeNotFoundException {
+        Employee emp = state.repository.findById(state.randomEmployeeId());
+        Employee replacement = emp.withSalary(emp.getSalary());
+        state.repository.save(replacement);
+        return replacement;
+    }
+
+    @Benchmark
+    public RepositorySnapshot snapshotAndFork(WorkforceState state) throws EmployeeNotFoundException {
+        Employee emp = state.repository.findById(state.randomEmployeeId());
+        return state.repository.snapshot().with(emp.withSalary(emp.getSalary() * 1.1));
+    }
+}
+
+// Made with Bob
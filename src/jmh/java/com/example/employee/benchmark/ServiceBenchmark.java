@@ -0,0 +1,97 @@
+package com.example.employee.benchmark;
+
+import com.example.employee.compensation.AdjustmentProposal;
+import com.example.employee.compensation.CompensationRules;
+import com.example.employee.exception.EmployeeNotFoundException;
+import com.example.employee.model.Employee;
+import com.example.employee.model.PayrollSummary;
+import com.example.employee.model.PayrollTotals;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+
+    @Benchmark
+    public String generatePaystub(WorkforceState state) throws EmployeeNotFoundException {
+        return state.payrollService.generatePaystub(state.randomEmployeeId());
+    }
+
+    @Benchmark
+    public String generatePaystubUncached(WorkforceState state) throws EmployeeNotFoundException {
+        return state.uncachedPayrollService.generatePaystub(state.randomEmployeeId());
+    }
+
+    @Benchmark
+    public String generateDepartmentReport(WorkforceState state) {
+        return state.reportingService.generateDepartmentReport(state.randomDepartment());
+    }
+
+    @Benchmark
+    public String generateCompanyReport(WorkforceState state) {
+        return state.reportingService.generateCompanyReport();
+    }
+
+    @Benchmark
+    public PayrollSummary payrollTotalsInDoubles(WorkforceState state) {
+        return state.payrollService.runPayroll(null);
+    }
+
+    @Benchmark
+    public PayrollTotals payrollTotalsInCents(WorkforceState state) {
+        return state.payrollService.calculatePayrollTotals();
+    }
+
+    @Benchmark
+    public Map<String, Long> statusCountsWithPeriod(WorkforceState state) {
+        Map<String, Long> counts = new HashMap<>();
+        for (Employee emp : state.repository.findAll()) {
+            int years = Period.between(emp.getHireDate(), LocalDate.now()).getYears();
+            counts.merge(years < 1 ? "New Hire" : "Tenured", 1L, Long::sum);
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public Map<String, Long> statusCounts(WorkforceState state) {
+        return state.employeeService.getStatusCounts();
+    }
+
+    @Benchmark
+    public Map<String, Double> meritCyclePerEmployee(WorkforceState state) {
+        Map<String, Double> budgets = new HashMap<>();
+        for (Employee emp : state.repository.findAll()) {
+            double raise = state.payrollService.calculateAdjustedSalary(emp, "MERIT") - emp.getSalary();
+            budgets.merge(emp.getDepartment(), raise, Double::sum);
+        }
+        return budgets;
+    }
+
+    @Benchmark
+    public AdjustmentProposal meritCycleProposal(WorkforceState state) {
+        return state.compensationEngine.propose(CompensationRules.MERIT);
+    }
+
+    @Benchmark
+    public Map<String, List<Employee>> groupEmployeesBySkills(WorkforceState state) {
+        return state.employeeService.groupEmployeesBySkills();
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,55 @@
+package com.example.employee.benchmark;
+
+import com.example.employee.compensation.CompensationEngine;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.service.EmployeeService;
+import com.example.employee.service.PayrollService;
+import com.example.employee.service.ReportingService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository and services populated with a synthetic workforce of {@code size}
+ * employees, shared by all benchmark threads.
+ */
+@State(Scope.Benchmark)
+public class WorkforceState {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    public EmployeeRepository repository;
+    public EmployeeService employeeService;
+    public PayrollService payrollService;
+    /** Caches a single paystub, so random lookups almost always render. */
+    public PayrollService uncachedPayrollService;
+    public ReportingService reportingService;
+    public CompensationEngine compensationEngine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        repository = EmployeeDataGenerator.populate(size, 42L);
+        employeeService = new EmployeeService(repository);
+        payrollService = new PayrollService(repository);
+        uncachedPayrollService = new PayrollService(repository, 1, 1, TimeUnit.MINUTES);
+        reportingService = new ReportingService(repository, payrollService);
+        compensationEngine = new CompensationEngine(repository);
+    }
+
+    public String randomEmployeeId() {
+        return EmployeeDataGenerator.employeeId(ThreadLocalRandom.current().nextInt(size));
+    }
+
+    public String randomDepartment() {
+        String[] departments = EmployeeDataGenerator.DEPARTMENTS;
+        return departments[ThreadLocalRandom.current().nextInt(departments.length)];
+    }
+}
+
+// Made with Bob
@@ -6,12 +6,20 @@
 package com.example.employee;
 
 import com.example.employee.exception.EmployeeNotFoundException;
+import com.example.employee.metrics.InstrumentedEmployeeRepository;
+import com.example.employee.metrics.InstrumentedNotificationService;
+import com.example.employee.metrics.InstrumentedPayrollService;
+import com.example.employee.metrics.InstrumentedReportingService;
+import com.example.employee.metrics.MetricsRegistry;
 import com.example.employee.model.Employee;
 import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.service.DispatchOptions;
+import com.example.employee.service.DispatchResult;
 import com.example.employee.service.EmployeeService;
 import com.example.employee.service.NotificationService;
 import com.example.employee.service.PayrollService;
 import com.example.employee.service.ReportingService;
+import com.example.employee.service.StubMailSink;
 import com.example.employee.util.DateUtils;
 
 import java.util.List;
@@ -23,11 +31,12 @@ public class EmployeeManagementApp {
         System.out.println("   Java 8 Enterprise Employee Management System");
         System.out.println("=================================================\n");
         
-        EmployeeRepository repository = new EmployeeRepository();
+        MetricsRegistry metrics = new MetricsRegistry();
+        EmployeeRepository repository = new InstrumentedEmployeeRepository(metrics);
         EmployeeService employeeService = new EmployeeService(repository);
-        PayrollService payrollService = new PayrollService(repository);
-        ReportingService reportingService = new ReportingService(repository, payrollService);
-        NotificationService notificationService = new NotificationService();
+        PayrollService payrollService = new InstrumentedPayrollService(repository, metrics);
+        ReportingService reportingService = new InstrumentedReportingService(repository, payrollService, metrics);
+        NotificationService notificationService = new InstrumentedNotificationService(metrics);
         
         // Demo 1: Process different data types (instanceof gotcha)
         System.out.println("Demo 1: Processing various data types");
@@ -78,10 +87,18 @@ public class EmployeeManagementApp {
         
         // Demo 8: Synchronous notifications (Virtual Threads would help)
         System.out.println("\nDemo 8: Sending Payroll Notifications");
-        long startTime = System.currentTimeMillis();
         notificationService.sendPayrollNotifications(repository.findAll());
-        long endTime = System.currentTimeMillis();
-        System.out.println("  Time taken: " + (endTime - startTime) + "ms");
+        
+        // Demo 9: Same notifications dispatched concurrently against a 100ms stub mail relay
+        System.out.println("\nDemo 9: Sending Payroll Notifications Asynchronously");
+        NotificationService asyncNotifications = new InstrumentedNotificationService(new StubMailSink(100), metrics);
+        DispatchResult result = asyncNotifications
+            .sendPayrollNotificationsAsync(repository.findAll(), DispatchOptions.defaults())
+            .join();
+        System.out.println("  " + result.getSucceeded() + " sent, " + result.getFailed() + " failed");
+        
+        System.out.println("\nLatency Metrics");
+        System.out.print(metrics.snapshot().toText());
         
         System.out.println("\n=================================================");
         System.out.println("   Application Complete");
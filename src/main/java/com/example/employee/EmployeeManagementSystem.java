@@ -3,7 +3,6 @@ package com.example.employee;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -18,6 +17,7 @@ import com.example.employee.model.PaymentInfo;
 import com.example.employee.model.enums.EmploymentType;
 import com.example.employee.model.enums.PaymentMethod;
 import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.repository.RepositorySnapshot;
 import com.example.employee.service.EmployeeService;
 import com.example.employee.service.PayrollService;
 import com.example.employee.service.ReportingService;
@@ -92,16 +92,12 @@ public class EmployeeManagementSystem {
 
     public String generateReport() {
         StringBuilder report = new StringBuilder();
+        // One immutable version for every number, without copying the store
+        RepositorySnapshot snapshot = repository.snapshot();
         report.append("=== Employee Report ===\n");
-        report.append("Total Employees: ").append(repository.findAll().size()).append("\n");
+        report.append("Total Employees: ").append(snapshot.size()).append("\n");
         report.append("Departments: Engineering, Sales, HR\n");
-        report.append("Average Salary: $").append(
-                String.format("%.2f",
-                        repository.findAll().stream()
-                                .mapToDouble(Employee::getSalary)
-                                .average()
-                                .orElse(0.0)))
-                .append("\n");
+        report.append("Average Salary: $").append(String.format("%.2f", snapshot.getAverageSalary())).append("\n");
         report.append("======================");
         return report.toString();
     }
@@ -123,11 +119,7 @@ public class EmployeeManagementSystem {
     }
 
     public List<Employee> getHighEarnersUpToLimit(double minSalary, int limit) {
-        return repository.findAll().stream()
-                .filter(e -> e.getSalary() >= minSalary)
-                .sorted(Comparator.comparingDouble(Employee::getSalary).reversed())
-                .limit(limit)
-                .collect(Collectors.toList());
+        return repository.findTopBySalary(limit, minSalary);
     }
 
     public Employee getRandomEmployee() {
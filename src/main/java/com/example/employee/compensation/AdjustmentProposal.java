@@ -0,0 +1,109 @@
+package com.example.employee.compensation;
+
+import com.example.employee.model.Employee;
+import com.example.employee.repository.ColumnarSnapshot;
+import com.example.employee.util.Cents;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Proposed salaries for every employee of one columnar snapshot, with budget
+ * totals per department. Nothing is written until the proposal is passed to
+ * {@link CompensationEngine#commit}.
+ */
+public final class AdjustmentProposal {
+
+    /**
+     * Current and proposed salary cost of one department, summed in cents.
+     */
+    public static final class DepartmentBudget {
+        private final String department;
+        private final int headcount;
+        private final long currentCents;
+        private final long proposedCents;
+
+        DepartmentBudget(String department, int headcount, long currentCents, long proposedCents) {
+            this.department = department;
+            this.headcount = headcount;
+            this.currentCents = currentCents;
+            this.proposedCents = proposedCents;
+        }
+
+        public String getDepartment() { return department; }
+        public int getHeadcount() { return headcount; }
+        public double getCurrentTotal() { return Cents.toDouble(currentCents); }
+        public double getProposedTotal() { return Cents.toDouble(proposedCents); }
+        public double getIncrease() { return Cents.toDouble(proposedCents - currentCents); }
+
+        public double getIncreasePercent() {
+            return currentCents == 0 ? 0.0 : (proposedCents - currentCents) * 100.0 / currentCents;
+        }
+
+        @Override
+        public String toString() {
+            return department + ": " + headcount + " employees, " + getCurrentTotal() + " -> " + getProposedTotal();
+        }
+    }
+
+    private final CompensationRules rules;
+    private final LocalDate date;
+    private final ColumnarSnapshot snapshot;
+    private final double[] proposed;
+    private final Map<String, DepartmentBudget> budgets;
+    private final DepartmentBudget total;
+
+    AdjustmentProposal(CompensationRules rules, LocalDate date, ColumnarSnapshot snapshot, double[] proposed,
+                       Map<String, DepartmentBudget> budgets, DepartmentBudget total) {
+        this.rules = rules;
+        this.date = date;
+        this.snapshot = snapshot;
+        this.proposed = proposed;
+        this.budgets = Collections.unmodifiableMap(budgets);
+        this.total = total;
+    }
+
+    public CompensationRules getRules() {
+        return rules;
+    }
+
+    /** Day whose tenure the rules were evaluated against. */
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public int size() {
+        return proposed.length;
+    }
+
+    /** Employee of {@code row}, as stored when the proposal was made. */
+    public Employee employee(int row) {
+        return snapshot.employee(row);
+    }
+
+    public double currentSalary(int row) {
+        return snapshot.salary(row);
+    }
+
+    public double proposedSalary(int row) {
+        return proposed[row];
+    }
+
+    /** Copy of the proposed salaries, indexed by row. */
+    public double[] getProposedSalaries() {
+        return proposed.clone();
+    }
+
+    /** Budget per department, in department order; employees without one are only in the total. */
+    public Map<String, DepartmentBudget> getDepartmentBudgets() {
+        return budgets;
+    }
+
+    /** Budget of the whole workforce, with a {@code null} department. */
+    public DepartmentBudget getTotal() {
+        return total;
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,155 @@
+package com.example.employee.compensation;
+
+import com.example.employee.model.Employee;
+import com.example.employee.repository.ColumnarSnapshot;
+import com.example.employee.util.TenureCalculator;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One salary adjustment, expressed as a factor the current salary is multiplied
+ * by. Rules are plain descriptions; {@link #compile} turns one into a
+ * {@link Factor} specialised for a given day.
+ */
+public abstract class AdjustmentRule {
+
+    AdjustmentRule() {
+    }
+
+    /**
+     * Evaluated form of a rule. Implementations are thread-safe.
+     */
+    interface Factor {
+        /**
+         * @param hireEpochDay hire date as an epoch day, or {@link ColumnarSnapshot#NO_HIRE_DATE}
+         */
+        double of(Employee emp, int hireEpochDay);
+    }
+
+    abstract Factor compile(TenureCalculator.Today today);
+
+    /**
+     * The same factor for everyone, e.g. {@code 1.03} for a 3% cost-of-living raise.
+     */
+    public static AdjustmentRule costOfLiving(double factor) {
+        return new CostOfLiving(factor);
+    }
+
+    /**
+     * Factor by completed years of service. Each key is the minimum years of a
+     * band; an employee gets the factor of the highest band they reach, and the
+     * lowest band also covers anyone with fewer years (new and future hires).
+     */
+    public static AdjustmentRule meritByTenure(Map<Integer, Double> factorsByMinYears) {
+        return new MeritByTenure(factorsByMinYears);
+    }
+
+    /**
+     * Factor by position level: the first keyword, in the map's iteration order,
+     * contained in the employee's position decides the factor; positions matching
+     * no keyword get {@code defaultFactor}.
+     */
+    public static AdjustmentRule promotionByPosition(Map<String, Double> factorsByKeyword, double defaultFactor) {
+        return new PromotionByPosition(factorsByKeyword, defaultFactor);
+    }
+
+    private static final class CostOfLiving extends AdjustmentRule {
+        private final double factor;
+
+        CostOfLiving(double factor) {
+            this.factor = factor;
+        }
+
+        @Override
+        Factor compile(TenureCalculator.Today today) {
+            double value = factor;
+            return (emp, hireEpochDay) -> value;
+        }
+
+        @Override
+        public String toString() {
+            return "costOfLiving(" + factor + ")";
+        }
+    }
+
+    private static final class MeritByTenure extends AdjustmentRule {
+        private final TreeMap<Integer, Double> bands;
+
+        MeritByTenure(Map<Integer, Double> factorsByMinYears) {
+            if (factorsByMinYears.isEmpty()) {
+                throw new IllegalArgumentException("At least one tenure band is required");
+            }
+            this.bands = new TreeMap<>(factorsByMinYears);
+        }
+
+        // Band lookups become one array read: byYears[y] is the factor for y years,
+        // clamped to [lowest band, highest band].
+        @Override
+        Factor compile(TenureCalculator.Today today) {
+            int lowest = Math.max(0, bands.firstKey());
+            int highest = Math.max(lowest, bands.lastKey());
+            double floor = bands.firstEntry().getValue();
+            double[] byYears = new double[highest + 1];
+            for (int years = 0; years <= highest; years++) {
+                Map.Entry<Integer, Double> band = bands.floorEntry(years);
+                byYears[years] = band == null ? floor : band.getValue();
+            }
+            return (emp, hireEpochDay) -> {
+                int years = hireEpochDay == ColumnarSnapshot.NO_HIRE_DATE ? 0 : today.yearsOfService(hireEpochDay);
+                return years < 0 ? floor : byYears[Math.min(years, highest)];
+            };
+        }
+
+        @Override
+        public String toString() {
+            return "meritByTenure(" + bands + ")";
+        }
+    }
+
+    private static final class PromotionByPosition extends AdjustmentRule {
+        private final LinkedHashMap<String, Double> keywords;
+        private final double defaultFactor;
+
+        PromotionByPosition(Map<String, Double> factorsByKeyword, double defaultFactor) {
+            this.keywords = new LinkedHashMap<>(factorsByKeyword);
+            this.defaultFactor = defaultFactor;
+        }
+
+        // Positions are interned and few, so each distinct one is matched once per compilation.
+        @Override
+        Factor compile(TenureCalculator.Today today) {
+            List<Map.Entry<String, Double>> ordered = new ArrayList<>(keywords.entrySet());
+            Map<String, Double> byPosition = new ConcurrentHashMap<>();
+            return (emp, hireEpochDay) -> {
+                String position = emp.getPosition();
+                if (position == null) {
+                    return defaultFactor;
+                }
+                Double cached = byPosition.get(position);
+                if (cached != null) {
+                    return cached;
+                }
+                return byPosition.computeIfAbsent(position, p -> {
+                    for (Map.Entry<String, Double> keyword : ordered) {
+                        if (p.contains(keyword.getKey())) {
+                            return keyword.getValue();
+                        }
+                    }
+                    return defaultFactor;
+                });
+            };
+        }
+
+        @Override
+        public String toString() {
+            return "promotionByPosition(" + keywords + ", default " + defaultFactor + ")";
+        }
+    }
+}
+
+// Made with Bob
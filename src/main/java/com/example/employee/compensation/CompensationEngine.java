@@ -0,0 +1,120 @@
+package com.example.employee.compensation;
+
+import com.example.employee.exception.EmployeeNotFoundException;
+import com.example.employee.model.Employee;
+import com.example.employee.repository.ColumnarSnapshot;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.util.Cents;
+import com.example.employee.util.TenureCalculator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+/**
+ * Applies a {@link CompensationRules} set to the whole workforce at once, for
+ * merit cycles and what-if scenarios.
+ *
+ * <p>{@link #propose} reads the repository's columnar snapshot, compiles the
+ * rules once against today's tenure thresholds and evaluates every row in
+ * parallel; it never writes. {@link #commit} later stores the proposed
+ * salaries as one batch.
+ */
+public class CompensationEngine {
+    private final EmployeeRepository repository;
+    private final TenureCalculator tenure;
+
+    public CompensationEngine(EmployeeRepository repository) {
+        this(repository, TenureCalculator.systemDefault());
+    }
+
+    /**
+     * @param tenure source of years of service, e.g. on a fixed clock in tests
+     */
+    public CompensationEngine(EmployeeRepository repository, TenureCalculator tenure) {
+        this.repository = repository;
+        this.tenure = tenure;
+    }
+
+    public AdjustmentProposal propose(CompensationRules rules) {
+        ColumnarSnapshot snapshot = repository.columnarSnapshot();
+        TenureCalculator.Today today = tenure.current();
+        CompensationRules.Evaluator evaluator = rules.compile(today);
+
+        int size = snapshot.size();
+        double[] proposed = new double[size];
+        IntStream.range(0, size).parallel().forEach(row -> proposed[row] =
+            evaluator.apply(snapshot.salary(row), snapshot.employee(row), snapshot.hireEpochDay(row)));
+
+        // Department codes are dense, so budgets are summed into arrays indexed by code.
+        int codes = 0;
+        for (int row = 0; row < size; row++) {
+            codes = Math.max(codes, snapshot.departmentCode(row) + 1);
+        }
+        int[] headcounts = new int[codes];
+        long[] currentCents = new long[codes];
+        long[] proposedCents = new long[codes];
+        long currentTotal = 0;
+        long proposedTotal = 0;
+        for (int row = 0; row < size; row++) {
+            long current = Cents.of(snapshot.salary(row));
+            long next = Cents.of(proposed[row]);
+            currentTotal += current;
+            proposedTotal += next;
+            int code = snapshot.departmentCode(row);
+            if (code >= 0) {
+                headcounts[code]++;
+                currentCents[code] += current;
+                proposedCents[code] += next;
+            }
+        }
+        Map<String, AdjustmentProposal.DepartmentBudget> budgets = new TreeMap<>();
+        for (int code = 0; code < codes; code++) {
+            if (headcounts[code] > 0) {
+                String department = snapshot.departmentName(code);
+                budgets.put(department, new AdjustmentProposal.DepartmentBudget(
+                    department, headcounts[code], currentCents[code], proposedCents[code]));
+            }
+        }
+        AdjustmentProposal.DepartmentBudget total =
+            new AdjustmentProposal.DepartmentBudget(null, size, currentTotal, proposedTotal);
+        return new AdjustmentProposal(rules, today.getDate(), snapshot, proposed, budgets, total);
+    }
+
+    /**
+     * Stores every proposed salary that differs from the current one, through
+     * {@link EmployeeRepository#saveAll} so each raise is audited and recorded in
+     * the salary history. Employees changed or removed since the proposal was
+     * made are skipped rather than overwritten, so committing the same proposal
+     * twice applies it once.
+     *
+     * @return number of employees updated
+     */
+    public int commit(AdjustmentProposal proposal) {
+        int[] applied = new int[1];
+        repository.runExclusive(() -> {
+            List<Employee> updates = new ArrayList<>();
+            for (int row = 0; row < proposal.size(); row++) {
+                Employee proposedFor = proposal.employee(row);
+                double salary = proposal.proposedSalary(row);
+                if (Double.compare(salary, proposedFor.getSalary()) != 0 && isCurrent(proposedFor)) {
+                    updates.add(proposedFor.withSalary(salary));
+                }
+            }
+            applied[0] = updates.isEmpty() ? 0 : repository.saveAll(updates);
+        });
+        return applied[0];
+    }
+
+    private boolean isCurrent(Employee emp) {
+        try {
+            return repository.findById(emp.getId()) == emp;
+        } catch (EmployeeNotFoundException e) {
+            return false;
+        }
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,110 @@
+package com.example.employee.compensation;
+
+import com.example.employee.model.Employee;
+import com.example.employee.util.TenureCalculator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An ordered set of adjustment rules applied together: an employee's proposed
+ * salary is the current salary times the product of every rule's factor.
+ */
+public final class CompensationRules {
+    /** Same factors as {@code PayrollService.calculateAdjustedSalary(emp, "COST_OF_LIVING")}. */
+    public static final CompensationRules COST_OF_LIVING = of(AdjustmentRule.costOfLiving(1.03));
+    /** Same factors as {@code PayrollService.calculateAdjustedSalary(emp, "MERIT")}. */
+    public static final CompensationRules MERIT = of(AdjustmentRule.meritByTenure(standardMeritBands()));
+    /** Same factors as {@code PayrollService.calculateAdjustedSalary(emp, "PROMOTION")}. */
+    public static final CompensationRules PROMOTION =
+        of(AdjustmentRule.promotionByPosition(standardPromotionLevels(), 1.12));
+
+    private final List<AdjustmentRule> rules;
+
+    public CompensationRules(List<AdjustmentRule> rules) {
+        this.rules = Collections.unmodifiableList(new ArrayList<>(rules));
+    }
+
+    public static CompensationRules of(AdjustmentRule... rules) {
+        return new CompensationRules(Arrays.asList(rules));
+    }
+
+    /**
+     * The standard rule set for one of the adjustment types understood by
+     * {@code PayrollService.calculateAdjustedSalary}, or an empty set (no change)
+     * for any other type.
+     */
+    public static CompensationRules forAdjustmentType(String adjustmentType) {
+        switch (adjustmentType) {
+            case "COST_OF_LIVING":
+                return COST_OF_LIVING;
+            case "MERIT":
+                return MERIT;
+            case "PROMOTION":
+                return PROMOTION;
+            default:
+                return of();
+        }
+    }
+
+    public List<AdjustmentRule> getRules() {
+        return rules;
+    }
+
+    /**
+     * Compiles every rule against {@code today}'s tenure thresholds.
+     */
+    Evaluator compile(TenureCalculator.Today today) {
+        AdjustmentRule.Factor[] factors = new AdjustmentRule.Factor[rules.size()];
+        for (int i = 0; i < factors.length; i++) {
+            factors[i] = rules.get(i).compile(today);
+        }
+        return new Evaluator(factors);
+    }
+
+    /**
+     * Compiled rule set. Thread-safe, so one instance serves a parallel scan.
+     */
+    static final class Evaluator {
+        private final AdjustmentRule.Factor[] factors;
+
+        Evaluator(AdjustmentRule.Factor[] factors) {
+            this.factors = factors;
+        }
+
+        double apply(double salary, Employee emp, int hireEpochDay) {
+            double factor = 1.0;
+            for (AdjustmentRule.Factor f : factors) {
+                factor *= f.of(emp, hireEpochDay);
+            }
+            return salary * factor;
+        }
+    }
+
+    private static Map<Integer, Double> standardMeritBands() {
+        Map<Integer, Double> bands = new TreeMap<>();
+        bands.put(0, 1.05);
+        bands.put(3, 1.07);
+        bands.put(5, 1.10);
+        return bands;
+    }
+
+    private static Map<String, Double> standardPromotionLevels() {
+        Map<String, Double> levels = new LinkedHashMap<>();
+        levels.put("Senior", 1.15);
+        levels.put("Lead", 1.20);
+        return levels;
+    }
+
+    @Override
+    public String toString() {
+        return "CompensationRules" + rules;
+    }
+}
+
+// Made with Bob
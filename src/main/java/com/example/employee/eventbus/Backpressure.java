@@ -0,0 +1,14 @@
+package com.example.employee.eventbus;
+
+/**
+ * What {@link EventBus#publish} does when the ring is full because the
+ * slowest subscriber has fallen a whole ring behind.
+ */
+public enum Backpressure {
+    /** Wait for the slowest subscriber, using the bus's wait strategy. */
+    BLOCK,
+    /** Discard the new event and report it as dropped. */
+    DROP
+}
+
+// Made with Bob
@@ -0,0 +1,229 @@
+package com.example.employee.eventbus;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process publish/subscribe over a pre-sized ring buffer, after the LMAX
+ * Disruptor.
+ *
+ * <p>Producers claim a sequence with one atomic increment, store the event in
+ * its slot and mark the slot published; no locks are taken. Each subscriber
+ * runs on its own thread and owns its sequence, which only that thread
+ * writes. It reads every slot published since its last batch and hands them to
+ * its {@link EventHandler} as one batch. The ring is full when the slowest
+ * subscriber is a whole ring behind; {@link Backpressure} decides whether a
+ * producer then waits or drops the event.
+ *
+ * <p>A subscription receives events published after it was added. A handler
+ * that throws is counted in {@link #getHandlerFailures()} and keeps receiving
+ * events.
+ */
+public class EventBus<E> implements AutoCloseable {
+    private final Object[] ring;
+    private final int mask;
+    private final int indexShift;
+    // Round in which each slot was last published; lets consumers see publication per slot.
+    private final AtomicIntegerArray published;
+    private final AtomicLong cursor = new AtomicLong(-1);
+    private final WaitStrategy waitStrategy;
+    private final Backpressure backpressure;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder handlerFailures = new LongAdder();
+    // Cached minimum of the subscriber sequences, refreshed only when a producer nears it.
+    private volatile long gatingCache = -1;
+    private volatile boolean closed;
+
+    /**
+     * @param capacity number of slots, a power of two
+     */
+    public EventBus(int capacity, WaitStrategy waitStrategy, Backpressure backpressure) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        this.ring = new Object[capacity];
+        this.mask = capacity - 1;
+        this.indexShift = Integer.numberOfTrailingZeros(capacity);
+        this.published = new AtomicIntegerArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+        this.waitStrategy = waitStrategy;
+        this.backpressure = backpressure;
+    }
+
+    /**
+     * Publishes {@code event} to every subscription. Safe to call from any
+     * number of threads.
+     *
+     * @return false if the ring was full and the event was dropped
+     * @throws IllegalStateException if the bus is closed
+     */
+    public boolean publish(E event) {
+        if (closed) {
+            throw new IllegalStateException("Event bus is closed");
+        }
+        long sequence;
+        if (backpressure == Backpressure.DROP) {
+            sequence = tryClaim();
+            if (sequence < 0) {
+                dropped.increment();
+                return false;
+            }
+        } else {
+            sequence = cursor.incrementAndGet();
+            long wrapPoint = sequence - ring.length;
+            for (int attempt = 0; wrapPoint > gatingCache && wrapPoint > refreshGating(); attempt++) {
+                waitStrategy.idle(attempt);
+            }
+        }
+        int index = (int) sequence & mask;
+        ring[index] = event;
+        published.set(index, (int) (sequence >>> indexShift));
+        waitStrategy.signalAll();
+        return true;
+    }
+
+    /**
+     * Adds a subscription and starts its consumer thread.
+     */
+    public Subscription subscribe(String name, EventHandler<? super E> handler) {
+        if (closed) {
+            throw new IllegalStateException("Event bus is closed");
+        }
+        Subscription subscription = new Subscription(name, handler, cursor.get());
+        subscriptions.add(subscription);
+        subscription.thread.start();
+        return subscription;
+    }
+
+    /**
+     * Stops accepting events, lets every subscription drain what was published
+     * and waits for the consumer threads to finish.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        closed = true;
+        for (Subscription subscription : subscriptions) {
+            subscription.running = false;
+        }
+        waitStrategy.signalAll();
+        for (Subscription subscription : subscriptions) {
+            subscription.thread.join();
+        }
+    }
+
+    public int getCapacity() {
+        return ring.length;
+    }
+
+    /** Sequence of the last claimed slot, -1 before the first publish. */
+    public long getCursor() {
+        return cursor.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getHandlerFailures() {
+        return handlerFailures.sum();
+    }
+
+    private long tryClaim() {
+        while (true) {
+            long current = cursor.get();
+            long next = current + 1;
+            long wrapPoint = next - ring.length;
+            if (wrapPoint > gatingCache && wrapPoint > refreshGating()) {
+                return -1;
+            }
+            if (cursor.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    private long refreshGating() {
+        long minimum = cursor.get();
+        for (Subscription subscription : subscriptions) {
+            minimum = Math.min(minimum, subscription.sequence.get());
+        }
+        gatingCache = minimum;
+        return minimum;
+    }
+
+    private boolean isPublished(long sequence) {
+        return published.get((int) sequence & mask) == (int) (sequence >>> indexShift);
+    }
+
+    /**
+     * One subscriber: a consumer thread and the sequence of the last event it handled.
+     */
+    public final class Subscription {
+        private final String name;
+        private final EventHandler<? super E> handler;
+        private final AtomicLong sequence;
+        private final Thread thread;
+        private volatile boolean running = true;
+
+        private Subscription(String name, EventHandler<? super E> handler, long start) {
+            this.name = name;
+            this.handler = handler;
+            this.sequence = new AtomicLong(start);
+            this.thread = new Thread(this::consume, "event-bus-" + name);
+            this.thread.setDaemon(true);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /** Sequence of the last event handled. */
+        public long getSequence() {
+            return sequence.get();
+        }
+
+        /** Events claimed on the bus but not yet handled by this subscription. */
+        public long getLag() {
+            return cursor.get() - sequence.get();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void consume() {
+            long next = sequence.get() + 1;
+            int attempt = 0;
+            while (true) {
+                if (!isPublished(next)) {
+                    if (!running && next > cursor.get()) {
+                        return;
+                    }
+                    waitStrategy.idle(attempt++);
+                    continue;
+                }
+                attempt = 0;
+                long last = next;
+                long claimed = cursor.get();
+                while (last < claimed && isPublished(last + 1)) {
+                    last++;
+                }
+                for (long s = next; s <= last; s++) {
+                    try {
+                        handler.onEvent((E) ring[(int) s & mask], s, s == last);
+                    } catch (Exception e) {
+                        handlerFailures.increment();
+                    }
+                }
+                sequence.lazySet(last);
+                waitStrategy.signalAll();
+                next = last + 1;
+            }
+        }
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,14 @@
+package com.example.employee.eventbus;
+
+/**
+ * Consumer of events from an {@link EventBus}, called on the subscription's
+ * own thread in publication order. Events arrive in batches of whatever was
+ * published since the last batch; {@code endOfBatch} marks the last event of
+ * one, so a handler can buffer work (index updates, file writes) and flush once.
+ */
+@FunctionalInterface
+public interface EventHandler<E> {
+    void onEvent(E event, long sequence, boolean endOfBatch) throws Exception;
+}
+
+// Made with Bob
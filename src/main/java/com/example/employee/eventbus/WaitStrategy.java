@@ -0,0 +1,123 @@
+package com.example.employee.eventbus;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * How a thread waits on an {@link EventBus}: consumers for new events,
+ * producers for free slots. Trades latency against CPU use; the spinning
+ * strategies only pay off when every waiting thread has a core to itself,
+ * otherwise they take time slices from the threads they are waiting for.
+ */
+public interface WaitStrategy {
+
+    /**
+     * Waits a little. Called repeatedly while the condition does not hold;
+     * {@code attempt} counts the calls for this wait, from 0.
+     */
+    void idle(int attempt);
+
+    /**
+     * Called after events are published or consumed, to wake idle threads.
+     */
+    void signalAll();
+
+    /** Spins without yielding: lowest latency, burns a core per waiting thread. */
+    static WaitStrategy busySpin() {
+        return new WaitStrategy() {
+            @Override
+            public void idle(int attempt) {
+            }
+
+            @Override
+            public void signalAll() {
+            }
+        };
+    }
+
+    /** Spins briefly, then yields the processor. */
+    static WaitStrategy yielding() {
+        return new WaitStrategy() {
+            @Override
+            public void idle(int attempt) {
+                if (attempt >= 100) {
+                    Thread.yield();
+                }
+            }
+
+            @Override
+            public void signalAll() {
+            }
+        };
+    }
+
+    /** Spins, yields, then parks for growing intervals of up to a millisecond. */
+    static WaitStrategy sleeping() {
+        return new WaitStrategy() {
+            @Override
+            public void idle(int attempt) {
+                if (attempt < 100) {
+                    return;
+                }
+                if (attempt < 200) {
+                    Thread.yield();
+                    return;
+                }
+                LockSupport.parkNanos(Math.min(1_000_000L, 1_000L << Math.min(attempt - 200, 10)));
+            }
+
+            @Override
+            public void signalAll() {
+            }
+        };
+    }
+
+    /**
+     * Blocks on a condition until signalled: no CPU while idle, at the cost of a
+     * lock round trip on every signal that finds a waiter.
+     */
+    static WaitStrategy blocking() {
+        return new Blocking();
+    }
+
+    final class Blocking implements WaitStrategy {
+        private final Lock lock = new ReentrantLock();
+        private final Condition signalled = lock.newCondition();
+        private volatile int waiters;
+
+        private Blocking() {
+        }
+
+        @Override
+        public void idle(int attempt) {
+            lock.lock();
+            try {
+                waiters++;
+                // Bounded so a signal that raced ahead of this wait costs at most a millisecond.
+                signalled.await(1, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                waiters--;
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void signalAll() {
+            if (waiters > 0) {
+                lock.lock();
+                try {
+                    signalled.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+}
+
+// Made with Bob
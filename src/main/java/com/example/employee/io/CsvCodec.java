@@ -0,0 +1,218 @@
+package com.example.employee.io;
+
+import com.example.employee.model.Address;
+import com.example.employee.model.Employee;
+import com.example.employee.model.PaymentInfo;
+import com.example.employee.model.enums.EmploymentType;
+import com.example.employee.model.enums.PaymentMethod;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * CSV records in the column order of {@link #HEADER}.
+ */
+final class CsvCodec implements RecordCodec {
+    static final String HEADER = "id,firstName,lastName,email,department,position,salary,hireDate,"
+        + "street,city,state,zipCode,country,accountNumber,routingNumber,bankName,paymentMethod,"
+        + "employmentType,skills";
+    private static final int COLUMNS = 19;
+
+    @Override
+    public String header() {
+        return HEADER;
+    }
+
+    @Override
+    public void write(Employee emp, StringBuilder out) {
+        field(out, emp.getId());
+        next(out, emp.getFirstName());
+        next(out, emp.getLastName());
+        next(out, emp.getEmail());
+        next(out, emp.getDepartment());
+        next(out, emp.getPosition());
+        out.append(',').append(emp.getSalary());
+        next(out, emp.getHireDate() == null ? null : emp.getHireDate().toString());
+
+        Address address = emp.getAddress();
+        next(out, address == null ? null : address.getStreet());
+        next(out, address == null ? null : address.getCity());
+        next(out, address == null ? null : address.getState());
+        next(out, address == null ? null : address.getZipCode());
+        next(out, address == null ? null : address.getCountry());
+
+        PaymentInfo payment = emp.getPaymentInfo();
+        next(out, payment == null ? null : payment.getAccountNumber());
+        next(out, payment == null ? null : payment.getRoutingNumber());
+        next(out, payment == null ? null : payment.getBankName());
+        next(out, payment == null || payment.getPaymentMethod() == null ? null : payment.getPaymentMethod().name());
+
+        next(out, emp.getEmploymentType() == null ? null : emp.getEmploymentType().name());
+        next(out, joinSkills(emp.getSharedSkills()));
+    }
+
+    @Override
+    public Employee read(String record) {
+        List<String> f = split(record);
+        if (f.size() != COLUMNS) {
+            throw new IllegalArgumentException("Expected " + COLUMNS + " columns but found " + f.size());
+        }
+        Address address = null;
+        if (f.get(8) != null || f.get(9) != null || f.get(10) != null || f.get(11) != null || f.get(12) != null) {
+            address = new Address(f.get(8), f.get(9), f.get(10), f.get(11), f.get(12));
+        }
+        PaymentInfo payment = null;
+        if (f.get(13) != null || f.get(14) != null || f.get(15) != null || f.get(16) != null) {
+            payment = new PaymentInfo(f.get(13), f.get(14), f.get(15),
+                f.get(16) == null ? null : PaymentMethod.valueOf(f.get(16)));
+        }
+        return new Employee(f.get(0), f.get(1), f.get(2), f.get(3), f.get(4), f.get(5),
+            Double.parseDouble(f.get(6)),
+            f.get(7) == null ? null : LocalDate.parse(f.get(7)),
+            address, payment,
+            f.get(17) == null ? null : EmploymentType.valueOf(f.get(17)),
+            splitSkills(f.get(18)));
+    }
+
+    @Override
+    public boolean isIncomplete(CharSequence record) {
+        boolean quoted = false;
+        for (int i = 0; i < record.length(); i++) {
+            if (record.charAt(i) == '"') {
+                quoted = !quoted;
+            }
+        }
+        return quoted;
+    }
+
+    @Override
+    public boolean spansLines() {
+        return true;
+    }
+
+    private static void next(StringBuilder out, String value) {
+        out.append(',');
+        field(out, value);
+    }
+
+    private static void field(StringBuilder out, String value) {
+        if (value == null) {
+            return;
+        }
+        if (!needsQuotes(value)) {
+            out.append(value);
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.append('"');
+            }
+            out.append(c);
+        }
+        out.append('"');
+    }
+
+    private static boolean needsQuotes(String value) {
+        if (value.isEmpty()) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Unquoted empty fields become null, quoted ones keep their exact text.
+    static List<String> split(String record) {
+        List<String> fields = new ArrayList<>(COLUMNS);
+        StringBuilder value = new StringBuilder();
+        int i = 0;
+        while (true) {
+            value.setLength(0);
+            boolean quoted = false;
+            if (i < record.length() && record.charAt(i) == '"') {
+                quoted = true;
+                i++;
+                while (true) {
+                    if (i >= record.length()) {
+                        throw new IllegalArgumentException("Unterminated quoted field");
+                    }
+                    char c = record.charAt(i++);
+                    if (c == '"') {
+                        if (i < record.length() && record.charAt(i) == '"') {
+                            value.append('"');
+                            i++;
+                        } else {
+                            break;
+                        }
+                    } else {
+                        value.append(c);
+                    }
+                }
+            } else {
+                while (i < record.length() && record.charAt(i) != ',') {
+                    value.append(record.charAt(i++));
+                }
+            }
+            fields.add(quoted || value.length() > 0 ? value.toString() : null);
+            if (i >= record.length()) {
+                return fields;
+            }
+            if (record.charAt(i) != ',') {
+                throw new IllegalArgumentException("Unexpected character after quoted field at " + i);
+            }
+            i++;
+        }
+    }
+
+    private static String joinSkills(List<String> skills) {
+        if (skills.isEmpty()) {
+            return null;
+        }
+        StringBuilder joined = new StringBuilder();
+        for (int s = 0; s < skills.size(); s++) {
+            if (s > 0) {
+                joined.append('|');
+            }
+            String skill = skills.get(s);
+            for (int i = 0; i < skill.length(); i++) {
+                char c = skill.charAt(i);
+                if (c == '|' || c == '\\') {
+                    joined.append('\\');
+                }
+                joined.append(c);
+            }
+        }
+        return joined.toString();
+    }
+
+    private static List<String> splitSkills(String joined) {
+        if (joined == null) {
+            return Collections.emptyList();
+        }
+        List<String> skills = new ArrayList<>();
+        StringBuilder skill = new StringBuilder();
+        for (int i = 0; i < joined.length(); i++) {
+            char c = joined.charAt(i);
+            if (c == '\\' && i + 1 < joined.length()) {
+                skill.append(joined.charAt(++i));
+            } else if (c == '|') {
+                skills.add(skill.toString());
+                skill.setLength(0);
+            } else {
+                skill.append(c);
+            }
+        }
+        skills.add(skill.toString());
+        return skills;
+    }
+}
+
+// Made with Bob
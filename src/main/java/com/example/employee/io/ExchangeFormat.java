@@ -0,0 +1,31 @@
+package com.example.employee.io;
+
+/**
+ * Text formats for exchanging the workforce with external systems. Both can be
+ * split and read in parallel: NDJSON puts one employee per line, and CSV
+ * records, which span lines when a quoted value holds a line break, are
+ * delimited by tracking quotes.
+ */
+public enum ExchangeFormat {
+    /**
+     * RFC 4180 CSV with a header row. Nested address and payment fields are
+     * flattened into columns and skills are joined with {@code |}. An empty
+     * unquoted field is {@code null}; {@code ""} is the empty string.
+     */
+    CSV(new CsvCodec()),
+
+    /** Newline-delimited JSON: one JSON object per line, no header. */
+    NDJSON(new NdjsonCodec());
+
+    private final RecordCodec codec;
+
+    ExchangeFormat(RecordCodec codec) {
+        this.codec = codec;
+    }
+
+    RecordCodec codec() {
+        return codec;
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,361 @@
+package com.example.employee.io;
+
+import com.example.employee.model.Address;
+import com.example.employee.model.Employee;
+import com.example.employee.model.PaymentInfo;
+import com.example.employee.model.enums.EmploymentType;
+import com.example.employee.model.enums.PaymentMethod;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One JSON object per line. The reader is a small recursive-descent parser
+ * for the subset of JSON this writer produces plus insignificant whitespace;
+ * unknown fields are ignored.
+ */
+final class NdjsonCodec implements RecordCodec {
+
+    @Override
+    public String header() {
+        return null;
+    }
+
+    @Override
+    public void write(Employee emp, StringBuilder out) {
+        out.append('{');
+        member(out, "id", emp.getId()).append(',');
+        member(out, "firstName", emp.getFirstName()).append(',');
+        member(out, "lastName", emp.getLastName()).append(',');
+        member(out, "email", emp.getEmail()).append(',');
+        member(out, "department", emp.getDepartment()).append(',');
+        member(out, "position", emp.getPosition()).append(',');
+        out.append("\"salary\":").append(emp.getSalary()).append(',');
+        member(out, "hireDate", emp.getHireDate() == null ? null : emp.getHireDate().toString()).append(',');
+
+        out.append("\"address\":");
+        Address address = emp.getAddress();
+        if (address == null) {
+            out.append("null");
+        } else {
+            out.append('{');
+            member(out, "street", address.getStreet()).append(',');
+            member(out, "city", address.getCity()).append(',');
+            member(out, "state", address.getState()).append(',');
+            member(out, "zipCode", address.getZipCode()).append(',');
+            member(out, "country", address.getCountry()).append('}');
+        }
+        out.append(',');
+
+        out.append("\"paymentInfo\":");
+        PaymentInfo payment = emp.getPaymentInfo();
+        if (payment == null) {
+            out.append("null");
+        } else {
+            out.append('{');
+            member(out, "accountNumber", payment.getAccountNumber()).append(',');
+            member(out, "routingNumber", payment.getRoutingNumber()).append(',');
+            member(out, "bankName", payment.getBankName()).append(',');
+            member(out, "paymentMethod",
+                payment.getPaymentMethod() == null ? null : payment.getPaymentMethod().name()).append('}');
+        }
+        out.append(',');
+
+        member(out, "employmentType",
+            emp.getEmploymentType() == null ? null : emp.getEmploymentType().name()).append(',');
+        out.append("\"skills\":[");
+        List<String> skills = emp.getSharedSkills();
+        for (int i = 0; i < skills.size(); i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            string(out, skills.get(i));
+        }
+        out.append("]}");
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Employee read(String record) {
+        Parser parser = new Parser(record);
+        Object value = parser.value();
+        parser.end();
+        if (!(value instanceof Map)) {
+            throw new IllegalArgumentException("Expected a JSON object");
+        }
+        Map<String, Object> json = (Map<String, Object>) value;
+
+        Address address = null;
+        Map<String, Object> a = (Map<String, Object>) json.get("address");
+        if (a != null) {
+            address = new Address(text(a, "street"), text(a, "city"), text(a, "state"),
+                text(a, "zipCode"), text(a, "country"));
+        }
+        PaymentInfo payment = null;
+        Map<String, Object> p = (Map<String, Object>) json.get("paymentInfo");
+        if (p != null) {
+            String method = text(p, "paymentMethod");
+            payment = new PaymentInfo(text(p, "accountNumber"), text(p, "routingNumber"), text(p, "bankName"),
+                method == null ? null : PaymentMethod.valueOf(method));
+        }
+        String hireDate = text(json, "hireDate");
+        String employmentType = text(json, "employmentType");
+        List<String> skills = new ArrayList<>();
+        Object skillValues = json.get("skills");
+        if (skillValues != null) {
+            for (Object skill : (List<Object>) skillValues) {
+                skills.add((String) skill);
+            }
+        }
+        Object salary = json.get("salary");
+        if (!(salary instanceof Double)) {
+            throw new IllegalArgumentException("Missing or non-numeric salary");
+        }
+        return new Employee(text(json, "id"), text(json, "firstName"), text(json, "lastName"),
+            text(json, "email"), text(json, "department"), text(json, "position"),
+            (Double) salary,
+            hireDate == null ? null : LocalDate.parse(hireDate),
+            address, payment,
+            employmentType == null ? null : EmploymentType.valueOf(employmentType),
+            skills);
+    }
+
+    // JSON strings escape line breaks, so a line is always a whole record.
+    @Override
+    public boolean isIncomplete(CharSequence record) {
+        return false;
+    }
+
+    // JSON strings escape line breaks.
+    @Override
+    public boolean spansLines() {
+        return false;
+    }
+
+    private static String text(Map<String, Object> json, String name) {
+        Object value = json.get(name);
+        if (value != null && !(value instanceof String)) {
+            throw new IllegalArgumentException("Expected a string for " + name);
+        }
+        return (String) value;
+    }
+
+    private static StringBuilder member(StringBuilder out, String name, String value) {
+        out.append('"').append(name).append("\":");
+        if (value == null) {
+            return out.append("null");
+        }
+        return string(out, value);
+    }
+
+    private static StringBuilder string(StringBuilder out, String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        return out.append('"');
+    }
+
+    private static final class Parser {
+        private final String text;
+        private int pos;
+
+        Parser(String text) {
+            this.text = text;
+        }
+
+        Object value() {
+            skipWhitespace();
+            if (pos >= text.length()) {
+                throw error("Unexpected end of record");
+            }
+            char c = text.charAt(pos);
+            switch (c) {
+                case '{':
+                    return object();
+                case '[':
+                    return array();
+                case '"':
+                    return string();
+                case 'n':
+                    return literal("null", null);
+                case 't':
+                    return literal("true", Boolean.TRUE);
+                case 'f':
+                    return literal("false", Boolean.FALSE);
+                default:
+                    return number();
+            }
+        }
+
+        void end() {
+            skipWhitespace();
+            if (pos != text.length()) {
+                throw error("Trailing characters");
+            }
+        }
+
+        private Map<String, Object> object() {
+            Map<String, Object> members = new LinkedHashMap<>();
+            pos++;
+            skipWhitespace();
+            if (peek() == '}') {
+                pos++;
+                return members;
+            }
+            while (true) {
+                skipWhitespace();
+                if (peek() != '"') {
+                    throw error("Expected a member name");
+                }
+                String name = string();
+                skipWhitespace();
+                expect(':');
+                members.put(name, value());
+                skipWhitespace();
+                if (peek() == ',') {
+                    pos++;
+                } else {
+                    expect('}');
+                    return members;
+                }
+            }
+        }
+
+        private List<Object> array() {
+            List<Object> elements = new ArrayList<>();
+            pos++;
+            skipWhitespace();
+            if (peek() == ']') {
+                pos++;
+                return elements;
+            }
+            while (true) {
+                elements.add(value());
+                skipWhitespace();
+                if (peek() == ',') {
+                    pos++;
+                } else {
+                    expect(']');
+                    return elements;
+                }
+            }
+        }
+
+        private String string() {
+            pos++;
+            StringBuilder value = new StringBuilder();
+            while (true) {
+                if (pos >= text.length()) {
+                    throw error("Unterminated string");
+                }
+                char c = text.charAt(pos++);
+                if (c == '"') {
+                    return value.toString();
+                }
+                if (c != '\\') {
+                    value.append(c);
+                    continue;
+                }
+                if (pos >= text.length()) {
+                    throw error("Unterminated escape");
+                }
+                char escaped = text.charAt(pos++);
+                switch (escaped) {
+                    case 'n':
+                        value.append('\n');
+                        break;
+                    case 'r':
+                        value.append('\r');
+                        break;
+                    case 't':
+                        value.append('\t');
+                        break;
+                    case 'b':
+                        value.append('\b');
+                        break;
+                    case 'f':
+                        value.append('\f');
+                        break;
+                    case 'u':
+                        if (pos + 4 > text.length()) {
+                            throw error("Truncated unicode escape");
+                        }
+                        value.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+                        pos += 4;
+                        break;
+                    default:
+                        value.append(escaped);
+                }
+            }
+        }
+
+        private Double number() {
+            int start = pos;
+            while (pos < text.length() && "+-0123456789.eE".indexOf(text.charAt(pos)) >= 0) {
+                pos++;
+            }
+            if (start == pos) {
+                throw error("Unexpected character '" + text.charAt(pos) + "'");
+            }
+            return Double.valueOf(text.substring(start, pos));
+        }
+
+        private Object literal(String word, Object value) {
+            if (!text.startsWith(word, pos)) {
+                throw error("Unexpected token");
+            }
+            pos += word.length();
+            return value;
+        }
+
+        private void expect(char c) {
+            if (peek() != c) {
+                throw error("Expected '" + c + "'");
+            }
+            pos++;
+        }
+
+        private char peek() {
+            return pos < text.length() ? text.charAt(pos) : '\0';
+        }
+
+        private void skipWhitespace() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at column " + pos);
+        }
+    }
+}
+
+// Made with Bob
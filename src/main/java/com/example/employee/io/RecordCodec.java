@@ -0,0 +1,35 @@
+package com.example.employee.io;
+
+import com.example.employee.model.Employee;
+
+/**
+ * Converts employees to and from single text records. Implementations are
+ * stateless and thread-safe.
+ */
+interface RecordCodec {
+
+    /** Header line without the line terminator, or {@code null} if the format has none. */
+    String header();
+
+    void write(Employee employee, StringBuilder out);
+
+    /**
+     * @throws IllegalArgumentException if the record is malformed
+     */
+    Employee read(String record);
+
+    /**
+     * Whether {@code record} ends inside a quoted value, so the next line
+     * belongs to the same record.
+     */
+    boolean isIncomplete(CharSequence record);
+
+    /**
+     * Whether a record may continue on the next line, inside a {@code "}-quoted
+     * value with {@code ""} escapes. Split points are then found by tracking
+     * quotes from the start of the input.
+     */
+    boolean spansLines();
+}
+
+// Made with Bob
@@ -0,0 +1,64 @@
+package com.example.employee.io;
+
+import com.example.employee.model.Employee;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.util.Utf8ChannelWriter;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+
+/**
+ * Streams employees out as CSV or NDJSON. Each record is rendered into one
+ * reused builder and encoded through a fixed-size buffer, so memory use does
+ * not grow with the number of employees.
+ */
+public final class WorkforceExporter {
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private WorkforceExporter() {
+    }
+
+    /**
+     * Writes the whole repository to {@code file}, replacing it. Iterates the
+     * live repository without copying it, so employees saved or deleted during
+     * the export may or may not be included.
+     *
+     * @return number of employees written
+     */
+    public static long export(EmployeeRepository repository, Path file, ExchangeFormat format) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            return export(repository.stream().iterator(), channel, format);
+        }
+    }
+
+    /**
+     * @return number of employees written
+     */
+    public static long export(Iterator<Employee> employees, WritableByteChannel channel,
+                              ExchangeFormat format) throws IOException {
+        RecordCodec codec = format.codec();
+        Utf8ChannelWriter writer = new Utf8ChannelWriter(channel, BUFFER_SIZE);
+        StringBuilder record = new StringBuilder(512);
+        if (codec.header() != null) {
+            record.append(codec.header()).append('\n');
+            writer.write(record);
+        }
+        long count = 0;
+        while (employees.hasNext()) {
+            record.setLength(0);
+            codec.write(employees.next(), record);
+            record.append('\n');
+            writer.write(record);
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+}
+
+// Made with Bob
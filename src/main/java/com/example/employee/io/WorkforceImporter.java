@@ -0,0 +1,281 @@
+package com.example.employee.io;
+
+import com.example.employee.model.Employee;
+import com.example.employee.repository.EmployeeRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+/**
+ * Streams employees in from CSV or NDJSON in fixed-size batches.
+ *
+ * <p>Input is read through a chunk buffer and parsed one record at a time;
+ * only the current batch is kept, so memory per reader is bounded by the
+ * chunk size plus {@code batchSize} employees. Files can be read in parallel:
+ * each worker takes a byte range and owns every record that starts inside it.
+ * For CSV, where a quoted value may contain a line break, the ranges are first
+ * moved to record starts by one sequential scan that tracks quotes.
+ */
+public final class WorkforceImporter {
+    public static final int DEFAULT_BATCH_SIZE = 4_096;
+
+    private static final int CHUNK_SIZE = 1 << 20;
+    private static final long MIN_SPLIT_SIZE = 64L << 10;
+
+    private WorkforceImporter() {
+    }
+
+    /**
+     * Imports {@code file} into {@code repository} with {@link EmployeeRepository#saveAll}.
+     *
+     * @return number of employees read
+     */
+    public static long importInto(EmployeeRepository repository, Path file, ExchangeFormat format,
+                                  int parallelism) throws IOException {
+        return read(file, format, parallelism, DEFAULT_BATCH_SIZE, repository::saveAll);
+    }
+
+    /**
+     * Reads {@code file} on up to {@code parallelism} threads, handing batches of
+     * at most {@code batchSize} employees to {@code sink}. With more than one
+     * thread, batches arrive concurrently and in no particular order.
+     *
+     * @return number of employees read
+     */
+    public static long read(Path file, ExchangeFormat format, int parallelism, int batchSize,
+                            Consumer<List<Employee>> sink) throws IOException {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        long size;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            size = channel.size();
+        }
+        int splits = (int) Math.max(1, Math.min(parallelism, size / MIN_SPLIT_SIZE));
+        if (splits == 1) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                return read(channel, 0, Long.MAX_VALUE, format, batchSize, sink);
+            }
+        }
+
+        long splitSize = size / splits;
+        long[] starts = new long[splits + 1];
+        for (int i = 0; i < splits; i++) {
+            starts[i] = i * splitSize;
+        }
+        starts[splits] = size;
+        if (format.codec().spansLines()) {
+            alignToRecords(file, starts);
+        }
+        ForkJoinPool pool = new ForkJoinPool(splits);
+        try {
+            List<ForkJoinTask<Long>> tasks = new ArrayList<>(splits);
+            for (int i = 0; i < splits; i++) {
+                long start = starts[i];
+                long end = starts[i + 1];
+                tasks.add(pool.submit(() -> {
+                    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                        return read(channel, start, end, format, batchSize, sink);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+            }
+            long total = 0;
+            for (ForkJoinTask<Long> task : tasks) {
+                try {
+                    total += task.join();
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+            }
+            return total;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // Moves each inner split start to the first record start at or after it; a line
+    // break counts as a record end only outside quotes, tracked from the start of the file.
+    private static void alignToRecords(Path file, long[] starts) throws IOException {
+        int next = 1;
+        int last = starts.length - 1;
+        boolean quoted = false;
+        long offset = 0;
+        ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (next < last && channel.read(buffer) >= 0) {
+                byte[] bytes = buffer.array();
+                for (int i = 0; i < buffer.position() && next < last; i++, offset++) {
+                    if (bytes[i] == '"') {
+                        quoted = !quoted;
+                    } else if (bytes[i] == '\n' && !quoted) {
+                        while (next < last && starts[next] <= offset + 1) {
+                            starts[next++] = offset + 1;
+                        }
+                    }
+                }
+                buffer.clear();
+            }
+        }
+        // No record starts after the last unquoted line break.
+        while (next < last) {
+            starts[next++] = starts[last];
+        }
+    }
+
+    /**
+     * Reads a whole stream sequentially.
+     *
+     * @return number of employees read
+     */
+    public static long read(ReadableByteChannel channel, ExchangeFormat format, int batchSize,
+                            Consumer<List<Employee>> sink) throws IOException {
+        return read(channel, 0, Long.MAX_VALUE, format, batchSize, sink);
+    }
+
+    // Reads the records that start in [start, end); channel must be positioned at 0
+    // unless it is a FileChannel.
+    private static long read(ReadableByteChannel channel, long start, long end, ExchangeFormat format,
+                             int batchSize, Consumer<List<Employee>> sink) throws IOException {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        RecordCodec codec = format.codec();
+        LineReader lines = new LineReader(channel, start > 0 ? start - 1 : 0);
+        if (start > 0) {
+            // The previous split owns the record that straddles our start.
+            lines.nextLine();
+        } else if (codec.header() != null) {
+            String header = lines.nextLine();
+            if (header != null && !stripCarriageReturn(header).equals(codec.header())) {
+                throw new IOException("Unexpected header: " + header);
+            }
+        }
+
+        List<Employee> batch = new ArrayList<>(batchSize);
+        StringBuilder record = new StringBuilder(512);
+        long count = 0;
+        while (lines.offset() < end) {
+            long recordOffset = lines.offset();
+            String line = lines.nextLine();
+            if (line == null) {
+                break;
+            }
+            if (line.isEmpty() || line.equals("\r")) {
+                continue;
+            }
+            record.setLength(0);
+            record.append(line);
+            while (codec.isIncomplete(record)) {
+                String continuation = lines.nextLine();
+                if (continuation == null) {
+                    throw new IOException("Unterminated record at byte " + recordOffset);
+                }
+                record.append('\n').append(continuation);
+            }
+            if (record.charAt(record.length() - 1) == '\r') {
+                record.setLength(record.length() - 1);
+            }
+            try {
+                batch.add(codec.read(record.toString()));
+            } catch (RuntimeException e) {
+                throw new IOException("Malformed record at byte " + recordOffset + ": " + e.getMessage(), e);
+            }
+            count++;
+            if (batch.size() == batchSize) {
+                sink.accept(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            sink.accept(batch);
+        }
+        return count;
+    }
+
+    private static String stripCarriageReturn(String line) {
+        return line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+    }
+
+    /**
+     * Splits a byte stream into lines at {@code '\n'}, which never occurs inside
+     * a multi-byte UTF-8 sequence. A {@code '\r'} before the break is kept, since
+     * it may belong to a quoted value; callers strip it from whole records.
+     */
+    private static final class LineReader {
+        private final ReadableByteChannel channel;
+        private ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+        private long offset;
+        private boolean eof;
+
+        LineReader(ReadableByteChannel channel, long offset) throws IOException {
+            this.channel = channel;
+            this.offset = offset;
+            if (channel instanceof FileChannel) {
+                ((FileChannel) channel).position(offset);
+            }
+            buffer.flip();
+        }
+
+        /** Byte offset of the next line. */
+        long offset() {
+            return offset;
+        }
+
+        String nextLine() throws IOException {
+            int scanFrom = buffer.position();
+            while (true) {
+                byte[] bytes = buffer.array();
+                for (int i = scanFrom; i < buffer.limit(); i++) {
+                    if (bytes[i] == '\n') {
+                        return take(i - buffer.position(), 1);
+                    }
+                }
+                scanFrom = buffer.limit();
+                if (eof) {
+                    return buffer.hasRemaining() ? take(buffer.remaining(), 0) : null;
+                }
+                int scanned = scanFrom - buffer.position();
+                fill();
+                scanFrom = buffer.position() + scanned;
+            }
+        }
+
+        private String take(int length, int terminator) {
+            int from = buffer.position();
+            String line = new String(buffer.array(), from, length, StandardCharsets.UTF_8);
+            buffer.position(from + length + terminator);
+            offset += length + terminator;
+            return line;
+        }
+
+        private void fill() throws IOException {
+            buffer.compact();
+            if (!buffer.hasRemaining()) {
+                // A single line longer than the buffer: grow it.
+                ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+                buffer.flip();
+                larger.put(buffer);
+                buffer = larger;
+            }
+            if (channel.read(buffer) < 0) {
+                eof = true;
+            }
+            buffer.flip();
+        }
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,28 @@
+package com.example.employee.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonic event count backed by a striped {@link LongAdder}, so concurrent
+ * increments from many threads do not contend on one cache line.
+ */
+public final class Counter {
+    private final LongAdder count = new LongAdder();
+
+    Counter() {
+    }
+
+    public void increment() {
+        count.increment();
+    }
+
+    public void add(long amount) {
+        count.add(amount);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,104 @@
+package com.example.employee.metrics;
+
+import com.example.employee.exception.EmployeeNotFoundException;
+import com.example.employee.model.Employee;
+import com.example.employee.repository.AuditLog;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.repository.InMemoryAuditLog;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@link EmployeeRepository} that times its lookups and writes into a
+ * {@link MetricsRegistry} under {@code repository.*}.
+ */
+public class InstrumentedEmployeeRepository extends EmployeeRepository {
+    private final Timer findById;
+    private final Counter findByIdMisses;
+    private final Timer findAll;
+    private final Timer findByDepartment;
+    private final Timer save;
+    private final Timer saveAll;
+    private final Timer delete;
+
+    public InstrumentedEmployeeRepository(MetricsRegistry metrics) {
+        this(metrics, new InMemoryAuditLog(), true);
+    }
+
+    public InstrumentedEmployeeRepository(MetricsRegistry metrics, AuditLog auditLog, boolean withSampleData) {
+        super(auditLog, withSampleData);
+        this.findById = metrics.timer("repository.findById");
+        this.findByIdMisses = metrics.counter("repository.findById.notFound");
+        this.findAll = metrics.timer("repository.findAll");
+        this.findByDepartment = metrics.timer("repository.findByDepartment");
+        this.save = metrics.timer("repository.save");
+        this.saveAll = metrics.timer("repository.saveAll");
+        this.delete = metrics.timer("repository.delete");
+    }
+
+    @Override
+    public Employee findById(String id) throws EmployeeNotFoundException {
+        long start = findById.start();
+        try {
+            return super.findById(id);
+        } catch (EmployeeNotFoundException e) {
+            findByIdMisses.increment();
+            throw e;
+        } finally {
+            findById.stop(start);
+        }
+    }
+
+    @Override
+    public List<Employee> findAll() {
+        long start = findAll.start();
+        try {
+            return super.findAll();
+        } finally {
+            findAll.stop(start);
+        }
+    }
+
+    @Override
+    public List<Employee> findByDepartment(String department) {
+        long start = findByDepartment.start();
+        try {
+            return super.findByDepartment(department);
+        } finally {
+            findByDepartment.stop(start);
+        }
+    }
+
+    @Override
+    public void save(Employee employee) {
+        long start = save.start();
+        try {
+            super.save(employee);
+        } finally {
+            save.stop(start);
+        }
+    }
+
+    @Override
+    public int saveAll(Collection<Employee> batch) {
+        long start = saveAll.start();
+        try {
+            return super.saveAll(batch);
+        } finally {
+            saveAll.stop(start);
+        }
+    }
+
+    @Override
+    public void delete(String id) {
+        long start = delete.start();
+        try {
+            super.delete(id);
+        } finally {
+            delete.stop(start);
+        }
+    }
+}
+
+// Made with Bob
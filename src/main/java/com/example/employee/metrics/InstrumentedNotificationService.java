@@ -0,0 +1,72 @@
+package com.example.employee.metrics;
+
+import com.example.employee.model.Employee;
+import com.example.employee.service.DispatchOptions;
+import com.example.employee.service.DispatchResult;
+import com.example.employee.service.MailSink;
+import com.example.employee.service.NotificationService;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * {@link NotificationService} that times dispatch runs into a
+ * {@link MetricsRegistry} under {@code notification.*}. Asynchronous runs are
+ * timed until their future completes and also count delivered and failed emails.
+ */
+public class InstrumentedNotificationService extends NotificationService {
+    private final Timer sendPayrollNotifications;
+    private final Timer sendPayrollNotificationsAsync;
+    private final Counter sent;
+    private final Counter failed;
+
+    public InstrumentedNotificationService(MetricsRegistry metrics) {
+        super();
+        this.sendPayrollNotifications = metrics.timer("notification.sendPayrollNotifications");
+        this.sendPayrollNotificationsAsync = metrics.timer("notification.sendPayrollNotificationsAsync");
+        this.sent = metrics.counter("notification.sent");
+        this.failed = metrics.counter("notification.failed");
+    }
+
+    public InstrumentedNotificationService(MailSink mailSink, MetricsRegistry metrics) {
+        super(mailSink);
+        this.sendPayrollNotifications = metrics.timer("notification.sendPayrollNotifications");
+        this.sendPayrollNotificationsAsync = metrics.timer("notification.sendPayrollNotificationsAsync");
+        this.sent = metrics.counter("notification.sent");
+        this.failed = metrics.counter("notification.failed");
+    }
+
+    public InstrumentedNotificationService(MailSink mailSink, ExecutorService executor, MetricsRegistry metrics) {
+        super(mailSink, executor);
+        this.sendPayrollNotifications = metrics.timer("notification.sendPayrollNotifications");
+        this.sendPayrollNotificationsAsync = metrics.timer("notification.sendPayrollNotificationsAsync");
+        this.sent = metrics.counter("notification.sent");
+        this.failed = metrics.counter("notification.failed");
+    }
+
+    @Override
+    public void sendPayrollNotifications(List<Employee> employees) {
+        long start = sendPayrollNotifications.start();
+        try {
+            super.sendPayrollNotifications(employees);
+        } finally {
+            sendPayrollNotifications.stop(start);
+        }
+    }
+
+    @Override
+    public CompletableFuture<DispatchResult> sendPayrollNotificationsAsync(List<Employee> employees,
+                                                                           DispatchOptions options) {
+        long start = sendPayrollNotificationsAsync.start();
+        return super.sendPayrollNotificationsAsync(employees, options).whenComplete((result, error) -> {
+            sendPayrollNotificationsAsync.stop(start);
+            if (result != null) {
+                sent.add(result.getSucceeded());
+                failed.add(result.getFailed());
+            }
+        });
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,84 @@
+package com.example.employee.metrics;
+
+import com.example.employee.exception.EmployeeNotFoundException;
+import com.example.employee.model.PayrollSummary;
+import com.example.employee.model.PayrollTotals;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.service.PayrollService;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * {@link PayrollService} that times paystubs, bonuses and payroll runs into a
+ * {@link MetricsRegistry} under {@code payroll.*}. Per-employee pay
+ * calculation is left untimed: it costs about as much as reading the clock.
+ */
+public class InstrumentedPayrollService extends PayrollService {
+    private final Timer generatePaystub;
+    private final Timer calculateBonus;
+    private final Timer calculatePayrollTotals;
+    private final Timer runPayroll;
+    private final Timer writePaystubs;
+
+    public InstrumentedPayrollService(EmployeeRepository repository, MetricsRegistry metrics) {
+        super(repository);
+        this.generatePaystub = metrics.timer("payroll.generatePaystub");
+        this.calculateBonus = metrics.timer("payroll.calculateBonus");
+        this.calculatePayrollTotals = metrics.timer("payroll.calculatePayrollTotals");
+        this.runPayroll = metrics.timer("payroll.runPayroll");
+        this.writePaystubs = metrics.timer("payroll.writePaystubs");
+    }
+
+    @Override
+    public String generatePaystub(String employeeId) throws EmployeeNotFoundException {
+        long start = generatePaystub.start();
+        try {
+            return super.generatePaystub(employeeId);
+        } finally {
+            generatePaystub.stop(start);
+        }
+    }
+
+    @Override
+    public double calculateBonus(String employeeId) throws EmployeeNotFoundException {
+        long start = calculateBonus.start();
+        try {
+            return super.calculateBonus(employeeId);
+        } finally {
+            calculateBonus.stop(start);
+        }
+    }
+
+    @Override
+    public PayrollTotals calculatePayrollTotals() {
+        long start = calculatePayrollTotals.start();
+        try {
+            return super.calculatePayrollTotals();
+        } finally {
+            calculatePayrollTotals.stop(start);
+        }
+    }
+
+    @Override
+    public PayrollSummary runPayroll(int parallelism, PaystubSink sink) {
+        long start = runPayroll.start();
+        try {
+            return super.runPayroll(parallelism, sink);
+        } finally {
+            runPayroll.stop(start);
+        }
+    }
+
+    @Override
+    public PayrollSummary writePaystubs(WritableByteChannel channel) throws IOException {
+        long start = writePaystubs.start();
+        try {
+            return super.writePaystubs(channel);
+        } finally {
+            writePaystubs.stop(start);
+        }
+    }
+}
+
+// Made with Bob
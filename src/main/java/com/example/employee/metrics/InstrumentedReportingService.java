@@ -0,0 +1,57 @@
+package com.example.employee.metrics;
+
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.service.PayrollService;
+import com.example.employee.service.ReportingService;
+
+import java.util.List;
+
+/**
+ * {@link ReportingService} that times its reports into a
+ * {@link MetricsRegistry} under {@code reporting.*}.
+ */
+public class InstrumentedReportingService extends ReportingService {
+    private final Timer generateDepartmentReport;
+    private final Timer generateCompanyReport;
+    private final Timer getEmployeeSummaries;
+
+    public InstrumentedReportingService(EmployeeRepository repository, PayrollService payrollService,
+                                        MetricsRegistry metrics) {
+        super(repository, payrollService);
+        this.generateDepartmentReport = metrics.timer("reporting.generateDepartmentReport");
+        this.generateCompanyReport = metrics.timer("reporting.generateCompanyReport");
+        this.getEmployeeSummaries = metrics.timer("reporting.getEmployeeSummaries");
+    }
+
+    @Override
+    public String generateDepartmentReport(String department) {
+        long start = generateDepartmentReport.start();
+        try {
+            return super.generateDepartmentReport(department);
+        } finally {
+            generateDepartmentReport.stop(start);
+        }
+    }
+
+    @Override
+    public String generateCompanyReport() {
+        long start = generateCompanyReport.start();
+        try {
+            return super.generateCompanyReport();
+        } finally {
+            generateCompanyReport.stop(start);
+        }
+    }
+
+    @Override
+    public List<String> getEmployeeSummaries() {
+        long start = getEmployeeSummaries.start();
+        try {
+            return super.getEmployeeSummaries();
+        } finally {
+            getEmployeeSummaries.stop(start);
+        }
+    }
+}
+
+// Made with Bob
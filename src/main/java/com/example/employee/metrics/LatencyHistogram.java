@@ -0,0 +1,150 @@
+package com.example.employee.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Log-linear histogram of non-negative {@code long} values, in the style of
+ * HdrHistogram: every power of two is split into 32 linear sub-buckets, so a
+ * reported percentile is within about 3% of the true value over the whole
+ * {@code long} range, in a fixed 1,888 buckets.
+ *
+ * <p>Recording is wait-free: a thread increments one slot of its stripe of
+ * the bucket array, chosen by thread id, so threads on different stripes never
+ * share a cache line. Snapshots sum the stripes without stopping writers and
+ * may miss values recorded concurrently.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int BUCKETS = bucketOf(Long.MAX_VALUE) + 1;
+    private static final int MAX_STRIPES = 8;
+
+    private final AtomicLongArray[] stripes;
+    private final int stripeMask;
+    private final LongAdder total = new LongAdder();
+
+    public LatencyHistogram() {
+        int stripeCount = 1;
+        while (stripeCount < MAX_STRIPES && stripeCount < Runtime.getRuntime().availableProcessors()) {
+            stripeCount <<= 1;
+        }
+        stripes = new AtomicLongArray[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new AtomicLongArray(BUCKETS);
+        }
+        stripeMask = stripeCount - 1;
+    }
+
+    /**
+     * Records one value; negative values are recorded as zero.
+     */
+    public void record(long value) {
+        long clamped = Math.max(value, 0);
+        stripes[(int) Thread.currentThread().getId() & stripeMask].getAndIncrement(bucketOf(clamped));
+        total.add(clamped);
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] += stripe.get(i);
+            }
+        }
+        return new Snapshot(counts, total.sum());
+    }
+
+    static int bucketOf(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - 1 - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    /** Largest value that falls into {@code bucket}. */
+    static long highestValueIn(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long subBucket = bucket - (long) shift * SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * Point-in-time bucket counts.
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long total;
+        private final int lowest;
+        private final int highest;
+
+        Snapshot(long[] counts, long total) {
+            long sum = 0;
+            int low = -1;
+            int high = -1;
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] != 0) {
+                    sum += counts[i];
+                    low = low < 0 ? i : low;
+                    high = i;
+                }
+            }
+            this.counts = counts;
+            this.count = sum;
+            this.total = total;
+            this.lowest = low;
+            this.highest = high;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public double getMean() {
+            return count == 0 ? 0 : (double) total / count;
+        }
+
+        /** Upper bound of the lowest populated bucket, or 0 when empty. */
+        public long getMin() {
+            return lowest < 0 ? 0 : highestValueIn(lowest);
+        }
+
+        /** Upper bound of the highest populated bucket, or 0 when empty. */
+        public long getMax() {
+            return highest < 0 ? 0 : highestValueIn(highest);
+        }
+
+        /**
+         * Smallest bucket bound at or below which {@code percentile} percent of the
+         * recorded values fall, or 0 when empty.
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("percentile must be in [0, 100]: " + percentile);
+            }
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int i = lowest; i <= highest; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return highestValueIn(i);
+                }
+            }
+            return highestValueIn(highest);
+        }
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,32 @@
+package com.example.employee.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Named timers and counters. Look a metric up once and keep the reference;
+ * the lookup itself is a hash map probe and does not belong on a hot path.
+ */
+public class MetricsRegistry {
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public Timer timer(String name) {
+        return timers.computeIfAbsent(name, key -> new Timer());
+    }
+
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, key -> new Counter());
+    }
+
+    public MetricsSnapshot snapshot() {
+        Map<String, LatencyHistogram.Snapshot> timerSnapshots = new TreeMap<>();
+        timers.forEach((name, timer) -> timerSnapshots.put(name, timer.snapshot()));
+        Map<String, Long> counterValues = new TreeMap<>();
+        counters.forEach((name, counter) -> counterValues.put(name, counter.getCount()));
+        return new MetricsSnapshot(timerSnapshots, counterValues);
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,101 @@
+package com.example.employee.metrics;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Values of every metric in a {@link MetricsRegistry} at one point, sorted by
+ * name. Latencies are exported in microseconds.
+ */
+public class MetricsSnapshot {
+    private final Map<String, LatencyHistogram.Snapshot> timers;
+    private final Map<String, Long> counters;
+
+    MetricsSnapshot(Map<String, LatencyHistogram.Snapshot> timers, Map<String, Long> counters) {
+        this.timers = Collections.unmodifiableMap(timers);
+        this.counters = Collections.unmodifiableMap(counters);
+    }
+
+    public Map<String, LatencyHistogram.Snapshot> getTimers() {
+        return timers;
+    }
+
+    public Map<String, Long> getCounters() {
+        return counters;
+    }
+
+    /**
+     * One line per metric, e.g.
+     * {@code repository.findById count=120 mean=0.41us p50=0.38us p99=1.10us p999=7.94us max=12.2us}.
+     */
+    public String toText() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, LatencyHistogram.Snapshot> entry : timers.entrySet()) {
+            LatencyHistogram.Snapshot s = entry.getValue();
+            sb.append(entry.getKey())
+              .append(" count=").append(s.getCount())
+              .append(" mean=").append(micros(s.getMean())).append("us")
+              .append(" p50=").append(micros(s.getValueAtPercentile(50))).append("us")
+              .append(" p99=").append(micros(s.getValueAtPercentile(99))).append("us")
+              .append(" p999=").append(micros(s.getValueAtPercentile(99.9))).append("us")
+              .append(" max=").append(micros(s.getMax())).append("us\n");
+        }
+        for (Map.Entry<String, Long> entry : counters.entrySet()) {
+            sb.append(entry.getKey()).append(" count=").append(entry.getValue()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * {@code {"timers":{"<name>":{"count":..,"meanUs":..,"p50Us":..,"p99Us":..,"p999Us":..,"maxUs":..}},"counters":{"<name>":..}}}
+     */
+    public String toJson() {
+        StringBuilder sb = new StringBuilder("{\"timers\":{");
+        boolean first = true;
+        for (Map.Entry<String, LatencyHistogram.Snapshot> entry : timers.entrySet()) {
+            LatencyHistogram.Snapshot s = entry.getValue();
+            if (!first) {
+                sb.append(',');
+            }
+            first = false;
+            appendName(sb, entry.getKey());
+            sb.append("{\"count\":").append(s.getCount())
+              .append(",\"meanUs\":").append(micros(s.getMean()))
+              .append(",\"p50Us\":").append(micros(s.getValueAtPercentile(50)))
+              .append(",\"p99Us\":").append(micros(s.getValueAtPercentile(99)))
+              .append(",\"p999Us\":").append(micros(s.getValueAtPercentile(99.9)))
+              .append(",\"maxUs\":").append(micros(s.getMax()))
+              .append('}');
+        }
+        sb.append("},\"counters\":{");
+        first = true;
+        for (Map.Entry<String, Long> entry : counters.entrySet()) {
+            if (!first) {
+                sb.append(',');
+            }
+            first = false;
+            appendName(sb, entry.getKey());
+            sb.append(entry.getValue());
+        }
+        return sb.append("}}").toString();
+    }
+
+    private static String micros(double nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1000);
+    }
+
+    private static void appendName(StringBuilder sb, String name) {
+        sb.append('"');
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+        sb.append("\":");
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,38 @@
+package com.example.employee.metrics;
+
+/**
+ * Call count and latency distribution of one operation, in nanoseconds.
+ *
+ * <pre>
+ *   long start = timer.start();
+ *   try {
+ *       ...
+ *   } finally {
+ *       timer.stop(start);
+ *   }
+ * </pre>
+ */
+public final class Timer {
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    Timer() {
+    }
+
+    public long start() {
+        return System.nanoTime();
+    }
+
+    public void stop(long start) {
+        histogram.record(System.nanoTime() - start);
+    }
+
+    public void record(long nanos) {
+        histogram.record(nanos);
+    }
+
+    public LatencyHistogram.Snapshot snapshot() {
+        return histogram.snapshot();
+    }
+}
+
+// Made with Bob
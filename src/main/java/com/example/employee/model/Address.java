@@ -11,10 +11,10 @@ public class Address {
     
     public Address(String street, String city, String state, String zipCode, String country) {
         this.street = street;
-        this.city = city;
-        this.state = state;
+        this.city = Compaction.value(city);
+        this.state = Compaction.value(state);
         this.zipCode = zipCode;
-        this.country = country;
+        this.country = Compaction.value(country);
     }
     
     public String getStreet() { return street; }
@@ -0,0 +1,46 @@
+package com.example.employee.model;
+
+import com.example.employee.util.Interner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compact storage of model fields. Low-cardinality strings (department,
+ * position, city, state, country, bank) are interned into a shared dictionary
+ * and identical skill sets share one immutable list, so a large workforce
+ * holds each distinct value once. Enabled unless the {@code employee.compact}
+ * system property is {@code false}; skills are stored as an immutable list
+ * either way.
+ */
+final class Compaction {
+    static final boolean ENABLED = !"false".equalsIgnoreCase(System.getProperty("employee.compact"));
+
+    private static final int MAX_POOLED = 1 << 16;
+    private static final Interner<String> STRINGS = new Interner<>(MAX_POOLED);
+    private static final Interner<List<String>> SKILL_SETS = new Interner<>(MAX_POOLED);
+
+    private Compaction() {
+    }
+
+    static String value(String value) {
+        return ENABLED ? STRINGS.intern(value) : value;
+    }
+
+    static List<String> skills(List<String> skills) {
+        if (skills.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String[] copy = skills.toArray(new String[0]);
+        if (!ENABLED) {
+            return Collections.unmodifiableList(Arrays.asList(copy));
+        }
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = STRINGS.intern(copy[i]);
+        }
+        return SKILL_SETS.intern(Collections.unmodifiableList(Arrays.asList(copy)));
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,65 @@
+package com.example.employee.model;
+
+import java.util.Arrays;
+
+/**
+ * Point-in-time salary statistics for one department.
+ */
+public class DepartmentStats {
+    private final String department;
+    private final int employeeCount;
+    private final double totalSalary;
+    private final double minSalary;
+    private final double maxSalary;
+    private final double histogramBucketWidth;
+    private final int[] salaryHistogram;
+    
+    public DepartmentStats(String department, int employeeCount, double totalSalary,
+                           double minSalary, double maxSalary,
+                           double histogramBucketWidth, int[] salaryHistogram) {
+        this.department = department;
+        this.employeeCount = employeeCount;
+        this.totalSalary = totalSalary;
+        this.minSalary = minSalary;
+        this.maxSalary = maxSalary;
+        this.histogramBucketWidth = histogramBucketWidth;
+        this.salaryHistogram = salaryHistogram.clone();
+    }
+    
+    public static DepartmentStats empty(String department) {
+        return new DepartmentStats(department, 0, 0.0, 0.0, 0.0, 0.0, new int[0]);
+    }
+    
+    public String getDepartment() { return department; }
+    public int getEmployeeCount() { return employeeCount; }
+    public double getTotalSalary() { return totalSalary; }
+    public double getMinSalary() { return minSalary; }
+    public double getMaxSalary() { return maxSalary; }
+    public double getHistogramBucketWidth() { return histogramBucketWidth; }
+    
+    public double getAverageSalary() {
+        return employeeCount == 0 ? 0.0 : totalSalary / employeeCount;
+    }
+    
+    /**
+     * Employee counts per salary bucket; bucket {@code i} covers
+     * {@code [i * width, (i + 1) * width)} and the last bucket is open-ended.
+     */
+    public int[] getSalaryHistogram() {
+        return salaryHistogram.clone();
+    }
+    
+    @Override
+    public String toString() {
+        return "DepartmentStats{" +
+               "department='" + department + '\'' +
+               ", employeeCount=" + employeeCount +
+               ", totalSalary=" + totalSalary +
+               ", minSalary=" + minSalary +
+               ", maxSalary=" + maxSalary +
+               ", salaryHistogram=" + Arrays.toString(salaryHistogram) +
+               '}';
+    }
+}
+
+// Made with Bob
@@ -28,14 +28,14 @@ public class Employee {
         this.firstName = firstName;
         this.lastName = lastName;
         this.email = email;
-        this.department = department;
-        this.position = position;
+        this.department = Compaction.value(department);
+        this.position = Compaction.value(position);
         this.salary = salary;
         this.hireDate = hireDate;
         this.address = address;
         this.paymentInfo = paymentInfo;
         this.employmentType = employmentType;
-        this.skills = new ArrayList<>(skills);
+        this.skills = Compaction.skills(skills);
     }
     
     // 12 getters...
@@ -50,7 +50,16 @@ public class Employee {
     public Address getAddress() { return address; }
     public PaymentInfo getPaymentInfo() { return paymentInfo; }
     public EmploymentType getEmploymentType() { return employmentType; }
+    /** A modifiable copy; see {@link #getSharedSkills()} to read without copying. */
     public List<String> getSkills() { return new ArrayList<>(skills); }
+    /** Unmodifiable; may be shared with other employees that have the same skills. */
+    public List<String> getSharedSkills() { return skills; }
+    
+    /** Copy of this employee with a different salary. */
+    public Employee withSalary(double newSalary) {
+        return new Employee(id, firstName, lastName, email, department, position, newSalary,
+            hireDate, address, paymentInfo, employmentType, skills);
+    }
     
     public String getFullName() {
         return firstName + " " + lastName;
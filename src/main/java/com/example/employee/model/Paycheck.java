@@ -0,0 +1,32 @@
+package com.example.employee.model;
+
+/**
+ * Monthly pay breakdown for a single employee.
+ */
+public class Paycheck {
+    private final String employeeId;
+    private final double grossPay;
+    private final double taxes;
+    private final double healthInsurance;
+    private final double retirement;
+    private final double netPay;
+    
+    public Paycheck(String employeeId, double grossPay, double taxes,
+                    double healthInsurance, double retirement, double netPay) {
+        this.employeeId = employeeId;
+        this.grossPay = grossPay;
+        this.taxes = taxes;
+        this.healthInsurance = healthInsurance;
+        this.retirement = retirement;
+        this.netPay = netPay;
+    }
+    
+    public String getEmployeeId() { return employeeId; }
+    public double getGrossPay() { return grossPay; }
+    public double getTaxes() { return taxes; }
+    public double getHealthInsurance() { return healthInsurance; }
+    public double getRetirement() { return retirement; }
+    public double getNetPay() { return netPay; }
+}
+
+// Made with Bob
@@ -13,7 +13,7 @@ public class PaymentInfo {
                       String bankName, PaymentMethod paymentMethod) {
         this.accountNumber = accountNumber;
         this.routingNumber = routingNumber;
-        this.bankName = bankName;
+        this.bankName = Compaction.value(bankName);
         this.paymentMethod = paymentMethod;
     }
     
@@ -0,0 +1,57 @@
+package com.example.employee.model;
+
+import com.example.employee.util.Cents;
+
+/**
+ * Deduction rates used to turn salaries into pay: a tax rate and a retirement
+ * contribution as fractions of gross pay, and a flat monthly health insurance
+ * premium. Amounts are also kept in basis points and cents for exact totals.
+ */
+public final class PayrollRates {
+    private final double taxRate;
+    private final double healthInsurance;
+    private final double retirementPercent;
+    private final long taxRateBasisPoints;
+    private final long healthInsuranceCents;
+    private final long retirementBasisPoints;
+
+    public PayrollRates(double taxRate, double healthInsurance, double retirementPercent) {
+        if (taxRate < 0 || retirementPercent < 0 || healthInsurance < 0) {
+            throw new IllegalArgumentException("Payroll rates must not be negative");
+        }
+        this.taxRate = taxRate;
+        this.healthInsurance = healthInsurance;
+        this.retirementPercent = retirementPercent;
+        this.taxRateBasisPoints = Cents.basisPoints(taxRate);
+        this.healthInsuranceCents = Cents.of(healthInsurance);
+        this.retirementBasisPoints = Cents.basisPoints(retirementPercent);
+    }
+
+    public double getTaxRate() { return taxRate; }
+    public double getHealthInsurance() { return healthInsurance; }
+    public double getRetirementPercent() { return retirementPercent; }
+    public long getTaxRateBasisPoints() { return taxRateBasisPoints; }
+    public long getHealthInsuranceCents() { return healthInsuranceCents; }
+    public long getRetirementBasisPoints() { return retirementBasisPoints; }
+
+    public PayrollRates withTaxRate(double rate) {
+        return new PayrollRates(rate, healthInsurance, retirementPercent);
+    }
+
+    public PayrollRates withHealthInsurance(double monthlyPremium) {
+        return new PayrollRates(taxRate, monthlyPremium, retirementPercent);
+    }
+
+    public PayrollRates withRetirementPercent(double rate) {
+        return new PayrollRates(taxRate, healthInsurance, rate);
+    }
+
+    @Override
+    public String toString() {
+        return "PayrollRates{taxRate=" + taxRate +
+               ", healthInsurance=" + healthInsurance +
+               ", retirementPercent=" + retirementPercent + '}';
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,53 @@
+package com.example.employee.model;
+
+/**
+ * Aggregate totals of a payroll run. Instances are mutable accumulators while
+ * the run is in progress and should be treated as read-only afterwards.
+ */
+public class PayrollSummary {
+    private long employeeCount;
+    private double totalGrossPay;
+    private double totalTaxes;
+    private double totalHealthInsurance;
+    private double totalRetirement;
+    private double totalNetPay;
+    
+    public void add(Paycheck paycheck) {
+        employeeCount++;
+        totalGrossPay += paycheck.getGrossPay();
+        totalTaxes += paycheck.getTaxes();
+        totalHealthInsurance += paycheck.getHealthInsurance();
+        totalRetirement += paycheck.getRetirement();
+        totalNetPay += paycheck.getNetPay();
+    }
+    
+    public void combine(PayrollSummary other) {
+        employeeCount += other.employeeCount;
+        totalGrossPay += other.totalGrossPay;
+        totalTaxes += other.totalTaxes;
+        totalHealthInsurance += other.totalHealthInsurance;
+        totalRetirement += other.totalRetirement;
+        totalNetPay += other.totalNetPay;
+    }
+    
+    public long getEmployeeCount() { return employeeCount; }
+    public double getTotalGrossPay() { return totalGrossPay; }
+    public double getTotalTaxes() { return totalTaxes; }
+    public double getTotalHealthInsurance() { return totalHealthInsurance; }
+    public double getTotalRetirement() { return totalRetirement; }
+    public double getTotalNetPay() { return totalNetPay; }
+    
+    @Override
+    public String toString() {
+        return "PayrollSummary{" +
+               "employeeCount=" + employeeCount +
+               ", totalGrossPay=" + totalGrossPay +
+               ", totalTaxes=" + totalTaxes +
+               ", totalHealthInsurance=" + totalHealthInsurance +
+               ", totalRetirement=" + totalRetirement +
+               ", totalNetPay=" + totalNetPay +
+               '}';
+    }
+}
+
+// Made with Bob
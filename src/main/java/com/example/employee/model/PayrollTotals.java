@@ -0,0 +1,56 @@
+package com.example.employee.model;
+
+import com.example.employee.util.MoneyFormat;
+
+/**
+ * Exact payroll totals in whole cents. Like {@link PayrollSummary} this is a
+ * mutable accumulator while a run is in progress, but sums never drift because
+ * every amount is a {@code long}.
+ */
+public class PayrollTotals {
+    private long employeeCount;
+    private long grossPayCents;
+    private long taxesCents;
+    private long healthInsuranceCents;
+    private long retirementCents;
+    private long netPayCents;
+    
+    public void add(long grossPay, long taxes, long healthInsurance, long retirement, long netPay) {
+        employeeCount++;
+        grossPayCents = Math.addExact(grossPayCents, grossPay);
+        taxesCents = Math.addExact(taxesCents, taxes);
+        healthInsuranceCents = Math.addExact(healthInsuranceCents, healthInsurance);
+        retirementCents = Math.addExact(retirementCents, retirement);
+        netPayCents = Math.addExact(netPayCents, netPay);
+    }
+    
+    public void combine(PayrollTotals other) {
+        employeeCount += other.employeeCount;
+        grossPayCents = Math.addExact(grossPayCents, other.grossPayCents);
+        taxesCents = Math.addExact(taxesCents, other.taxesCents);
+        healthInsuranceCents = Math.addExact(healthInsuranceCents, other.healthInsuranceCents);
+        retirementCents = Math.addExact(retirementCents, other.retirementCents);
+        netPayCents = Math.addExact(netPayCents, other.netPayCents);
+    }
+    
+    public long getEmployeeCount() { return employeeCount; }
+    public long getGrossPayCents() { return grossPayCents; }
+    public long getTaxesCents() { return taxesCents; }
+    public long getHealthInsuranceCents() { return healthInsuranceCents; }
+    public long getRetirementCents() { return retirementCents; }
+    public long getNetPayCents() { return netPayCents; }
+    
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder(160);
+        out.append("PayrollTotals{employeeCount=").append(employeeCount);
+        MoneyFormat.appendCents(out.append(", grossPay="), grossPayCents);
+        MoneyFormat.appendCents(out.append(", taxes="), taxesCents);
+        MoneyFormat.appendCents(out.append(", healthInsurance="), healthInsuranceCents);
+        MoneyFormat.appendCents(out.append(", retirement="), retirementCents);
+        MoneyFormat.appendCents(out.append(", netPay="), netPayCents);
+        return out.append('}').toString();
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,175 @@
+package com.example.employee.persistence;
+
+import com.example.employee.model.Address;
+import com.example.employee.model.Employee;
+import com.example.employee.model.PaymentInfo;
+import com.example.employee.model.PerformanceReview;
+import com.example.employee.model.enums.EmploymentType;
+import com.example.employee.model.enums.PaymentMethod;
+import com.example.employee.model.enums.ReviewType;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compact big-endian binary encoding of employees and reviews shared by the
+ * write-ahead log and snapshots. Encoding goes through {@link DataOutput};
+ * decoding reads a {@link ByteBuffer} so it can run directly on mapped files.
+ *
+ * <p>Strings are an int byte length (-1 for null) followed by UTF-8 bytes,
+ * dates are epoch days ({@link Long#MIN_VALUE} for null) and enums are
+ * ordinal bytes (-1 for null).
+ */
+final class EmployeeCodec {
+    private static final long NULL_DATE = Long.MIN_VALUE;
+
+    private EmployeeCodec() {
+    }
+
+    static void writeEmployee(DataOutput out, Employee emp) throws IOException {
+        writeString(out, emp.getId());
+        writeString(out, emp.getFirstName());
+        writeString(out, emp.getLastName());
+        writeString(out, emp.getEmail());
+        writeString(out, emp.getDepartment());
+        writeString(out, emp.getPosition());
+        out.writeDouble(emp.getSalary());
+        writeDate(out, emp.getHireDate());
+
+        Address address = emp.getAddress();
+        out.writeBoolean(address != null);
+        if (address != null) {
+            writeString(out, address.getStreet());
+            writeString(out, address.getCity());
+            writeString(out, address.getState());
+            writeString(out, address.getZipCode());
+            writeString(out, address.getCountry());
+        }
+
+        PaymentInfo payment = emp.getPaymentInfo();
+        out.writeBoolean(payment != null);
+        if (payment != null) {
+            writeString(out, payment.getAccountNumber());
+            writeString(out, payment.getRoutingNumber());
+            writeString(out, payment.getBankName());
+            writeEnum(out, payment.getPaymentMethod());
+        }
+
+        writeEnum(out, emp.getEmploymentType());
+        List<String> skills = emp.getSharedSkills();
+        out.writeInt(skills.size());
+        for (String skill : skills) {
+            writeString(out, skill);
+        }
+    }
+
+    static Employee readEmployee(ByteBuffer in) {
+        String id = readString(in);
+        String firstName = readString(in);
+        String lastName = readString(in);
+        String email = readString(in);
+        String department = readString(in);
+        String position = readString(in);
+        double salary = in.getDouble();
+        LocalDate hireDate = readDate(in);
+
+        Address address = null;
+        if (in.get() != 0) {
+            address = new Address(readString(in), readString(in), readString(in),
+                readString(in), readString(in));
+        }
+
+        PaymentInfo payment = null;
+        if (in.get() != 0) {
+            payment = new PaymentInfo(readString(in), readString(in), readString(in),
+                readEnum(in, PaymentMethod.values()));
+        }
+
+        EmploymentType employmentType = readEnum(in, EmploymentType.values());
+        int skillCount = in.getInt();
+        List<String> skills = new ArrayList<>(skillCount);
+        for (int i = 0; i < skillCount; i++) {
+            skills.add(readString(in));
+        }
+        return new Employee(id, firstName, lastName, email, department, position, salary,
+            hireDate, address, payment, employmentType, skills);
+    }
+
+    static void writeReviews(DataOutput out, List<PerformanceReview> reviews) throws IOException {
+        out.writeInt(reviews.size());
+        for (PerformanceReview review : reviews) {
+            writeString(out, review.getEmployeeId());
+            writeDate(out, review.getReviewDate());
+            out.writeInt(review.getRating());
+            writeString(out, review.getComments());
+            out.writeDouble(review.getBonusPercentage());
+            writeEnum(out, review.getReviewType());
+        }
+    }
+
+    static List<PerformanceReview> readReviews(ByteBuffer in) {
+        int count = in.getInt();
+        if (count == 0) {
+            return Collections.emptyList();
+        }
+        List<PerformanceReview> reviews = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            reviews.add(new PerformanceReview(readString(in), readDate(in), in.getInt(),
+                readString(in), in.getDouble(), readEnum(in, ReviewType.values())));
+        }
+        return reviews;
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        String value;
+        if (in.hasArray()) {
+            value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        } else {
+            byte[] bytes = new byte[length];
+            in.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        in.position(in.position() + length);
+        return value;
+    }
+
+    private static void writeDate(DataOutput out, LocalDate date) throws IOException {
+        out.writeLong(date == null ? NULL_DATE : date.toEpochDay());
+    }
+
+    private static LocalDate readDate(ByteBuffer in) {
+        long epochDay = in.getLong();
+        return epochDay == NULL_DATE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    private static void writeEnum(DataOutput out, Enum<?> value) throws IOException {
+        out.writeByte(value == null ? -1 : value.ordinal());
+    }
+
+    private static <E extends Enum<E>> E readEnum(ByteBuffer in, E[] values) {
+        byte ordinal = in.get();
+        return ordinal < 0 ? null : values[ordinal];
+    }
+}
+
+// Made with Bob
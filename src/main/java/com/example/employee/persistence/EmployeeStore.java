@@ -0,0 +1,259 @@
+package com.example.employee.persistence;
+
+import com.example.employee.model.Employee;
+import com.example.employee.model.PerformanceReview;
+import com.example.employee.repository.AuditLog;
+import com.example.employee.repository.EmployeeChangeListener;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.repository.InMemoryAuditLog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Durable home of an {@link EmployeeRepository}: every save, delete and review
+ * change is appended to a write-ahead log, and {@link #checkpoint()} writes a
+ * compact snapshot so the log can be truncated.
+ *
+ * <p>On {@link #open} the latest snapshot is decoded in parallel and the log
+ * files written after it are replayed on top. Checkpoints are fuzzy: the log
+ * is rotated at a point with no write in flight, then the snapshot is streamed
+ * while writes continue into the new log, which recovery replays afterwards.
+ *
+ * <p>Log records are group-committed: they reach disk at most
+ * {@code syncIntervalMillis} after the write that produced them.
+ */
+public class EmployeeStore implements Closeable {
+    public static final long DEFAULT_SYNC_INTERVAL_MILLIS = 50;
+
+    private final Path directory;
+    private final EmployeeRepository repository;
+    private final WriteAheadLog wal;
+    private final EmployeeChangeListener walWriter;
+    private final ScheduledExecutorService scheduler;
+    private final long recoveredEmployees;
+    private final long recoveryMillis;
+
+    private EmployeeStore(Path directory, EmployeeRepository repository, WriteAheadLog wal,
+                          long syncIntervalMillis, long recoveredEmployees, long recoveryMillis) {
+        this.directory = directory;
+        this.repository = repository;
+        this.wal = wal;
+        this.recoveredEmployees = recoveredEmployees;
+        this.recoveryMillis = recoveryMillis;
+        this.walWriter = new EmployeeChangeListener() {
+            @Override
+            public void onChange(Employee previous, Employee current) {
+                try {
+                    if (current != null) {
+                        wal.appendSave(current);
+                    } else {
+                        wal.appendDelete(previous.getId());
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Could not append to write-ahead log in " + directory, e);
+                }
+            }
+
+            @Override
+            public void onReviewsChange(String employeeId, List<PerformanceReview> reviews) {
+                try {
+                    wal.appendReviews(employeeId, reviews);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Could not append to write-ahead log in " + directory, e);
+                }
+            }
+        };
+        repository.addWriteAheadListener(walWriter);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-store");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::syncQuietly, syncIntervalMillis, syncIntervalMillis,
+            TimeUnit.MILLISECONDS);
+    }
+
+    public static EmployeeStore open(Path directory) throws IOException {
+        return open(directory, new InMemoryAuditLog(), DEFAULT_SYNC_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Recovers the repository stored in {@code directory}, or starts an empty one.
+     */
+    public static EmployeeStore open(Path directory, AuditLog auditLog, long syncIntervalMillis)
+            throws IOException {
+        long start = System.nanoTime();
+        Files.createDirectories(directory);
+        EmployeeRepository repository = new EmployeeRepository(auditLog, false);
+
+        List<Path> snapshots = list(directory, SnapshotFile.FILE_PREFIX, SnapshotFile.FILE_SUFFIX);
+        long firstWal = 0;
+        long recovered = 0;
+        if (!snapshots.isEmpty()) {
+            Path latest = snapshots.get(snapshots.size() - 1);
+            firstWal = SnapshotFile.walIndex(latest);
+            SnapshotFile.Contents contents = SnapshotFile.read(latest);
+            repository.restoreAll(contents.employees);
+            for (Map.Entry<String, List<PerformanceReview>> entry : contents.reviews.entrySet()) {
+                repository.saveReviews(entry.getKey(), entry.getValue());
+            }
+            recovered = contents.employees.size();
+        }
+
+        long nextWal = firstWal;
+        WriteAheadLog.Handler replay = new WriteAheadLog.Handler() {
+            @Override
+            public void save(Employee employee) {
+                repository.restore(employee);
+            }
+
+            @Override
+            public void delete(String employeeId) {
+                repository.delete(employeeId);
+            }
+
+            @Override
+            public void reviews(String employeeId, List<PerformanceReview> reviews) {
+                repository.saveReviews(employeeId, reviews);
+            }
+        };
+        for (Path file : list(directory, WriteAheadLog.FILE_PREFIX, WriteAheadLog.FILE_SUFFIX)) {
+            long index = WriteAheadLog.index(file);
+            if (index >= firstWal) {
+                WriteAheadLog.replay(file, replay);
+                nextWal = index + 1;
+            }
+        }
+
+        // Replayed writes happened before now, at times the log does not keep.
+        repository.restartSalaryHistory();
+
+        // Never append to a replayed file: its tail may be torn.
+        WriteAheadLog wal = new WriteAheadLog(directory, nextWal);
+        long recoveryMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        return new EmployeeStore(directory, repository, wal, syncIntervalMillis,
+            recovered, recoveryMillis);
+    }
+
+    public EmployeeRepository getRepository() {
+        return repository;
+    }
+
+    /**
+     * Writes a snapshot of the current state and deletes the log files and
+     * snapshots it supersedes. Writes may continue while it runs.
+     */
+    public synchronized void checkpoint() throws IOException {
+        long[] walIndex = new long[1];
+        IOException[] failure = new IOException[1];
+        repository.runExclusive(() -> {
+            try {
+                walIndex[0] = wal.rotate();
+            } catch (IOException e) {
+                failure[0] = e;
+            }
+        });
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+
+        SnapshotFile.write(SnapshotFile.file(directory, walIndex[0]),
+            repository.stream().iterator(), repository::getReviews);
+
+        for (Path file : list(directory, WriteAheadLog.FILE_PREFIX, WriteAheadLog.FILE_SUFFIX)) {
+            if (WriteAheadLog.index(file) < walIndex[0]) {
+                Files.deleteIfExists(file);
+            }
+        }
+        for (Path file : list(directory, SnapshotFile.FILE_PREFIX, SnapshotFile.FILE_SUFFIX)) {
+            if (SnapshotFile.walIndex(file) < walIndex[0]) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * Takes a checkpoint every {@code period}. Failures are reported to stderr
+     * and retried at the next period.
+     */
+    public void scheduleCheckpoints(long period, TimeUnit unit) {
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                checkpoint();
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Checkpoint of " + directory + " failed: " + e.getMessage());
+            }
+        }, period, period, unit);
+    }
+
+    /**
+     * Forces every logged write to disk.
+     */
+    public void sync() throws IOException {
+        wal.flush(true);
+    }
+
+    public long getRecoveredEmployees() {
+        return recoveredEmployees;
+    }
+
+    public long getRecoveryMillis() {
+        return recoveryMillis;
+    }
+
+    /**
+     * Stops the background sync and checkpoints, waiting for one in progress to
+     * finish, then closes the log.
+     */
+    @Override
+    public void close() throws IOException {
+        scheduler.shutdown();
+        try {
+            while (!scheduler.awaitTermination(1, TimeUnit.SECONDS)) {
+                // A checkpoint of a large repository can take longer; keep waiting.
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while closing " + directory);
+        }
+        // A checkpoint started by a caller holds the same lock.
+        synchronized (this) {
+            repository.removeChangeListener(walWriter);
+            wal.close();
+        }
+    }
+
+    private void syncQuietly() {
+        try {
+            wal.flush(true);
+        } catch (IOException e) {
+            System.err.println("Write-ahead log sync in " + directory + " failed: " + e.getMessage());
+        }
+    }
+
+    private static List<Path> list(Path directory, String prefix, String suffix) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, prefix + "*" + suffix)) {
+            for (Path file : stream) {
+                files.add(file);
+            }
+        }
+        Collections.sort(files);
+        return files;
+    }
+}
+
+// Made with Bob
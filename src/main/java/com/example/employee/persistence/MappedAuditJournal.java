@@ -0,0 +1,453 @@
+package com.example.employee.persistence;
+
+import com.example.employee.model.event.AuditEvent;
+import com.example.employee.model.event.EmployeeCreatedEvent;
+import com.example.employee.model.event.SalaryChangedEvent;
+import com.example.employee.repository.AuditLog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent, append-only audit log stored as a sequence of fixed-size,
+ * memory-mapped segment files ({@code audit-<n>.seg}).
+ *
+ * <p>Each record is {@code [int length][int crc32][byte type][long epochSecond][int nanos]}
+ * followed by length-prefixed UTF-8 strings and, for salary changes, two
+ * doubles; the checksum covers everything after it. The length is written
+ * last, so a record torn by a crash reads as the end of the segment, and
+ * recovery also stops at the first record whose checksum does not match.
+ * Events never live on the heap: readers decode lazily straight from the
+ * mapped segments, and only per-segment timestamp bounds are kept in memory
+ * so range reads can skip whole segments.
+ *
+ * <p>Appends are serialized; the mapped pages are forced to disk every
+ * {@code syncEveryRecords} appends and on a background timer.
+ */
+public class MappedAuditJournal implements AuditLog, Closeable {
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    public static final int DEFAULT_SYNC_EVERY_RECORDS = 1_000;
+    public static final long DEFAULT_SYNC_INTERVAL_MILLIS = 200;
+
+    private static final String SEGMENT_PREFIX = "audit-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final byte TYPE_GENERIC = 0;
+    private static final byte TYPE_EMPLOYEE_CREATED = 1;
+    private static final byte TYPE_SALARY_CHANGED = 2;
+    private static final int PREFIX_SIZE = 4 + 4;
+    private static final int HEADER_SIZE = 1 + 8 + 4;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int syncEveryRecords;
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService syncer;
+
+    private final CRC32 crc = new CRC32();
+
+    // Swapped as one reference on roll, so lock-free readers never pair a segment with another's buffer.
+    private volatile Active active;
+    private int unsyncedRecords;
+    private volatile boolean closed;
+
+    public static MappedAuditJournal open(Path directory) throws IOException {
+        return new MappedAuditJournal(directory, DEFAULT_SEGMENT_SIZE,
+            DEFAULT_SYNC_EVERY_RECORDS, DEFAULT_SYNC_INTERVAL_MILLIS);
+    }
+
+    public MappedAuditJournal(Path directory, int segmentSize, int syncEveryRecords,
+                              long syncIntervalMillis) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.syncEveryRecords = syncEveryRecords;
+        Files.createDirectories(directory);
+        recover();
+        this.syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "audit-journal-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        syncer.scheduleWithFixedDelay(this::sync, syncIntervalMillis, syncIntervalMillis,
+            TimeUnit.MILLISECONDS);
+    }
+
+    // Holds the monitor across the batch so concurrent appends cannot interleave.
+    @Override
+    public synchronized void appendAll(List<? extends AuditEvent> events) {
+        for (AuditEvent event : events) {
+            append(event);
+        }
+    }
+
+    @Override
+    public synchronized void append(AuditEvent event) {
+        if (closed) {
+            throw new IllegalStateException("Audit journal is closed: " + directory);
+        }
+        byte type;
+        byte[] extra;
+        if (event instanceof SalaryChangedEvent) {
+            type = TYPE_SALARY_CHANGED;
+            extra = utf8(((SalaryChangedEvent) event).getEmployeeId());
+        } else if (event instanceof EmployeeCreatedEvent) {
+            type = TYPE_EMPLOYEE_CREATED;
+            extra = utf8(((EmployeeCreatedEvent) event).getEmployeeId());
+        } else {
+            type = TYPE_GENERIC;
+            extra = utf8(event.getEventType());
+        }
+        byte[] eventId = utf8(event.getEventId());
+        byte[] userId = utf8(event.getUserId());
+        int length = HEADER_SIZE + 2 + eventId.length + 2 + userId.length + 2 + extra.length
+            + (type == TYPE_SALARY_CHANGED ? 16 : 0);
+        if (PREFIX_SIZE + length > segmentSize) {
+            throw new IllegalArgumentException("Audit event larger than a segment: " + length + " bytes");
+        }
+        if (active.buffer.remaining() < PREFIX_SIZE + length) {
+            roll();
+        }
+
+        Active current = active;
+        MappedByteBuffer buffer = current.buffer;
+        LocalDateTime timestamp = event.getTimestamp();
+        int start = buffer.position();
+        buffer.position(start + PREFIX_SIZE);
+        buffer.put(type);
+        buffer.putLong(timestamp.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(timestamp.getNano());
+        putString(buffer, eventId);
+        putString(buffer, userId);
+        putString(buffer, extra);
+        if (type == TYPE_SALARY_CHANGED) {
+            SalaryChangedEvent salaryChanged = (SalaryChangedEvent) event;
+            buffer.putDouble(salaryChanged.getOldSalary());
+            buffer.putDouble(salaryChanged.getNewSalary());
+        }
+        buffer.putInt(start + 4, checksum(crc, buffer, start, length));
+        // Publishing the length last makes the record visible atomically.
+        buffer.putInt(start, length);
+        current.segment.recordAppended(buffer.position(), epochNanos(timestamp));
+
+        if (++unsyncedRecords >= syncEveryRecords) {
+            buffer.force();
+            unsyncedRecords = 0;
+        }
+    }
+
+    @Override
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.count;
+        }
+        return size;
+    }
+
+    @Override
+    public Iterator<AuditEvent> iterator() {
+        return new RecordIterator(Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    @Override
+    public Iterator<AuditEvent> range(LocalDateTime from, LocalDateTime to) {
+        return new RecordIterator(epochNanos(from), epochNanos(to));
+    }
+
+    /**
+     * Forces appended records to disk.
+     */
+    public synchronized void sync() {
+        if (!closed && unsyncedRecords > 0) {
+            active.buffer.force();
+            unsyncedRecords = 0;
+        }
+    }
+
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        syncer.shutdown();
+        active.buffer.force();
+        closed = true;
+    }
+
+    private void recover() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path file : stream) {
+                files.add(file);
+            }
+        }
+        Collections.sort(files);
+        for (Path file : files) {
+            Segment segment = new Segment(file, segmentIndex(file));
+            segment.scan(map(file, FileChannel.MapMode.READ_ONLY, Files.size(file)));
+            segments.add(segment);
+        }
+        if (segments.isEmpty()) {
+            createSegment(0);
+        } else {
+            Segment last = segments.get(segments.size() - 1);
+            MappedByteBuffer buffer = map(last.path, FileChannel.MapMode.READ_WRITE, segmentSize);
+            buffer.position(last.limit);
+            active = new Active(last, buffer);
+        }
+    }
+
+    private void roll() {
+        active.buffer.force();
+        unsyncedRecords = 0;
+        try {
+            createSegment(active.segment.index + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not roll audit journal segment in " + directory, e);
+        }
+    }
+
+    private void createSegment(long index) throws IOException {
+        Path file = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+        MappedByteBuffer buffer = map(file, FileChannel.MapMode.READ_WRITE, segmentSize);
+        Segment segment = new Segment(file, index);
+        active = new Active(segment, buffer);
+        segments.add(segment);
+    }
+
+    private ByteBuffer readView(Segment segment) {
+        Active current = active;
+        if (segment == current.segment) {
+            ByteBuffer view = current.buffer.duplicate();
+            view.clear();
+            return view;
+        }
+        try {
+            return map(segment.path, FileChannel.MapMode.READ_ONLY, Files.size(segment.path));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read audit journal segment " + segment.path, e);
+        }
+    }
+
+    private static MappedByteBuffer map(Path file, FileChannel.MapMode mode, long size) throws IOException {
+        StandardOpenOption[] options = mode == FileChannel.MapMode.READ_ONLY
+            ? new StandardOpenOption[] {StandardOpenOption.READ}
+            : new StandardOpenOption[] {StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE};
+        try (FileChannel channel = FileChannel.open(file, options)) {
+            return channel.map(mode, 0, size);
+        }
+    }
+
+    private static long segmentIndex(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static long epochNanos(LocalDateTime timestamp) {
+        return timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + timestamp.getNano();
+    }
+
+    private static byte[] utf8(String value) {
+        byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Audit field longer than 65535 bytes");
+        }
+        return bytes;
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] bytes) {
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getShort() & 0xFFFF;
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Length of the record starting at position, or -1 if there is no complete record there.
+    private static int recordLength(ByteBuffer buffer, int position, int limit) {
+        if (position + PREFIX_SIZE > limit) {
+            return -1;
+        }
+        int length = buffer.getInt(position);
+        if (length < HEADER_SIZE || position + PREFIX_SIZE + length > limit) {
+            return -1;
+        }
+        return length;
+    }
+
+    private static int checksum(CRC32 crc, ByteBuffer buffer, int start, int length) {
+        ByteBuffer body = buffer.duplicate();
+        body.limit(start + PREFIX_SIZE + length);
+        body.position(start + PREFIX_SIZE);
+        crc.reset();
+        crc.update(body);
+        return (int) crc.getValue();
+    }
+
+    private static final class Active {
+        final Segment segment;
+        final MappedByteBuffer buffer;
+
+        Active(Segment segment, MappedByteBuffer buffer) {
+            this.segment = segment;
+            this.buffer = buffer;
+        }
+    }
+
+    private static final class Segment {
+        final Path path;
+        final long index;
+        volatile int limit;
+        volatile long count;
+        volatile long minTimestamp = Long.MAX_VALUE;
+        volatile long maxTimestamp = Long.MIN_VALUE;
+
+        Segment(Path path, long index) {
+            this.path = path;
+            this.index = index;
+        }
+
+        void scan(ByteBuffer buffer) {
+            CRC32 crc = new CRC32();
+            int position = 0;
+            int length;
+            while ((length = recordLength(buffer, position, buffer.capacity())) > 0
+                    && buffer.getInt(position + 4) == checksum(crc, buffer, position, length)) {
+                long seconds = buffer.getLong(position + PREFIX_SIZE + 1);
+                int nanos = buffer.getInt(position + PREFIX_SIZE + 9);
+                position += PREFIX_SIZE + length;
+                recordAppended(position, seconds * 1_000_000_000L + nanos);
+            }
+        }
+
+        // Only called by the single writer; limit is written last so readers see complete records.
+        void recordAppended(int newLimit, long timestamp) {
+            if (timestamp < minTimestamp) {
+                minTimestamp = timestamp;
+            }
+            if (timestamp > maxTimestamp) {
+                maxTimestamp = timestamp;
+            }
+            count++;
+            limit = newLimit;
+        }
+
+        boolean overlaps(long from, long to) {
+            return count > 0 && maxTimestamp >= from && minTimestamp < to;
+        }
+    }
+
+    private final class RecordIterator implements Iterator<AuditEvent> {
+        private final long from;
+        private final long to;
+        private final Iterator<Segment> segmentIterator;
+        private ByteBuffer buffer;
+        private int position;
+        private int limit;
+        private AuditEvent next;
+
+        RecordIterator(long from, long to) {
+            this.from = from;
+            this.to = to;
+            this.segmentIterator = segments.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (buffer == null || position >= limit) {
+                    if (!nextSegment()) {
+                        return false;
+                    }
+                }
+                int length = recordLength(buffer, position, limit);
+                if (length < 0) {
+                    position = limit;
+                    continue;
+                }
+                long seconds = buffer.getLong(position + PREFIX_SIZE + 1);
+                int nanos = buffer.getInt(position + PREFIX_SIZE + 9);
+                long timestamp = seconds * 1_000_000_000L + nanos;
+                if (timestamp >= from && timestamp < to) {
+                    next = decode(buffer, position, seconds, nanos);
+                }
+                position += PREFIX_SIZE + length;
+            }
+            return true;
+        }
+
+        @Override
+        public AuditEvent next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            AuditEvent event = next;
+            next = null;
+            return event;
+        }
+
+        private boolean nextSegment() {
+            while (segmentIterator.hasNext()) {
+                Segment segment = segmentIterator.next();
+                if (segment.overlaps(from, to)) {
+                    limit = segment.limit;
+                    buffer = readView(segment);
+                    position = 0;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private AuditEvent decode(ByteBuffer source, int start, long seconds, int nanos) {
+            ByteBuffer record = source.duplicate();
+            record.position(start + PREFIX_SIZE);
+            byte type = record.get();
+            record.position(record.position() + 12);
+            LocalDateTime timestamp = LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+            String eventId = getString(record);
+            String userId = getString(record);
+            String extra = getString(record);
+            switch (type) {
+                case TYPE_EMPLOYEE_CREATED:
+                    return new EmployeeCreatedEvent(eventId, timestamp, userId, extra);
+                case TYPE_SALARY_CHANGED:
+                    return new SalaryChangedEvent(eventId, timestamp, userId, extra,
+                        record.getDouble(), record.getDouble());
+                default:
+                    return new AuditEvent(eventId, timestamp, userId, extra);
+            }
+        }
+    }
+}
+
+// Made with Bob
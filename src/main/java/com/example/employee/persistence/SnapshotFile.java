@@ -0,0 +1,172 @@
+package com.example.employee.persistence;
+
+import com.example.employee.model.Employee;
+import com.example.employee.model.PerformanceReview;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Binary snapshot of all employees and their reviews ({@code snapshot-<n>.snap}),
+ * where {@code n} is the first write-ahead log file not covered by it.
+ *
+ * <p>Records are grouped into independently decodable chunks followed by a
+ * chunk table and a fixed footer, so a snapshot is written in one streaming
+ * pass and read back by decoding chunks in parallel from a mapped file.
+ * A single snapshot file is limited to 2 GB.
+ */
+final class SnapshotFile {
+    static final String FILE_PREFIX = "snapshot-";
+    static final String FILE_SUFFIX = ".snap";
+
+    private static final int MAGIC = 0x454D5053; // "EMPS"
+    private static final int VERSION = 1;
+    private static final int CHUNK_RECORDS = 4_096;
+    private static final int FOOTER_SIZE = 8 + 4 + 4 + 4;
+
+    /**
+     * Decoded snapshot contents.
+     */
+    static final class Contents {
+        final List<Employee> employees;
+        final Map<String, List<PerformanceReview>> reviews;
+
+        Contents(List<Employee> employees, Map<String, List<PerformanceReview>> reviews) {
+            this.employees = employees;
+            this.reviews = reviews;
+        }
+    }
+
+    private SnapshotFile() {
+    }
+
+    static Path file(Path directory, long walIndex) {
+        return directory.resolve(String.format("%s%020d%s", FILE_PREFIX, walIndex, FILE_SUFFIX));
+    }
+
+    static long walIndex(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+    }
+
+    /**
+     * Writes the employees to a temporary file and atomically renames it into place.
+     *
+     * @return number of employees written
+     */
+    static long write(Path target, Iterator<Employee> employees,
+                      Function<String, List<PerformanceReview>> reviews) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        List<long[]> chunks = new ArrayList<>();
+        ByteArrayOutputStream chunk = new ByteArrayOutputStream(1 << 20);
+        DataOutputStream out = new DataOutputStream(chunk);
+        long total = 0;
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            int inChunk = 0;
+            while (employees.hasNext()) {
+                Employee emp = employees.next();
+                EmployeeCodec.writeEmployee(out, emp);
+                EmployeeCodec.writeReviews(out, reviews.apply(emp.getId()));
+                inChunk++;
+                total++;
+                if (inChunk == CHUNK_RECORDS) {
+                    chunks.add(writeChunk(channel, chunk, inChunk));
+                    inChunk = 0;
+                }
+            }
+            if (inChunk > 0) {
+                chunks.add(writeChunk(channel, chunk, inChunk));
+            }
+
+            long tableOffset = channel.position();
+            ByteBuffer table = ByteBuffer.allocate(chunks.size() * 16 + FOOTER_SIZE);
+            for (long[] entry : chunks) {
+                table.putLong(entry[0]).putInt((int) entry[1]).putInt((int) entry[2]);
+            }
+            table.putLong(tableOffset).putInt(chunks.size()).putInt(VERSION).putInt(MAGIC);
+            table.flip();
+            while (table.hasRemaining()) {
+                channel.write(table);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return total;
+    }
+
+    /**
+     * Decodes every chunk in parallel on the common fork-join pool.
+     */
+    static Contents read(Path file) throws IOException {
+        ByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        int footer = mapped.capacity() - FOOTER_SIZE;
+        if (footer < 0 || mapped.getInt(footer + 16) != MAGIC) {
+            throw new IOException("Not an employee snapshot: " + file);
+        }
+        if (mapped.getInt(footer + 12) != VERSION) {
+            throw new IOException("Unsupported snapshot version in " + file);
+        }
+        long tableOffset = mapped.getLong(footer);
+        int chunkCount = mapped.getInt(footer + 8);
+
+        // Prefix sums of record counts give each chunk its own slice of the result array.
+        int[] firstRecord = new int[chunkCount + 1];
+        for (int i = 0; i < chunkCount; i++) {
+            firstRecord[i + 1] = firstRecord[i] + mapped.getInt((int) tableOffset + i * 16 + 12);
+        }
+        Employee[] employees = new Employee[firstRecord[chunkCount]];
+        Map<String, List<PerformanceReview>> reviews = new ConcurrentHashMap<>();
+
+        IntStream.range(0, chunkCount).parallel().forEach(i -> {
+            int entry = (int) tableOffset + i * 16;
+            int offset = (int) mapped.getLong(entry);
+            int length = mapped.getInt(entry + 8);
+            ByteBuffer in = mapped.duplicate();
+            in.position(offset);
+            in.limit(offset + length);
+            for (int r = firstRecord[i]; r < firstRecord[i + 1]; r++) {
+                Employee emp = EmployeeCodec.readEmployee(in);
+                List<PerformanceReview> employeeReviews = EmployeeCodec.readReviews(in);
+                employees[r] = emp;
+                if (!employeeReviews.isEmpty()) {
+                    reviews.put(emp.getId(), employeeReviews);
+                }
+            }
+        });
+        return new Contents(Arrays.asList(employees), reviews);
+    }
+
+    private static long[] writeChunk(FileChannel channel, ByteArrayOutputStream chunk, int records)
+            throws IOException {
+        long offset = channel.position();
+        ByteBuffer bytes = ByteBuffer.wrap(chunk.toByteArray());
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        long[] entry = {offset, chunk.size(), records};
+        chunk.reset();
+        return entry;
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,297 @@
+package com.example.employee.persistence;
+
+import com.example.employee.model.Employee;
+import com.example.employee.model.PerformanceReview;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Redo log of employee writes, stored as numbered files ({@code wal-<n>.log}).
+ *
+ * <p>Each record is {@code [int length][int crc32][byte op][body]}. Records are
+ * staged in an in-memory buffer and written out when it fills or on
+ * {@link #flush(boolean)}; callers decide how often to fsync (group commit).
+ * Appends only hold the monitor while encoding into the buffer: a flush swaps
+ * in a fresh buffer and writes and forces the sealed ones outside it.
+ * Replay stops at the first short or corrupt record, so a torn tail is dropped.
+ */
+final class WriteAheadLog implements Closeable {
+    static final String FILE_PREFIX = "wal-";
+    static final String FILE_SUFFIX = ".log";
+
+    private static final byte OP_SAVE = 1;
+    private static final byte OP_DELETE = 2;
+    private static final byte OP_REVIEWS = 3;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Receives replayed records in log order.
+     */
+    interface Handler {
+        void save(Employee employee);
+
+        void delete(String employeeId);
+
+        void reviews(String employeeId, List<PerformanceReview> reviews);
+    }
+
+    private final Path directory;
+    // Guards writes to the file and channel swaps; taken before the monitor, never after.
+    private final ReentrantLock fileLock = new ReentrantLock();
+    private final Scratch scratch = new Scratch();
+    private final DataOutputStream scratchOut = new DataOutputStream(scratch);
+    private final CRC32 crc = new CRC32();
+    // Guarded by the monitor: the buffer being filled, sealed buffers in log order, and spares.
+    private final ArrayDeque<ByteBuffer> sealed = new ArrayDeque<>();
+    private final ArrayDeque<ByteBuffer> spares = new ArrayDeque<>();
+    private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    // Replaced only while holding both locks, so either one is enough to read it.
+    private volatile FileChannel channel;
+    private long index;
+
+    WriteAheadLog(Path directory, long index) throws IOException {
+        this.directory = directory;
+        this.index = index;
+        this.channel = openFile(index);
+    }
+
+    static Path file(Path directory, long index) {
+        return directory.resolve(String.format("%s%020d%s", FILE_PREFIX, index, FILE_SUFFIX));
+    }
+
+    static long index(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+    }
+
+    void appendSave(Employee employee) throws IOException {
+        boolean full;
+        synchronized (this) {
+            scratch.reset();
+            scratchOut.writeByte(OP_SAVE);
+            EmployeeCodec.writeEmployee(scratchOut, employee);
+            full = stage();
+        }
+        writeSealedIfIdle(full);
+    }
+
+    void appendDelete(String employeeId) throws IOException {
+        boolean full;
+        synchronized (this) {
+            scratch.reset();
+            scratchOut.writeByte(OP_DELETE);
+            EmployeeCodec.writeString(scratchOut, employeeId);
+            full = stage();
+        }
+        writeSealedIfIdle(full);
+    }
+
+    void appendReviews(String employeeId, List<PerformanceReview> reviews) throws IOException {
+        boolean full;
+        synchronized (this) {
+            scratch.reset();
+            scratchOut.writeByte(OP_REVIEWS);
+            EmployeeCodec.writeString(scratchOut, employeeId);
+            EmployeeCodec.writeReviews(scratchOut, reviews);
+            full = stage();
+        }
+        writeSealedIfIdle(full);
+    }
+
+    /**
+     * Writes staged records to the file, forcing them to stable storage if {@code fsync}.
+     * Appends continue into a fresh buffer while the file is written and forced.
+     */
+    void flush(boolean fsync) throws IOException {
+        fileLock.lock();
+        try {
+            synchronized (this) {
+                seal();
+            }
+            writeSealed();
+            if (fsync) {
+                channel.force(false);
+                // Buffers sealed by appends during the fsync are written now and forced next time.
+                writeSealed();
+            }
+        } finally {
+            fileLock.unlock();
+        }
+    }
+
+    /**
+     * Seals the current file and starts the next one.
+     *
+     * @return index of the new file; every earlier file is complete on disk
+     */
+    long rotate() throws IOException {
+        fileLock.lock();
+        try {
+            flush(true);
+            synchronized (this) {
+                channel.close();
+                index++;
+                channel = openFile(index);
+                return index;
+            }
+        } finally {
+            fileLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        fileLock.lock();
+        try {
+            if (channel.isOpen()) {
+                flush(true);
+                channel.close();
+            }
+        } finally {
+            fileLock.unlock();
+        }
+    }
+
+    static long replay(Path file, Handler handler) throws IOException {
+        ByteBuffer in;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        CRC32 checksum = new CRC32();
+        long records = 0;
+        while (in.remaining() >= 8) {
+            int length = in.getInt();
+            int expectedCrc = in.getInt();
+            if (length <= 0 || length > in.remaining()) {
+                break;
+            }
+            ByteBuffer payload = in.slice();
+            payload.limit(length);
+            checksum.reset();
+            checksum.update(payload.duplicate());
+            if ((int) checksum.getValue() != expectedCrc) {
+                break;
+            }
+            apply(payload, handler);
+            in.position(in.position() + length);
+            records++;
+        }
+        return records;
+    }
+
+    private static void apply(ByteBuffer payload, Handler handler) {
+        byte op = payload.get();
+        switch (op) {
+            case OP_SAVE:
+                handler.save(EmployeeCodec.readEmployee(payload));
+                break;
+            case OP_DELETE:
+                handler.delete(EmployeeCodec.readString(payload));
+                break;
+            case OP_REVIEWS:
+                handler.reviews(EmployeeCodec.readString(payload), EmployeeCodec.readReviews(payload));
+                break;
+            default:
+                throw new IllegalStateException("Unknown write-ahead log operation: " + op);
+        }
+    }
+
+    // Appends the record in scratch to the buffer; returns whether a buffer was sealed.
+    private boolean stage() {
+        int length = scratch.size();
+        byte[] payload = scratch.bytes();
+        crc.reset();
+        crc.update(payload, 0, length);
+        boolean full = false;
+        if (buffer.remaining() < 8 + length) {
+            full = seal();
+        }
+        if (buffer.remaining() < 8 + length) {
+            // Larger than the staging buffer: queue it as a buffer of its own.
+            ByteBuffer record = ByteBuffer.allocate(8 + length);
+            record.putInt(length).putInt((int) crc.getValue()).put(payload, 0, length);
+            sealed.add(record);
+            return true;
+        }
+        buffer.putInt(length).putInt((int) crc.getValue()).put(payload, 0, length);
+        return full;
+    }
+
+    // Caller holds the monitor.
+    private boolean seal() {
+        if (buffer.position() == 0) {
+            return false;
+        }
+        sealed.add(buffer);
+        ByteBuffer spare = spares.poll();
+        buffer = spare != null ? spare : ByteBuffer.allocate(BUFFER_SIZE);
+        return true;
+    }
+
+    // An append never waits for the file: if a flush is running, it writes the buffer on its way out.
+    private void writeSealedIfIdle(boolean full) throws IOException {
+        if (full && fileLock.tryLock()) {
+            try {
+                writeSealed();
+            } finally {
+                fileLock.unlock();
+            }
+        }
+    }
+
+    // Caller holds fileLock.
+    private void writeSealed() throws IOException {
+        while (true) {
+            ByteBuffer next;
+            synchronized (this) {
+                next = sealed.poll();
+            }
+            if (next == null) {
+                return;
+            }
+            next.flip();
+            while (next.hasRemaining()) {
+                channel.write(next);
+            }
+            if (next.capacity() == BUFFER_SIZE) {
+                next.clear();
+                synchronized (this) {
+                    if (spares.size() < 2) {
+                        spares.add(next);
+                    }
+                }
+            }
+        }
+    }
+
+    private FileChannel openFile(long fileIndex) throws IOException {
+        Files.createDirectories(directory);
+        return FileChannel.open(file(directory, fileIndex),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    // Exposes the backing array so staging a record does not copy it.
+    private static final class Scratch extends ByteArrayOutputStream {
+        Scratch() {
+            super(512);
+        }
+
+        byte[] bytes() {
+            return buf;
+        }
+    }
+}
+
+// Made with Bob
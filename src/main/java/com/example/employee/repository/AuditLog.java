@@ -0,0 +1,35 @@
+package com.example.employee.repository;
+
+import com.example.employee.model.event.AuditEvent;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Append-only store of audit events written by {@link EmployeeRepository}.
+ * Appends may be called concurrently.
+ */
+public interface AuditLog extends Iterable<AuditEvent> {
+
+    void append(AuditEvent event);
+
+    /**
+     * Appends events in order. Implementations may do this more cheaply than
+     * one {@link #append} per event.
+     */
+    default void appendAll(List<? extends AuditEvent> events) {
+        for (AuditEvent event : events) {
+            append(event);
+        }
+    }
+
+    long size();
+
+    /**
+     * Events whose timestamp lies in {@code [from, to)}, in append order.
+     */
+    Iterator<AuditEvent> range(LocalDateTime from, LocalDateTime to);
+}
+
+// Made with Bob
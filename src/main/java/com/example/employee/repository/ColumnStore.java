@@ -0,0 +1,177 @@
+package com.example.employee.repository;
+
+import com.example.employee.model.Employee;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Mutable primitive columns patched on every write, from which immutable
+ * {@link ColumnarSnapshot}s are cut. Each employee owns a slot; slots of deleted
+ * employees are reused. The last snapshot is cached until the next write.
+ *
+ * <p>Single writes are queued through {@link PendingChanges} and patched in
+ * when the next snapshot is cut, so saves never take the store lock.
+ */
+class ColumnStore implements EmployeeChangeListener {
+    private final Map<String, Integer> slots = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet live = new BitSet();
+    private final Map<String, Integer> departmentCodes = new HashMap<>();
+    private final List<String> departmentNames = new ArrayList<>();
+
+    private double[] salaries = new double[64];
+    private int[] departments = new int[64];
+    private int[] hireDays = new int[64];
+    private byte[] employmentTypes = new byte[64];
+    private Employee[] employees = new Employee[64];
+
+    private final Lock lock = new ReentrantLock();
+    private final PendingChanges pending = new PendingChanges();
+    private volatile Cached cached;
+
+    private static final class Cached {
+        final ColumnarSnapshot snapshot;
+        final long version;
+
+        Cached(ColumnarSnapshot snapshot, long version) {
+            this.snapshot = snapshot;
+            this.version = version;
+        }
+    }
+
+    @Override
+    public void onChange(Employee previous, Employee current) {
+        if (pending.add(previous, current) && lock.tryLock()) {
+            try {
+                pending.drain(this::apply);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void onBatchChange(List<Employee> previous, List<Employee> current) {
+        lock.lock();
+        try {
+            pending.drain(this::apply);
+            for (Employee emp : previous) {
+                apply(emp, null);
+            }
+            for (Employee emp : current) {
+                apply(null, emp);
+            }
+        } finally {
+            lock.unlock();
+        }
+        // Bumped after applying, so a snapshot cut mid-batch is never cached as current.
+        pending.bump();
+    }
+
+    ColumnarSnapshot snapshot() {
+        long version = pending.version();
+        Cached last = cached;
+        if (last != null && last.version == version) {
+            return last.snapshot;
+        }
+        lock.lock();
+        try {
+            last = cached;
+            if (last != null && last.version == version) {
+                return last.snapshot;
+            }
+            pending.drain(this::apply);
+            ColumnarSnapshot snapshot = compact();
+            cached = new Cached(snapshot, version);
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ColumnarSnapshot compact() {
+        int size = live.cardinality();
+        double[] salaryColumn = new double[size];
+        int[] departmentColumn = new int[size];
+        int[] hireDayColumn = new int[size];
+        byte[] typeColumn = new byte[size];
+        Employee[] employeeColumn = new Employee[size];
+        int row = 0;
+        for (int slot = live.nextSetBit(0); slot >= 0; slot = live.nextSetBit(slot + 1)) {
+            salaryColumn[row] = salaries[slot];
+            departmentColumn[row] = departments[slot];
+            hireDayColumn[row] = hireDays[slot];
+            typeColumn[row] = employmentTypes[slot];
+            employeeColumn[row] = employees[slot];
+            row++;
+        }
+        return new ColumnarSnapshot(salaryColumn, departmentColumn, hireDayColumn, typeColumn,
+            employeeColumn, departmentNames.toArray(new String[0]));
+    }
+
+    private void apply(Employee previous, Employee current) {
+        if (current == null) {
+            if (previous != null) {
+                Integer slot = slots.remove(previous.getId());
+                if (slot != null) {
+                    live.clear(slot);
+                    employees[slot] = null;
+                    freeSlots.push(slot);
+                }
+            }
+            return;
+        }
+        int slot = slotFor(current.getId());
+        salaries[slot] = current.getSalary();
+        departments[slot] = departmentCode(current.getDepartment());
+        hireDays[slot] = current.getHireDate() == null
+            ? ColumnarSnapshot.NO_HIRE_DATE : (int) current.getHireDate().toEpochDay();
+        employmentTypes[slot] = current.getEmploymentType() == null
+            ? -1 : (byte) current.getEmploymentType().ordinal();
+        employees[slot] = current;
+        live.set(slot);
+    }
+
+    private int slotFor(String id) {
+        Integer existing = slots.get(id);
+        if (existing != null) {
+            return existing;
+        }
+        int slot = freeSlots.isEmpty() ? slots.size() : freeSlots.pop();
+        if (slot == employees.length) {
+            int capacity = employees.length * 2;
+            salaries = Arrays.copyOf(salaries, capacity);
+            departments = Arrays.copyOf(departments, capacity);
+            hireDays = Arrays.copyOf(hireDays, capacity);
+            employmentTypes = Arrays.copyOf(employmentTypes, capacity);
+            employees = Arrays.copyOf(employees, capacity);
+        }
+        slots.put(id, slot);
+        return slot;
+    }
+
+    // Codes are never retired, so a department that empties keeps its code.
+    private int departmentCode(String department) {
+        if (department == null) {
+            return -1;
+        }
+        Integer code = departmentCodes.get(department);
+        if (code == null) {
+            code = departmentNames.size();
+            departmentCodes.put(department, code);
+            departmentNames.add(department);
+        }
+        return code;
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,227 @@
+package com.example.employee.repository;
+
+import com.example.employee.model.Employee;
+import com.example.employee.model.enums.EmploymentType;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable, column-oriented copy of the repository for analytics scans.
+ *
+ * <p>Each attribute lives in its own primitive array indexed by row: salaries as
+ * {@code double}, departments as dictionary codes, hire dates as epoch days and
+ * employment types as ordinal bytes. Aggregates and filters loop over these
+ * arrays without touching {@link Employee} objects or allocating per row;
+ * {@link #employee(int)} materializes a row only when the caller needs it.
+ */
+public final class ColumnarSnapshot {
+    /** Hire-date column value for employees without a hire date. */
+    public static final int NO_HIRE_DATE = Integer.MIN_VALUE;
+    // values() clones the array on every call.
+    private static final EmploymentType[] EMPLOYMENT_TYPES = EmploymentType.values();
+
+    private final double[] salaries;
+    private final int[] departments;
+    private final int[] hireDays;
+    private final byte[] employmentTypes;
+    private final Employee[] employees;
+    private final String[] departmentNames;
+
+    ColumnarSnapshot(double[] salaries, int[] departments, int[] hireDays, byte[] employmentTypes,
+                     Employee[] employees, String[] departmentNames) {
+        this.salaries = salaries;
+        this.departments = departments;
+        this.hireDays = hireDays;
+        this.employmentTypes = employmentTypes;
+        this.employees = employees;
+        this.departmentNames = departmentNames;
+    }
+
+    /**
+     * Count, total, min and max salary of a set of rows.
+     */
+    public static final class Summary {
+        private final int count;
+        private final double totalSalary;
+        private final double minSalary;
+        private final double maxSalary;
+
+        Summary(int count, double totalSalary, double minSalary, double maxSalary) {
+            this.count = count;
+            this.totalSalary = totalSalary;
+            this.minSalary = count == 0 ? 0.0 : minSalary;
+            this.maxSalary = count == 0 ? 0.0 : maxSalary;
+        }
+
+        public int getCount() { return count; }
+        public double getTotalSalary() { return totalSalary; }
+        public double getMinSalary() { return minSalary; }
+        public double getMaxSalary() { return maxSalary; }
+
+        public double getAverageSalary() {
+            return count == 0 ? 0.0 : totalSalary / count;
+        }
+    }
+
+    public int size() {
+        return salaries.length;
+    }
+
+    public double salary(int row) {
+        return salaries[row];
+    }
+
+    /** Dictionary code of the row's department, or -1 if it has none. */
+    public int departmentCode(int row) {
+        return departments[row];
+    }
+
+    /** Hire date as an epoch day, or {@link #NO_HIRE_DATE}. */
+    public int hireEpochDay(int row) {
+        return hireDays[row];
+    }
+
+    public EmploymentType employmentType(int row) {
+        byte ordinal = employmentTypes[row];
+        return ordinal < 0 ? null : EMPLOYMENT_TYPES[ordinal];
+    }
+
+    public Employee employee(int row) {
+        return employees[row];
+    }
+
+    /** Code for {@code department}, or -1 if no employee has ever been in it. */
+    public int departmentCode(String department) {
+        for (int code = 0; code < departmentNames.length; code++) {
+            if (departmentNames[code].equals(department)) {
+                return code;
+            }
+        }
+        return -1;
+    }
+
+    public String departmentName(int code) {
+        return code < 0 ? null : departmentNames[code];
+    }
+
+    public double totalSalary() {
+        double total = 0.0;
+        for (double salary : salaries) {
+            total += salary;
+        }
+        return total;
+    }
+
+    public double averageSalary() {
+        return salaries.length == 0 ? 0.0 : totalSalary() / salaries.length;
+    }
+
+    /**
+     * Salary summary of the rows matching every given criterion; a {@code null}
+     * criterion matches all rows. Hire dates are inclusive bounds.
+     */
+    public Summary summarize(String department, EmploymentType type, LocalDate hiredFrom, LocalDate hiredTo) {
+        int departmentCode = department == null ? Integer.MIN_VALUE : departmentCode(department);
+        if (department != null && departmentCode < 0) {
+            return new Summary(0, 0.0, 0.0, 0.0);
+        }
+        int typeOrdinal = type == null ? Integer.MIN_VALUE : type.ordinal();
+        boolean byHireDate = hiredFrom != null || hiredTo != null;
+        long fromDay = hiredFrom == null ? Long.MIN_VALUE : hiredFrom.toEpochDay();
+        long toDay = hiredTo == null ? Long.MAX_VALUE : hiredTo.toEpochDay();
+
+        int count = 0;
+        double total = 0.0;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int row = 0; row < salaries.length; row++) {
+            if (departmentCode != Integer.MIN_VALUE && departments[row] != departmentCode) {
+                continue;
+            }
+            if (typeOrdinal != Integer.MIN_VALUE && employmentTypes[row] != typeOrdinal) {
+                continue;
+            }
+            if (byHireDate) {
+                int day = hireDays[row];
+                if (day == NO_HIRE_DATE || day < fromDay || day > toDay) {
+                    continue;
+                }
+            }
+            double salary = salaries[row];
+            count++;
+            total += salary;
+            min = Math.min(min, salary);
+            max = Math.max(max, salary);
+        }
+        return new Summary(count, total, min, max);
+    }
+
+    /**
+     * Salary summary per department in one pass, optionally restricted to one
+     * employment type. Departments without matching rows are omitted.
+     */
+    public Map<String, Summary> summarizeByDepartment(EmploymentType type) {
+        int codes = departmentNames.length;
+        int[] counts = new int[codes];
+        double[] totals = new double[codes];
+        double[] mins = new double[codes];
+        double[] maxes = new double[codes];
+        Arrays.fill(mins, Double.POSITIVE_INFINITY);
+        Arrays.fill(maxes, Double.NEGATIVE_INFINITY);
+
+        int typeOrdinal = type == null ? Integer.MIN_VALUE : type.ordinal();
+        for (int row = 0; row < salaries.length; row++) {
+            int code = departments[row];
+            if (code < 0 || (typeOrdinal != Integer.MIN_VALUE && employmentTypes[row] != typeOrdinal)) {
+                continue;
+            }
+            double salary = salaries[row];
+            counts[code]++;
+            totals[code] += salary;
+            mins[code] = Math.min(mins[code], salary);
+            maxes[code] = Math.max(maxes[code], salary);
+        }
+
+        Map<String, Summary> result = new TreeMap<>();
+        for (int code = 0; code < codes; code++) {
+            if (counts[code] > 0) {
+                result.put(departmentNames[code], new Summary(counts[code], totals[code], mins[code], maxes[code]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Employees whose salary lies in {@code [minSalary, maxSalary]}, optionally
+     * restricted to one department and employment type ({@code null} for any).
+     */
+    public List<Employee> select(String department, EmploymentType type, double minSalary, double maxSalary) {
+        int departmentCode = department == null ? Integer.MIN_VALUE : departmentCode(department);
+        List<Employee> result = new ArrayList<>();
+        if (department != null && departmentCode < 0) {
+            return result;
+        }
+        int typeOrdinal = type == null ? Integer.MIN_VALUE : type.ordinal();
+        for (int row = 0; row < salaries.length; row++) {
+            double salary = salaries[row];
+            if (salary < minSalary || salary > maxSalary) {
+                continue;
+            }
+            if (departmentCode != Integer.MIN_VALUE && departments[row] != departmentCode) {
+                continue;
+            }
+            if (typeOrdinal != Integer.MIN_VALUE && employmentTypes[row] != typeOrdinal) {
+                continue;
+            }
+            result.add(employees[row]);
+        }
+        return result;
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,105 @@
+package com.example.employee.repository;
+
+import com.example.employee.model.DepartmentStats;
+import com.example.employee.model.Employee;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Running per-department salary aggregates, updated on every write so reports
+ * can read them without scanning employees.
+ *
+ * <p>Sums are kept in whole cents so that adding and removing the same salary
+ * cancels exactly. Min and max come from a salary multiset, which keeps them
+ * correct when the current extreme is deleted.
+ */
+class DepartmentAggregates implements EmployeeChangeListener {
+    static final double HISTOGRAM_BUCKET_WIDTH = 25_000.0;
+    static final int HISTOGRAM_BUCKETS = 20;
+
+    private final ConcurrentMap<String, Aggregate> byDepartment = new ConcurrentHashMap<>();
+
+    @Override
+    public void onChange(Employee previous, Employee current) {
+        if (previous != null && previous.getDepartment() != null) {
+            Aggregate aggregate = byDepartment.get(previous.getDepartment());
+            if (aggregate != null) {
+                aggregate.remove(previous.getSalary());
+            }
+        }
+        if (current != null && current.getDepartment() != null) {
+            byDepartment.computeIfAbsent(current.getDepartment(), d -> new Aggregate())
+                .add(current.getSalary());
+        }
+    }
+
+    @Override
+    public void onBatchChange(List<Employee> previous, List<Employee> current) {
+        for (Employee emp : previous) {
+            onChange(emp, null);
+        }
+        List<Employee> sorted = new ArrayList<>(current);
+        sorted.sort(Comparator.comparingDouble(Employee::getSalary));
+        for (Employee emp : sorted) {
+            onChange(null, emp);
+        }
+    }
+
+    DepartmentStats get(String department) {
+        Aggregate aggregate = department != null ? byDepartment.get(department) : null;
+        return aggregate == null ? DepartmentStats.empty(department) : aggregate.snapshot(department);
+    }
+
+    Map<String, DepartmentStats> getAll() {
+        Map<String, DepartmentStats> all = new TreeMap<>();
+        for (Map.Entry<String, Aggregate> entry : byDepartment.entrySet()) {
+            DepartmentStats stats = entry.getValue().snapshot(entry.getKey());
+            if (stats.getEmployeeCount() > 0) {
+                all.put(entry.getKey(), stats);
+            }
+        }
+        return all;
+    }
+
+    private static final class Aggregate {
+        private int count;
+        private long sumCents;
+        private final TreeMap<Double, Integer> salaries = new TreeMap<>();
+        private final int[] histogram = new int[HISTOGRAM_BUCKETS];
+
+        synchronized void add(double salary) {
+            count++;
+            sumCents += Math.round(salary * 100);
+            salaries.merge(salary, 1, Integer::sum);
+            histogram[bucket(salary)]++;
+        }
+
+        synchronized void remove(double salary) {
+            count--;
+            sumCents -= Math.round(salary * 100);
+            salaries.computeIfPresent(salary, (s, n) -> n == 1 ? null : n - 1);
+            histogram[bucket(salary)]--;
+        }
+
+        synchronized DepartmentStats snapshot(String department) {
+            if (count == 0) {
+                return DepartmentStats.empty(department);
+            }
+            return new DepartmentStats(department, count, sumCents / 100.0,
+                salaries.firstKey(), salaries.lastKey(), HISTOGRAM_BUCKET_WIDTH, histogram);
+        }
+
+        private static int bucket(double salary) {
+            int bucket = (int) (salary / HISTOGRAM_BUCKET_WIDTH);
+            return Math.max(0, Math.min(HISTOGRAM_BUCKETS - 1, bucket));
+        }
+    }
+}
+
+// Made with Bob
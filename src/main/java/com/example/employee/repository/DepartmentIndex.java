@@ -0,0 +1,57 @@
+package com.example.employee.repository;
+
+import com.example.employee.model.Employee;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Hash index from department name to the employees currently in it.
+ */
+class DepartmentIndex implements EmployeeChangeListener {
+    private final ConcurrentMap<String, Map<String, Employee>> byDepartment = new ConcurrentHashMap<>();
+
+    @Override
+    public void onChange(Employee previous, Employee current) {
+        if (previous != null && previous.getDepartment() != null) {
+            Map<String, Employee> members = byDepartment.get(previous.getDepartment());
+            if (members != null) {
+                members.remove(previous.getId());
+            }
+        }
+        if (current != null && current.getDepartment() != null) {
+            byDepartment.computeIfAbsent(current.getDepartment(), d -> new ConcurrentHashMap<>())
+                .put(current.getId(), current);
+        }
+    }
+
+    List<Employee> find(String department) {
+        Map<String, Employee> members = department != null ? byDepartment.get(department) : null;
+        if (members == null) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(members.values());
+    }
+
+    int count(String department) {
+        Map<String, Employee> members = department != null ? byDepartment.get(department) : null;
+        return members == null ? 0 : members.size();
+    }
+
+    List<String> departments() {
+        List<String> names = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Employee>> entry : byDepartment.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                names.add(entry.getKey());
+            }
+        }
+        Collections.sort(names);
+        return names;
+    }
+}
+
+// Made with Bob
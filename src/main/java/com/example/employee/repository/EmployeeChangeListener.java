@@ -0,0 +1,49 @@
+package com.example.employee.repository;
+
+import com.example.employee.model.Employee;
+import com.example.employee.model.PerformanceReview;
+
+import java.util.List;
+
+/**
+ * Callback invoked by {@link EmployeeRepository} whenever an employee is
+ * inserted, replaced or removed, or their reviews are replaced.
+ *
+ * <p>Calls for the same employee id are serialized and delivered in write
+ * order; calls for different ids may arrive concurrently. Implementations must
+ * be quick and must not call back into the repository's write methods.
+ */
+@FunctionalInterface
+public interface EmployeeChangeListener {
+
+    /**
+     * @param previous the stored employee before the change, or {@code null} on insert
+     * @param current  the stored employee after the change, or {@code null} on delete
+     */
+    void onChange(Employee previous, Employee current);
+
+    /**
+     * Called once for a bulk write instead of {@link #onChange} per employee,
+     * while no other write is in progress. Ids within a batch are distinct, so
+     * implementations may apply the changes in any order, e.g. sorted by their
+     * own key.
+     *
+     * @param previous stored employees before the batch, {@code null} entries for inserts
+     * @param current  employees after the batch, parallel to {@code previous}
+     */
+    default void onBatchChange(List<Employee> previous, List<Employee> current) {
+        for (int i = 0; i < current.size(); i++) {
+            onChange(previous.get(i), current.get(i));
+        }
+    }
+
+    /**
+     * Called when an employee's performance reviews are replaced.
+     *
+     * @param reviews the new, unmodifiable review list (empty when cleared)
+     */
+    default void onReviewsChange(String employeeId, List<PerformanceReview> reviews) {
+    }
+}
+
+// Made with Bob
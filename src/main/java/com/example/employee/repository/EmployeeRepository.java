@@ -1,7 +1,9 @@
 package com.example.employee.repository;
 
+import com.example.employee.eventbus.EventBus;
 import com.example.employee.exception.EmployeeNotFoundException;
 import com.example.employee.model.Address;
+import com.example.employee.model.DepartmentStats;
 import com.example.employee.model.Employee;
 import com.example.employee.model.PaymentInfo;
 import com.example.employee.model.PerformanceReview;
@@ -10,23 +12,100 @@ import com.example.employee.model.enums.PaymentMethod;
 import com.example.employee.model.enums.ReviewType;
 import com.example.employee.model.event.AuditEvent;
 import com.example.employee.model.event.EmployeeCreatedEvent;
+import com.example.employee.model.event.SalaryChangedEvent;
+import com.example.employee.util.Cents;
 import com.example.employee.util.IdGenerator;
+import com.example.employee.util.TopN;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
+/**
+ * Thread-safe employee store. Reads never block; writes to the same employee id
+ * are serialized by the backing {@link ConcurrentHashMap} bin lock, and audit
+ * events are appended to an {@link AuditLog} (a lock-free queue by default)
+ * and, when configured, published to an {@link EventBus} for asynchronous
+ * subscribers.
+ *
+ * <p>Indexes are updated inside that bin lock. Writes to different ids share
+ * no lock there except per department in the aggregates: the skill and column
+ * indexes queue changes lock-free and apply them when next read, the snapshot
+ * is swapped by compare-and-set, and a write-ahead log holds its monitor only
+ * while encoding the record. Bulk writes and {@link #runExclusive} wait for
+ * all writes in flight.
+ */
 public class EmployeeRepository {
-    private final Map<String, Employee> employees;
-    private final Map<String, List<PerformanceReview>> reviews;
-    private final List<AuditEvent> auditLog;
+    private final ConcurrentMap<String, Employee> employees;
+    private final ConcurrentMap<String, List<PerformanceReview>> reviews;
+    private final AuditLog auditLog;
+    private final EventBus<AuditEvent> eventBus;
+    private final List<EmployeeChangeListener> writeAheadListeners = new CopyOnWriteArrayList<>();
+    private final List<EmployeeChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private final DepartmentIndex departmentIndex = new DepartmentIndex();
+    private final SkillIndex skillIndex = new SkillIndex();
+    private final ColumnStore columnStore = new ColumnStore();
+    private final SnapshotStore snapshotStore = new SnapshotStore();
+    private final SortedIndex<Double> salaryIndex = new SortedIndex<>(Employee::getSalary);
+    private final SortedIndex<LocalDate> hireDateIndex = new SortedIndex<>(Employee::getHireDate);
+    private final DepartmentAggregates departmentAggregates = new DepartmentAggregates();
+    private final SalaryHistory salaryHistory = new SalaryHistory(Clock.systemDefaultZone());
+    // Writers share the read side; runExclusive takes the write side to find a point with no write in flight.
+    private final ReadWriteLock writeGate = new ReentrantReadWriteLock();
     
     public EmployeeRepository() {
-        this.employees = new HashMap<>();
-        this.reviews = new HashMap<>();
-        this.auditLog = new ArrayList<>();
-        initializeSampleData();
+        this(new InMemoryAuditLog());
+    }
+    
+    /**
+     * @param auditLog where audit events are appended, e.g. a persistent
+     *                 {@code MappedAuditJournal}
+     */
+    public EmployeeRepository(AuditLog auditLog) {
+        this(auditLog, true);
+    }
+    
+    /**
+     * @param auditLog       where audit events are appended
+     * @param withSampleData whether to seed the built-in demo employees; stores
+     *                       recovered from disk pass {@code false}
+     */
+    public EmployeeRepository(AuditLog auditLog, boolean withSampleData) {
+        this(auditLog, withSampleData, null);
+    }
+    
+    /**
+     * @param auditLog       where audit events are appended
+     * @param withSampleData whether to seed the built-in demo employees
+     * @param eventBus       receives every audit event after it is appended, or
+     *                       {@code null}; its backpressure policy decides whether
+     *                       a full bus delays writes or drops events
+     */
+    public EmployeeRepository(AuditLog auditLog, boolean withSampleData, EventBus<AuditEvent> eventBus) {
+        this.employees = new ConcurrentHashMap<>();
+        this.reviews = new ConcurrentHashMap<>();
+        this.auditLog = auditLog;
+        this.eventBus = eventBus;
+        listeners.add(departmentIndex);
+        listeners.add(salaryIndex);
+        listeners.add(hireDateIndex);
+        listeners.add(departmentAggregates);
+        listeners.add(skillIndex);
+        listeners.add(columnStore);
+        listeners.add(snapshotStore);
+        listeners.add(salaryHistory.listener());
+        if (withSampleData) {
+            initializeSampleData();
+        }
     }
     
     private void initializeSampleData() {
@@ -63,10 +142,10 @@ public class EmployeeRepository {
             "HR", "HR Director", 110000, LocalDate.of(2021, 9, 10), 
             addr4, payment4, EmploymentType.FULL_TIME, hrSkills);
         
-        employees.put(emp1.getId(), emp1);
-        employees.put(emp2.getId(), emp2);
-        employees.put(emp3.getId(), emp3);
-        employees.put(emp4.getId(), emp4);
+        store(emp1);
+        store(emp2);
+        store(emp3);
+        store(emp4);
         
         // Add performance reviews
         reviews.put("E001", Arrays.asList(
@@ -83,7 +162,7 @@ public class EmployeeRepository {
     }
     
     public Employee findById(String id) throws EmployeeNotFoundException {
-        Employee emp = employees.get(id);
+        Employee emp = id != null ? employees.get(id) : null;
         if (emp == null) {
             throw new EmployeeNotFoundException(id);
         }
@@ -94,63 +173,369 @@ public class EmployeeRepository {
         return new ArrayList<>(employees.values());
     }
     
-    // GOTCHA #12: Using Collectors.toList() instead of toList() (Java 16+)
+    /**
+     * Streams the live store without copying it. The stream is weakly consistent:
+     * it never throws on concurrent writes and may or may not reflect them.
+     */
+    public Stream<Employee> stream() {
+        return employees.values().stream();
+    }
+    
     public List<Employee> findByDepartment(String department) {
-        return employees.values().stream()
-            .filter(e -> e.getDepartment().equals(department))
-            .collect(Collectors.toList());
+        return departmentIndex.find(department);
     }
     
+    /**
+     * Employees with {@code minSalary <= salary <= maxSalary}, in ascending salary order.
+     */
     public List<Employee> findBySalaryRange(double minSalary, double maxSalary) {
-        return employees.values().stream()
-            .filter(e -> e.getSalary() >= minSalary && e.getSalary() <= maxSalary)
-            .collect(Collectors.toList());
+        return salaryIndex.range(minSalary, maxSalary);
+    }
+    
+    /**
+     * Column-oriented copy of all employees for analytics scans. The snapshot is
+     * immutable and shared until the next write, so repeated reads are free.
+     */
+    public ColumnarSnapshot columnarSnapshot() {
+        return columnStore.snapshot();
+    }
+    
+    /**
+     * Current version of all employees, in O(1) and without copying the store.
+     * Reports that read several numbers should take one snapshot and read them
+     * all from it: it never changes, writers are not blocked, and a bulk write
+     * is either wholly in it or not at all. Forks of it (see
+     * {@link RepositorySnapshot#with}) share structure with the live data, so
+     * what-if scenarios cost memory only for what they change.
+     */
+    public RepositorySnapshot snapshot() {
+        return snapshotStore.snapshot();
+    }
+    
+    /**
+     * Employees matching a boolean skill query such as {@code Java AND AWS NOT Docker}.
+     *
+     * @throws IllegalArgumentException if the query cannot be parsed
+     * @see SkillQuery
+     */
+    public List<Employee> findBySkills(String query) {
+        return findBySkills(SkillQuery.parse(query));
+    }
+    
+    public List<Employee> findBySkills(SkillQuery query) {
+        return skillIndex.find(query);
+    }
+    
+    /**
+     * Every skill mapped to the employees that have it, read from the skill index.
+     */
+    public Map<String, List<Employee>> groupBySkill() {
+        return skillIndex.groupBySkill();
+    }
+    
+    /**
+     * The {@code limit} best-paid employees earning at least {@code minSalary},
+     * highest salary first, read straight off the salary index.
+     */
+    public List<Employee> findTopBySalary(int limit, double minSalary) {
+        return salaryIndex.topDescending(limit, minSalary);
+    }
+    
+    /**
+     * The first {@code limit} employees matching {@code filter} in {@code order},
+     * selected with bounded heaps over a parallel scan (O(n log limit)).
+     */
+    public List<Employee> findTop(int limit, Comparator<? super Employee> order,
+                                  Predicate<? super Employee> filter) {
+        return stream().parallel()
+            .filter(filter)
+            .collect(TopN.collector(order, limit));
+    }
+    
+    /**
+     * Salary of every employee over time, for point-in-time and range queries.
+     */
+    public SalaryHistory salaryHistory() {
+        return salaryHistory;
+    }
+    
+    /**
+     * Starts the salary history over from the employees stored now, for stores
+     * that have just recovered state whose history was not kept. Earlier dates
+     * then read as unknown rather than as today's salaries.
+     */
+    public void restartSalaryHistory() {
+        runExclusive(() -> salaryHistory.restart(employees.values()));
+    }
+    
+    /**
+     * Salary statistics for one department, maintained incrementally on write.
+     */
+    public DepartmentStats getDepartmentStats(String department) {
+        return departmentAggregates.get(department);
+    }
+    
+    /**
+     * Salary statistics for every non-empty department, keyed by department name.
+     */
+    public Map<String, DepartmentStats> getAllDepartmentStats() {
+        return departmentAggregates.getAll();
     }
     
     public List<PerformanceReview> getReviews(String employeeId) {
+        if (employeeId == null) {
+            return Collections.emptyList();
+        }
         return reviews.getOrDefault(employeeId, Collections.emptyList());
     }
     
+    /**
+     * Stores the employee and audits it. Replacing an employee with a different
+     * salary also records a {@link SalaryChangedEvent}.
+     *
+     * @throws IllegalArgumentException if the salary is not a finite amount of cents
+     */
     public void save(Employee employee) {
-        employees.put(employee.getId(), employee);
-        auditLog.add(new EmployeeCreatedEvent(
+        Employee previous = store(employee);
+        LocalDateTime now = LocalDateTime.now();
+        AuditEvent event = new EmployeeCreatedEvent(
             IdGenerator.generateEventId(),
-            LocalDateTime.now(),
+            now,
             "system",
             employee.getId()
-        ));
+        );
+        auditLog.append(event);
+        publish(event);
+        if (isSalaryChange(previous, employee)) {
+            AuditEvent salaryEvent = salaryChangedEvent(previous, employee, now);
+            auditLog.append(salaryEvent);
+            publish(salaryEvent);
+        }
+    }
+    
+    /**
+     * Stores an employee without writing an audit event, for loading state that
+     * was already audited (recovery, replication).
+     */
+    public void restore(Employee employee) {
+        store(employee);
+    }
+    
+    /**
+     * Bulk version of {@link #restore}: stores all employees at a point where no
+     * other write is in progress, then hands the whole batch to each listener
+     * at once (listeners run in parallel). When an id repeats, the last one wins.
+     */
+    public void restoreAll(Collection<Employee> batch) {
+        applyBatch(batch, new ArrayList<>(batch.size()));
+    }
+    
+    /**
+     * Bulk version of {@link #save}: applies the batch like {@link #restoreAll},
+     * with one index update per listener, then appends one creation event per
+     * employee, plus a salary change event per replaced employee whose salary
+     * differs, to the audit log in a single call. When an id repeats, the last
+     * one wins.
+     *
+     * @return number of distinct employees stored
+     */
+    public int saveAll(Collection<Employee> batch) {
+        List<Employee> previous = new ArrayList<>(batch.size());
+        List<Employee> current = applyBatch(batch, previous);
+        LocalDateTime now = LocalDateTime.now();
+        List<AuditEvent> events = new ArrayList<>(current.size());
+        for (int i = 0; i < current.size(); i++) {
+            Employee emp = current.get(i);
+            events.add(new EmployeeCreatedEvent(IdGenerator.generateEventId(), now, "system", emp.getId()));
+            if (isSalaryChange(previous.get(i), emp)) {
+                events.add(salaryChangedEvent(previous.get(i), emp, now));
+            }
+        }
+        auditLog.appendAll(events);
+        for (AuditEvent event : events) {
+            publish(event);
+        }
+        return current.size();
+    }
+    
+    private static boolean isSalaryChange(Employee previous, Employee current) {
+        return previous != null && Double.compare(previous.getSalary(), current.getSalary()) != 0;
+    }
+    
+    private static AuditEvent salaryChangedEvent(Employee previous, Employee current, LocalDateTime now) {
+        return new SalaryChangedEvent(IdGenerator.generateEventId(), now, "system", current.getId(),
+            previous.getSalary(), current.getSalary());
+    }
+    
+    private void publish(AuditEvent event) {
+        if (eventBus != null) {
+            eventBus.publish(event);
+        }
+    }
+    
+    // Fills previous with the replaced employees, parallel to the returned list; null for inserts.
+    private List<Employee> applyBatch(Collection<Employee> batch, List<Employee> previous) {
+        Map<String, Employee> unique = new LinkedHashMap<>();
+        for (Employee emp : batch) {
+            checkSalary(emp);
+            unique.put(emp.getId(), emp);
+        }
+        List<Employee> current = new ArrayList<>(unique.values());
+        runExclusive(() -> {
+            // No write is in flight, so the stored values cannot change before the puts below.
+            for (Employee emp : current) {
+                previous.add(employees.get(emp.getId()));
+            }
+            for (EmployeeChangeListener listener : writeAheadListeners) {
+                listener.onBatchChange(previous, current);
+            }
+            for (Employee emp : current) {
+                employees.put(emp.getId(), emp);
+            }
+            listeners.parallelStream().forEach(listener -> listener.onBatchChange(previous, current));
+        });
+        return current;
     }
     
     public void delete(String id) {
-        employees.remove(id);
-        reviews.remove(id);
+        if (id == null) {
+            return;
+        }
+        Lock lock = writeGate.readLock();
+        lock.lock();
+        try {
+            employees.computeIfPresent(id, (key, previous) -> {
+                notifyListeners(previous, null);
+                return null;
+            });
+            reviews.remove(id);
+        } finally {
+            lock.unlock();
+        }
     }
     
-    // GOTCHA #13: No easy way to get first/last elements (before SequencedCollection in Java 21)
-    public Employee getNewestEmployee() {
-        List<Employee> sorted = findAll().stream()
-            .sorted(Comparator.comparing(Employee::getHireDate).reversed())
-            .collect(Collectors.toList());
-        
-        if (sorted.isEmpty()) {
-            return null;
+    /**
+     * Replaces all performance reviews of an employee.
+     */
+    public void saveReviews(String employeeId, List<PerformanceReview> employeeReviews) {
+        List<PerformanceReview> stored = Collections.unmodifiableList(new ArrayList<>(employeeReviews));
+        Lock lock = writeGate.readLock();
+        lock.lock();
+        try {
+            reviews.compute(employeeId, (key, previous) -> {
+                for (EmployeeChangeListener listener : writeAheadListeners) {
+                    listener.onReviewsChange(employeeId, stored);
+                }
+                for (EmployeeChangeListener listener : listeners) {
+                    listener.onReviewsChange(employeeId, stored);
+                }
+                return stored.isEmpty() ? null : stored;
+            });
+        } finally {
+            lock.unlock();
         }
-        return sorted.get(0); // Should use getFirst() in Java 21
+    }
+    
+    /**
+     * Runs {@code action} at a point where no write is in progress; writes
+     * started meanwhile wait until it returns. Every write that completed
+     * before the action is visible to it. Used to cut consistent checkpoints.
+     */
+    public void runExclusive(Runnable action) {
+        Lock lock = writeGate.writeLock();
+        lock.lock();
+        try {
+            action.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    public Employee getNewestEmployee() {
+        return hireDateIndex.last();
     }
     
     public Employee getOldestEmployee() {
-        List<Employee> sorted = findAll().stream()
-            .sorted(Comparator.comparing(Employee::getHireDate))
-            .collect(Collectors.toList());
-        
-        if (sorted.isEmpty()) {
-            return null;
+        return hireDateIndex.first();
+    }
+    
+    /**
+     * Registers a listener for subsequent inserts, updates, deletes and review
+     * changes. Employees already stored are not replayed.
+     */
+    public void addChangeListener(EmployeeChangeListener listener) {
+        listeners.add(listener);
+    }
+    
+    /**
+     * Registers a listener that sees every write before any index or other
+     * listener does. If it throws, the write fails with nothing applied, so a
+     * write-ahead log that cannot append rejects the write instead of leaving
+     * the indexes ahead of the store.
+     */
+    public void addWriteAheadListener(EmployeeChangeListener listener) {
+        writeAheadListeners.add(listener);
+    }
+    
+    public void removeChangeListener(EmployeeChangeListener listener) {
+        writeAheadListeners.remove(listener);
+        listeners.remove(listener);
+    }
+    
+    // Replaces the employee atomically per id and keeps every index in step with the map.
+    private Employee store(Employee employee) {
+        checkSalary(employee);
+        Employee[] replaced = new Employee[1];
+        Lock lock = writeGate.readLock();
+        lock.lock();
+        try {
+            employees.compute(employee.getId(), (key, previous) -> {
+                notifyListeners(previous, employee);
+                replaced[0] = previous;
+                return employee;
+            });
+        } finally {
+            lock.unlock();
         }
-        return sorted.get(0);
+        return replaced[0];
     }
     
+    // Indexes keep salaries in cents, so an amount they cannot hold is rejected before any of them changes.
+    private static void checkSalary(Employee employee) {
+        try {
+            Cents.of(employee.getSalary());
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Invalid salary for employee " + employee.getId()
+                + ": " + employee.getSalary(), e);
+        }
+    }
+    
+    private void notifyListeners(Employee previous, Employee current) {
+        for (EmployeeChangeListener listener : writeAheadListeners) {
+            listener.onChange(previous, current);
+        }
+        for (EmployeeChangeListener listener : listeners) {
+            listener.onChange(previous, current);
+        }
+    }
+    
+    /**
+     * Copies the whole audit log into a list. Prefer {@link #getAuditEvents} for
+     * large or persistent logs.
+     */
     public List<AuditEvent> getAuditLog() {
-        return new ArrayList<>(auditLog);
+        List<AuditEvent> events = new ArrayList<>();
+        for (AuditEvent event : auditLog) {
+            events.add(event);
+        }
+        return events;
+    }
+    
+    /**
+     * Streams audit events with {@code from <= timestamp < to} without copying the log.
+     */
+    public Iterator<AuditEvent> getAuditEvents(LocalDateTime from, LocalDateTime to) {
+        return auditLog.range(from, to);
     }
 }
 
@@ -0,0 +1,55 @@
+package com.example.employee.repository;
+
+import com.example.employee.model.event.AuditEvent;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Heap-only audit log backed by a lock-free queue. Contents are lost on restart.
+ */
+public class InMemoryAuditLog implements AuditLog {
+    private final Queue<AuditEvent> events = new ConcurrentLinkedQueue<>();
+    private final AtomicLong size = new AtomicLong();
+
+    @Override
+    public void append(AuditEvent event) {
+        events.add(event);
+        size.incrementAndGet();
+    }
+
+    @Override
+    public void appendAll(List<? extends AuditEvent> batch) {
+        events.addAll(batch);
+        size.addAndGet(batch.size());
+    }
+
+    @Override
+    public long size() {
+        return size.get();
+    }
+
+    @Override
+    public Iterator<AuditEvent> iterator() {
+        return events.iterator();
+    }
+
+    @Override
+    public Iterator<AuditEvent> range(LocalDateTime from, LocalDateTime to) {
+        List<AuditEvent> matches = new ArrayList<>();
+        for (AuditEvent event : events) {
+            LocalDateTime timestamp = event.getTimestamp();
+            if (!timestamp.isBefore(from) && timestamp.isBefore(to)) {
+                matches.add(event);
+            }
+        }
+        return matches.iterator();
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,77 @@
+package com.example.employee.repository;
+
+import com.example.employee.model.Employee;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free hand-off of employee changes from writers to an index that applies
+ * them under its own lock, so a write inside the repository's per-id
+ * {@code compute} never waits for an index-wide lock.
+ *
+ * <p>Writers {@link #add} the change; readers {@link #drain} the backlog under
+ * the index lock before answering, so every write that returned is visible.
+ * Changes to one id are queued in write order because the repository
+ * serializes them. {@link #version()} counts changes, for caches cut from the
+ * index.
+ */
+final class PendingChanges {
+    /** Backlog at which writers start applying it themselves, when the index lock is free. */
+    static final int DRAIN_THRESHOLD = 1024;
+
+    private final ConcurrentLinkedQueue<Change> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger backlog = new AtomicInteger();
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Applies one change; called by {@link #drain} under the owner's lock.
+     */
+    interface Target {
+        void apply(Employee previous, Employee current);
+    }
+
+    private static final class Change {
+        final Employee previous;
+        final Employee current;
+
+        Change(Employee previous, Employee current) {
+            this.previous = previous;
+            this.current = current;
+        }
+    }
+
+    /**
+     * @return whether the backlog has reached {@link #DRAIN_THRESHOLD}
+     */
+    boolean add(Employee previous, Employee current) {
+        queue.add(new Change(previous, current));
+        version.incrementAndGet();
+        return backlog.incrementAndGet() >= DRAIN_THRESHOLD;
+    }
+
+    /** Marks a change the owner applied directly, e.g. a batch. */
+    void bump() {
+        version.incrementAndGet();
+    }
+
+    long version() {
+        return version.get();
+    }
+
+    boolean isEmpty() {
+        return backlog.get() == 0;
+    }
+
+    /** Applies every queued change in order; the caller holds the owner's lock. */
+    void drain(Target target) {
+        Change change;
+        while ((change = queue.poll()) != null) {
+            backlog.decrementAndGet();
+            target.apply(change.previous, change.current);
+        }
+    }
+}
+
+// Made with Bob
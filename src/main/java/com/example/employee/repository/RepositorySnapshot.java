@@ -0,0 +1,210 @@
+package com.example.employee.repository;
+
+import com.example.employee.exception.EmployeeNotFoundException;
+import com.example.employee.model.Employee;
+import com.example.employee.util.Cents;
+import com.example.employee.util.PersistentHashMap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Immutable view of the employees stored at one version of the repository,
+ * taken in O(1) by {@link EmployeeRepository#snapshot()}.
+ *
+ * <p>Every write creates a new version that shares all unchanged structure with
+ * the previous one, so readers holding a snapshot see one consistent state for
+ * as long as they like while writers carry on; a bulk write becomes visible as
+ * a whole. Headcount and salary totals, overall and per department, are kept
+ * with each version, so they are read without a scan.
+ *
+ * <p>A snapshot can be forked with {@link #with} and {@link #without} to model
+ * what-if scenarios. Forks keep the version they were forked from and cost
+ * memory only for the employees they override.
+ */
+public final class RepositorySnapshot {
+    static final RepositorySnapshot EMPTY =
+        new RepositorySnapshot(PersistentHashMap.empty(), PersistentHashMap.empty(), 0, 0);
+
+    /**
+     * Headcount and salary total of one department.
+     */
+    public static final class DepartmentTotal {
+        private final String department;
+        private final int headcount;
+        private final long totalSalaryCents;
+
+        DepartmentTotal(String department, int headcount, long totalSalaryCents) {
+            this.department = department;
+            this.headcount = headcount;
+            this.totalSalaryCents = totalSalaryCents;
+        }
+
+        public String getDepartment() { return department; }
+        public int getHeadcount() { return headcount; }
+        public double getTotalSalary() { return Cents.toDouble(totalSalaryCents); }
+
+        public double getAverageSalary() {
+            return headcount == 0 ? 0.0 : Cents.toDouble(totalSalaryCents) / headcount;
+        }
+    }
+
+    private final PersistentHashMap<String, Employee> employees;
+    private final PersistentHashMap<String, DepartmentTotal> departments;
+    private final long totalSalaryCents;
+    private final long version;
+
+    private RepositorySnapshot(PersistentHashMap<String, Employee> employees,
+                               PersistentHashMap<String, DepartmentTotal> departments,
+                               long totalSalaryCents, long version) {
+        this.employees = employees;
+        this.departments = departments;
+        this.totalSalaryCents = totalSalaryCents;
+        this.version = version;
+    }
+
+    /**
+     * Number of writes (a bulk write counts once) the repository had applied
+     * when this state was current. Later snapshots have higher versions.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return employees.size();
+    }
+
+    public boolean contains(String id) {
+        return id != null && employees.containsKey(id);
+    }
+
+    public Employee findById(String id) throws EmployeeNotFoundException {
+        Employee emp = id != null ? employees.get(id) : null;
+        if (emp == null) {
+            throw new EmployeeNotFoundException(id);
+        }
+        return emp;
+    }
+
+    /** Employees in no particular order; splits by subtree when made parallel. */
+    public Stream<Employee> stream() {
+        return employees.values();
+    }
+
+    public List<Employee> findAll() {
+        List<Employee> all = new ArrayList<>(employees.size());
+        employees.forEach((id, emp) -> all.add(emp));
+        return all;
+    }
+
+    public List<Employee> findByDepartment(String department) {
+        return stream()
+            .filter(emp -> Objects.equals(emp.getDepartment(), department))
+            .collect(Collectors.toList());
+    }
+
+    public double getTotalSalary() {
+        return Cents.toDouble(totalSalaryCents);
+    }
+
+    public double getAverageSalary() {
+        return employees.isEmpty() ? 0.0 : Cents.toDouble(totalSalaryCents) / employees.size();
+    }
+
+    /** Totals of {@code department}, with a headcount of 0 if it has no employees. */
+    public DepartmentTotal getDepartmentTotal(String department) {
+        DepartmentTotal total = department != null ? departments.get(department) : null;
+        return total != null ? total : new DepartmentTotal(department, 0, 0);
+    }
+
+    /** Totals of every department with employees, by department name. */
+    public Map<String, DepartmentTotal> getDepartmentTotals() {
+        Map<String, DepartmentTotal> all = new TreeMap<>();
+        departments.forEach(all::put);
+        return all;
+    }
+
+    /** Fork with {@code employee} added, or replacing the one with the same id. */
+    public RepositorySnapshot with(Employee employee) {
+        return apply(employees.get(employee.getId()), employee, version);
+    }
+
+    public RepositorySnapshot withAll(Collection<Employee> batch) {
+        RepositorySnapshot result = this;
+        for (Employee emp : batch) {
+            result = result.with(emp);
+        }
+        return result;
+    }
+
+    /** Fork without the employee {@code id}. */
+    public RepositorySnapshot without(String id) {
+        Employee previous = id != null ? employees.get(id) : null;
+        return previous == null ? this : apply(previous, null, version);
+    }
+
+    /**
+     * The next version: this state with {@code previous} replaced by
+     * {@code current}, either of which may be {@code null}.
+     */
+    RepositorySnapshot next(Employee previous, Employee current) {
+        return apply(previous, current, version + 1);
+    }
+
+    /** The next version with a whole batch applied, parallel lists as in {@link EmployeeChangeListener}. */
+    RepositorySnapshot next(List<Employee> previous, List<Employee> current) {
+        RepositorySnapshot result = this;
+        for (int i = 0; i < current.size(); i++) {
+            result = result.apply(previous.get(i), current.get(i), version);
+        }
+        return result.withVersion(version + 1);
+    }
+
+    private RepositorySnapshot withVersion(long newVersion) {
+        return new RepositorySnapshot(employees, departments, totalSalaryCents, newVersion);
+    }
+
+    private RepositorySnapshot apply(Employee previous, Employee current, long newVersion) {
+        PersistentHashMap<String, Employee> updatedEmployees = employees;
+        PersistentHashMap<String, DepartmentTotal> updatedDepartments = departments;
+        long updatedTotal = totalSalaryCents;
+        if (previous != null) {
+            long cents = Cents.of(previous.getSalary());
+            updatedTotal -= cents;
+            updatedDepartments = adjust(updatedDepartments, previous.getDepartment(), -1, -cents);
+            if (current == null) {
+                updatedEmployees = updatedEmployees.minus(previous.getId());
+            }
+        }
+        if (current != null) {
+            long cents = Cents.of(current.getSalary());
+            updatedTotal += cents;
+            updatedDepartments = adjust(updatedDepartments, current.getDepartment(), 1, cents);
+            updatedEmployees = updatedEmployees.plus(current.getId(), current);
+        }
+        return new RepositorySnapshot(updatedEmployees, updatedDepartments, updatedTotal, newVersion);
+    }
+
+    private static PersistentHashMap<String, DepartmentTotal> adjust(
+            PersistentHashMap<String, DepartmentTotal> departments, String department, int headcount, long cents) {
+        if (department == null) {
+            return departments;
+        }
+        DepartmentTotal total = departments.get(department);
+        int newHeadcount = (total == null ? 0 : total.headcount) + headcount;
+        if (newHeadcount == 0) {
+            return departments.minus(department);
+        }
+        long newCents = (total == null ? 0 : total.totalSalaryCents) + cents;
+        return departments.plus(department, new DepartmentTotal(department, newHeadcount, newCents));
+    }
+}
+
+// Made with Bob
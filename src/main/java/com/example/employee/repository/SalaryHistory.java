@@ -0,0 +1,223 @@
+package com.example.employee.repository;
+
+import com.example.employee.model.Employee;
+import com.example.employee.util.Cents;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Salary of every employee the repository has held, over time.
+ *
+ * <p>Each employee has an immutable timeline of (effective time, salary)
+ * points sorted by time, replaced on every change, so readers never lock and a
+ * point-in-time lookup is a binary search. Every salary, including the first
+ * one seen for an employee, takes effect when it is written, as does removal
+ * from the repository. Removed employees keep their timeline so past totals
+ * still include them.
+ *
+ * <p>History lives in memory only. It starts when the repository is created, or
+ * when a store restarts it after recovering state from disk; dates before
+ * {@link #getRecordedSince()} are unknown and their queries return empty.
+ */
+public final class SalaryHistory {
+    private final ConcurrentMap<String, Timeline> timelines = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private volatile long recordedSince;
+
+    SalaryHistory(Clock clock) {
+        this.clock = clock;
+        this.recordedSince = clock.millis();
+    }
+
+    /** Start of the recorded history; earlier salaries are unknown. */
+    public LocalDateTime getRecordedSince() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(recordedSince), clock.getZone());
+    }
+
+    /**
+     * Salary in effect at the end of {@code date}, or empty if the employee was
+     * not employed then or the date is before the recorded history.
+     */
+    public OptionalDouble salaryAsOf(String employeeId, LocalDate date) {
+        long at = endOf(date);
+        Timeline timeline = employeeId != null ? timelines.get(employeeId) : null;
+        if (timeline == null || at < recordedSince) {
+            return OptionalDouble.empty();
+        }
+        double salary = timeline.salaryAt(at);
+        return Double.isNaN(salary) ? OptionalDouble.empty() : OptionalDouble.of(salary);
+    }
+
+    /**
+     * Salary points of one employee effective in {@code [from, to)}, oldest first.
+     */
+    public List<Change> changes(String employeeId, LocalDateTime from, LocalDateTime to) {
+        Timeline timeline = employeeId != null ? timelines.get(employeeId) : null;
+        if (timeline == null) {
+            return Collections.emptyList();
+        }
+        long start = millis(from);
+        long end = millis(to);
+        List<Change> changes = new ArrayList<>();
+        for (int i = timeline.firstAtOrAfter(start); i < timeline.size && timeline.times[i] < end; i++) {
+            changes.add(new Change(employeeId,
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(timeline.times[i]), clock.getZone()),
+                timeline.salaries[i]));
+        }
+        return changes;
+    }
+
+    /**
+     * Sum of the salaries in effect at the end of {@code date}, exact to the cent,
+     * or empty if the date is before the recorded history. Timelines are
+     * evaluated in parallel.
+     */
+    public OptionalDouble totalSalaryAsOf(LocalDate date) {
+        long at = endOf(date);
+        if (at < recordedSince) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of(Cents.toDouble(timelines.values().parallelStream()
+            .mapToLong(timeline -> {
+                double salary = timeline.salaryAt(at);
+                return Double.isNaN(salary) ? 0 : Cents.of(salary);
+            })
+            .sum()));
+    }
+
+    /**
+     * Number of employees with a salary in effect at the end of {@code date}, or
+     * empty if the date is before the recorded history.
+     */
+    public OptionalLong headcountAsOf(LocalDate date) {
+        long at = endOf(date);
+        if (at < recordedSince) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(timelines.values().parallelStream()
+            .filter(timeline -> !Double.isNaN(timeline.salaryAt(at)))
+            .count());
+    }
+
+    EmployeeChangeListener listener() {
+        return this::record;
+    }
+
+    /**
+     * Drops all history and starts again from {@code current}, effective now.
+     * Called with no write in flight.
+     */
+    void restart(Collection<Employee> current) {
+        long now = clock.millis();
+        timelines.clear();
+        for (Employee emp : current) {
+            timelines.put(emp.getId(), new Timeline(now, emp.getSalary()));
+        }
+        recordedSince = now;
+    }
+
+    private void record(Employee previous, Employee current) {
+        if (current == null) {
+            append(previous.getId(), clock.millis(), Double.NaN);
+        } else if (previous == null || Double.compare(previous.getSalary(), current.getSalary()) != 0) {
+            append(current.getId(), clock.millis(), current.getSalary());
+        }
+    }
+
+    private void append(String employeeId, long time, double salary) {
+        timelines.compute(employeeId, (id, timeline) ->
+            timeline == null ? new Timeline(time, salary) : timeline.append(time, salary));
+    }
+
+    private long endOf(LocalDate date) {
+        return millis(date.plusDays(1).atStartOfDay());
+    }
+
+    private long millis(LocalDateTime time) {
+        return time.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * One point of a salary timeline; a NaN salary marks removal from the repository.
+     */
+    public static final class Change {
+        private final String employeeId;
+        private final LocalDateTime effective;
+        private final double salary;
+
+        Change(String employeeId, LocalDateTime effective, double salary) {
+            this.employeeId = employeeId;
+            this.effective = effective;
+            this.salary = salary;
+        }
+
+        public String getEmployeeId() { return employeeId; }
+        public LocalDateTime getEffective() { return effective; }
+        public double getSalary() { return salary; }
+        public boolean isRemoval() { return Double.isNaN(salary); }
+
+        @Override
+        public String toString() {
+            return employeeId + "@" + effective + "=" + (isRemoval() ? "removed" : String.valueOf(salary));
+        }
+    }
+
+    private static final class Timeline {
+        final long[] times;
+        final double[] salaries;
+        final int size;
+
+        Timeline(long time, double salary) {
+            this(new long[] {time}, new double[] {salary}, 1);
+        }
+
+        private Timeline(long[] times, double[] salaries, int size) {
+            this.times = times;
+            this.salaries = salaries;
+            this.size = size;
+        }
+
+        // Copy-on-write; a time earlier than the last point (a clock step back) is moved up to it.
+        Timeline append(long time, double salary) {
+            long[] newTimes = Arrays.copyOf(times, size + 1);
+            double[] newSalaries = Arrays.copyOf(salaries, size + 1);
+            newTimes[size] = Math.max(time, times[size - 1]);
+            newSalaries[size] = salary;
+            return new Timeline(newTimes, newSalaries, size + 1);
+        }
+
+        /** Salary of the last point before {@code time}, NaN if there is none. */
+        double salaryAt(long time) {
+            int index = firstAtOrAfter(time) - 1;
+            return index < 0 ? Double.NaN : salaries[index];
+        }
+
+        int firstAtOrAfter(long time) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (times[mid] < time) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,157 @@
+package com.example.employee.repository;
+
+import com.example.employee.model.Employee;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index from skill name to the employees that have it.
+ *
+ * <p>Every live employee gets a small integer ordinal and each skill keeps a
+ * {@link BitSet} of ordinals, so boolean skill queries are word-wide set
+ * operations rather than scans. Ordinals of deleted employees are reused.
+ * Skill names are matched exactly.
+ *
+ * <p>Single writes are queued through {@link PendingChanges} and applied when
+ * the index is next read, so saves never take the index lock.
+ */
+class SkillIndex implements EmployeeChangeListener {
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private final Map<String, BitSet> postings = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private Employee[] employees = new Employee[64];
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final PendingChanges pending = new PendingChanges();
+
+    @Override
+    public void onChange(Employee previous, Employee current) {
+        if (pending.add(previous, current) && lock.writeLock().tryLock()) {
+            try {
+                pending.drain(this::apply);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @Override
+    public void onBatchChange(List<Employee> previous, List<Employee> current) {
+        lock.writeLock().lock();
+        try {
+            pending.drain(this::apply);
+            for (Employee emp : previous) {
+                apply(emp, null);
+            }
+            for (Employee emp : current) {
+                apply(null, emp);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Employees matching {@code query}, in ordinal order. */
+    List<Employee> find(SkillQuery query) {
+        catchUp();
+        lock.readLock().lock();
+        try {
+            return collect(query.evaluate(this::postingsOrEmpty, live));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    Map<String, List<Employee>> groupBySkill() {
+        catchUp();
+        lock.readLock().lock();
+        try {
+            Map<String, List<Employee>> groups = new HashMap<>();
+            for (Map.Entry<String, BitSet> entry : postings.entrySet()) {
+                groups.put(entry.getKey(), collect(entry.getValue()));
+            }
+            return groups;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void catchUp() {
+        if (!pending.isEmpty()) {
+            lock.writeLock().lock();
+            try {
+                pending.drain(this::apply);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void apply(Employee previous, Employee current) {
+        if (previous != null) {
+            Integer ordinal = ordinals.get(previous.getId());
+            if (ordinal != null) {
+                for (String skill : previous.getSharedSkills()) {
+                    BitSet members = postings.get(skill);
+                    if (members != null) {
+                        members.clear(ordinal);
+                        if (members.isEmpty()) {
+                            postings.remove(skill);
+                        }
+                    }
+                }
+                if (current == null) {
+                    ordinals.remove(previous.getId());
+                    employees[ordinal] = null;
+                    live.clear(ordinal);
+                    freeOrdinals.push(ordinal);
+                }
+            }
+        }
+        if (current != null) {
+            int ordinal = ordinalFor(current.getId());
+            employees[ordinal] = current;
+            live.set(ordinal);
+            for (String skill : current.getSharedSkills()) {
+                postings.computeIfAbsent(skill, s -> new BitSet()).set(ordinal);
+            }
+        }
+    }
+
+    private int ordinalFor(String id) {
+        Integer existing = ordinals.get(id);
+        if (existing != null) {
+            return existing;
+        }
+        int ordinal = freeOrdinals.isEmpty() ? ordinals.size() : freeOrdinals.pop();
+        if (ordinal == employees.length) {
+            employees = Arrays.copyOf(employees, employees.length * 2);
+        }
+        ordinals.put(id, ordinal);
+        return ordinal;
+    }
+
+    private BitSet postingsOrEmpty(String skill) {
+        BitSet members = postings.get(skill);
+        return members != null ? members : new BitSet();
+    }
+
+    private List<Employee> collect(BitSet members) {
+        List<Employee> result = new ArrayList<>(members.cardinality());
+        for (int i = members.nextSetBit(0); i >= 0; i = members.nextSetBit(i + 1)) {
+            result.add(employees[i]);
+        }
+        return result;
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,191 @@
+package com.example.employee.repository;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A parsed boolean skill query such as {@code Java AND AWS NOT Docker} or
+ * {@code (Java OR Kotlin) AND "Spring Boot"}.
+ *
+ * <p>Operators are the upper-case words {@code AND}, {@code OR} and
+ * {@code NOT}; {@code AND} binds tighter than {@code OR}, and {@code NOT}
+ * between two terms means "and not". Adjacent plain words form one skill name,
+ * so {@code Digital Marketing OR SEO} needs no quotes.
+ */
+public final class SkillQuery {
+    private final Node root;
+    private final String text;
+
+    private SkillQuery(Node root, String text) {
+        this.root = root;
+        this.text = text;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the query is empty or malformed
+     */
+    public static SkillQuery parse(String query) {
+        if (query == null || query.trim().isEmpty()) {
+            throw new IllegalArgumentException("Skill query must not be empty");
+        }
+        Parser parser = new Parser(tokenize(query), query);
+        Node root = parser.parseOr();
+        if (!parser.atEnd()) {
+            throw new IllegalArgumentException("Unexpected '" + parser.peek() + "' in skill query: " + query);
+        }
+        return new SkillQuery(root, query);
+    }
+
+    BitSet evaluate(Function<String, BitSet> postings, BitSet universe) {
+        return root.evaluate(postings, universe);
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+
+    private interface Node {
+        // Returns a fresh BitSet the caller may modify.
+        BitSet evaluate(Function<String, BitSet> postings, BitSet universe);
+    }
+
+    private static List<String> tokenize(String query) {
+        List<String> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < query.length()) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')') {
+                tokens.add(String.valueOf(c));
+                i++;
+            } else if (c == '"') {
+                int end = query.indexOf('"', i + 1);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Unterminated quote in skill query: " + query);
+                }
+                tokens.add(query.substring(i, end + 1));
+                i = end + 1;
+            } else {
+                int start = i;
+                while (i < query.length() && !Character.isWhitespace(query.charAt(i))
+                        && "()\"".indexOf(query.charAt(i)) < 0) {
+                    i++;
+                }
+                tokens.add(query.substring(start, i));
+            }
+        }
+        return tokens;
+    }
+
+    private static final class Parser {
+        private final List<String> tokens;
+        private final String query;
+        private int position;
+
+        Parser(List<String> tokens, String query) {
+            this.tokens = tokens;
+            this.query = query;
+        }
+
+        Node parseOr() {
+            Node left = parseAnd();
+            while (accept("OR")) {
+                Node l = left;
+                Node r = parseAnd();
+                left = (postings, universe) -> {
+                    BitSet result = l.evaluate(postings, universe);
+                    result.or(r.evaluate(postings, universe));
+                    return result;
+                };
+            }
+            return left;
+        }
+
+        Node parseAnd() {
+            Node left = parseUnary();
+            while (true) {
+                boolean negate;
+                if (accept("AND")) {
+                    negate = accept("NOT");
+                } else if (accept("NOT")) {
+                    negate = true;
+                } else {
+                    return left;
+                }
+                Node l = left;
+                Node r = parseUnary();
+                left = (postings, universe) -> {
+                    BitSet result = l.evaluate(postings, universe);
+                    if (negate) {
+                        result.andNot(r.evaluate(postings, universe));
+                    } else {
+                        result.and(r.evaluate(postings, universe));
+                    }
+                    return result;
+                };
+            }
+        }
+
+        Node parseUnary() {
+            if (accept("NOT")) {
+                Node operand = parseUnary();
+                return (postings, universe) -> {
+                    BitSet result = (BitSet) universe.clone();
+                    result.andNot(operand.evaluate(postings, universe));
+                    return result;
+                };
+            }
+            if (accept("(")) {
+                Node inner = parseOr();
+                if (!accept(")")) {
+                    throw new IllegalArgumentException("Missing ')' in skill query: " + query);
+                }
+                return inner;
+            }
+            String skill = parseSkill();
+            return (postings, universe) -> (BitSet) postings.apply(skill).clone();
+        }
+
+        private String parseSkill() {
+            if (atEnd() || isOperator(peek()) || peek().equals(")")) {
+                throw new IllegalArgumentException("Expected a skill in skill query: " + query);
+            }
+            String token = tokens.get(position++);
+            if (token.startsWith("\"")) {
+                return token.substring(1, token.length() - 1);
+            }
+            StringBuilder skill = new StringBuilder(token);
+            while (!atEnd() && !isOperator(peek()) && !peek().equals("(") && !peek().equals(")")
+                    && !peek().startsWith("\"")) {
+                skill.append(' ').append(tokens.get(position++));
+            }
+            return skill.toString();
+        }
+
+        private boolean accept(String token) {
+            if (!atEnd() && peek().equals(token)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private static boolean isOperator(String token) {
+            return token.equals("AND") || token.equals("OR") || token.equals("NOT");
+        }
+
+        boolean atEnd() {
+            return position >= tokens.size();
+        }
+
+        String peek() {
+            return tokens.get(position);
+        }
+    }
+}
+
+// Made with Bob
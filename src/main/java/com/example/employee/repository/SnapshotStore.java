@@ -0,0 +1,33 @@
+package com.example.employee.repository;
+
+import com.example.employee.model.Employee;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps the current {@link RepositorySnapshot} in step with every write, so
+ * taking a snapshot is a single volatile read. Writes to different ids race on
+ * a compare-and-set of the current version; each retry only re-copies the
+ * paths it changes.
+ */
+class SnapshotStore implements EmployeeChangeListener {
+    private final AtomicReference<RepositorySnapshot> current = new AtomicReference<>(RepositorySnapshot.EMPTY);
+
+    @Override
+    public void onChange(Employee previous, Employee current) {
+        this.current.updateAndGet(snapshot -> snapshot.next(previous, current));
+    }
+
+    // Batches run with no other write in flight and are published as one version.
+    @Override
+    public void onBatchChange(List<Employee> previous, List<Employee> current) {
+        this.current.updateAndGet(snapshot -> snapshot.next(previous, current));
+    }
+
+    RepositorySnapshot snapshot() {
+        return current.get();
+    }
+}
+
+// Made with Bob
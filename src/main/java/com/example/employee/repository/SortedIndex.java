@@ -0,0 +1,135 @@
+package com.example.employee.repository;
+
+import com.example.employee.model.Employee;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+
+/**
+ * Ordered index over a single comparable employee attribute. Entries are keyed
+ * by (attribute, employee id) so duplicate attribute values are kept apart,
+ * giving O(log n) updates, O(log n + k) range scans and O(log n) first/last.
+ */
+class SortedIndex<K extends Comparable<? super K>> implements EmployeeChangeListener {
+    private final Function<Employee, K> keyExtractor;
+    private final ConcurrentSkipListMap<Key<K>, Employee> entries = new ConcurrentSkipListMap<>();
+
+    SortedIndex(Function<Employee, K> keyExtractor) {
+        this.keyExtractor = keyExtractor;
+    }
+
+    @Override
+    public void onChange(Employee previous, Employee current) {
+        if (previous != null && keyExtractor.apply(previous) != null) {
+            entries.remove(new Key<>(keyExtractor.apply(previous), previous.getId(), Key.EXACT));
+        }
+        if (current != null && keyExtractor.apply(current) != null) {
+            entries.put(new Key<>(keyExtractor.apply(current), current.getId(), Key.EXACT), current);
+        }
+    }
+
+    // Inserting in key order keeps the skip-list search path hot, several times faster than random order.
+    @Override
+    public void onBatchChange(List<Employee> previous, List<Employee> current) {
+        for (Employee emp : previous) {
+            onChange(emp, null);
+        }
+        List<Map.Entry<Key<K>, Employee>> inserts = new ArrayList<>(current.size());
+        for (Employee emp : current) {
+            K key = keyExtractor.apply(emp);
+            if (key != null) {
+                inserts.add(new AbstractMap.SimpleImmutableEntry<>(new Key<>(key, emp.getId(), Key.EXACT), emp));
+            }
+        }
+        inserts.sort(Map.Entry.comparingByKey());
+        for (Map.Entry<Key<K>, Employee> insert : inserts) {
+            entries.put(insert.getKey(), insert.getValue());
+        }
+    }
+
+    /** All employees whose key lies in {@code [from, to]}, in ascending key order. */
+    List<Employee> range(K from, K to) {
+        if (from.compareTo(to) > 0) {
+            return new ArrayList<>();
+        }
+        NavigableMap<Key<K>, Employee> slice = entries.subMap(
+            new Key<>(from, null, Key.BEFORE_ALL), true,
+            new Key<>(to, null, Key.AFTER_ALL), true);
+        return new ArrayList<>(slice.values());
+    }
+
+    /**
+     * Up to {@code limit} employees with key {@code >= min}, walking down from the
+     * largest key: O(log n + limit).
+     */
+    List<Employee> topDescending(int limit, K min) {
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        List<Employee> result = new ArrayList<>(Math.min(limit, 1024));
+        NavigableMap<Key<K>, Employee> slice = entries.tailMap(new Key<>(min, null, Key.BEFORE_ALL), true);
+        for (Employee emp : slice.descendingMap().values()) {
+            result.add(emp);
+            if (result.size() == limit) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    Employee first() {
+        Map.Entry<Key<K>, Employee> entry = entries.firstEntry();
+        return entry == null ? null : entry.getValue();
+    }
+
+    Employee last() {
+        Map.Entry<Key<K>, Employee> entry = entries.lastEntry();
+        return entry == null ? null : entry.getValue();
+    }
+
+    private static final class Key<K extends Comparable<? super K>> implements Comparable<Key<K>> {
+        static final int BEFORE_ALL = -1;
+        static final int EXACT = 0;
+        static final int AFTER_ALL = 1;
+
+        private final K value;
+        private final String id;
+        private final int bound;
+
+        Key(K value, String id, int bound) {
+            this.value = value;
+            this.id = id;
+            this.bound = bound;
+        }
+
+        @Override
+        public int compareTo(Key<K> other) {
+            int cmp = value.compareTo(other.value);
+            if (cmp != 0) {
+                return cmp;
+            }
+            if (bound != EXACT || other.bound != EXACT) {
+                return Integer.compare(bound, other.bound);
+            }
+            return id.compareTo(other.id);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean equals(Object o) {
+            return o instanceof Key && compareTo((Key<K>) o) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode() * 31 + (id == null ? bound : id.hashCode());
+        }
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,42 @@
+package com.example.employee.service;
+
+/**
+ * Tuning knobs for {@link NotificationService#sendPayrollNotificationsAsync}.
+ */
+public class DispatchOptions {
+    private final int maxConcurrency;
+    private final long timeoutMillis;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    
+    /**
+     * @param maxConcurrency       maximum number of emails in flight at once
+     * @param timeoutMillis        per-attempt timeout for a single email
+     * @param maxAttempts          total attempts per email, including the first
+     * @param initialBackoffMillis delay before the first retry; doubled on each further retry
+     */
+    public DispatchOptions(int maxConcurrency, long timeoutMillis, int maxAttempts,
+                           long initialBackoffMillis) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts);
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.timeoutMillis = timeoutMillis;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+    }
+    
+    public static DispatchOptions defaults() {
+        return new DispatchOptions(200, 5_000, 3, 100);
+    }
+    
+    public int getMaxConcurrency() { return maxConcurrency; }
+    public long getTimeoutMillis() { return timeoutMillis; }
+    public int getMaxAttempts() { return maxAttempts; }
+    public long getInitialBackoffMillis() { return initialBackoffMillis; }
+}
+
+// Made with Bob
@@ -0,0 +1,45 @@
+package com.example.employee.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of an asynchronous notification run.
+ */
+public class DispatchResult {
+    private final int succeeded;
+    private final List<String> failedRecipients;
+    private final int skipped;
+    private final long elapsedMillis;
+    
+    public DispatchResult(int succeeded, List<String> failedRecipients, long elapsedMillis) {
+        this(succeeded, failedRecipients, 0, elapsedMillis);
+    }
+    
+    /**
+     * @param skipped number of employees not emailed because they have no address
+     */
+    public DispatchResult(int succeeded, List<String> failedRecipients, int skipped, long elapsedMillis) {
+        this.succeeded = succeeded;
+        this.failedRecipients = Collections.unmodifiableList(new ArrayList<>(failedRecipients));
+        this.skipped = skipped;
+        this.elapsedMillis = elapsedMillis;
+    }
+    
+    public int getSucceeded() { return succeeded; }
+    public int getFailed() { return failedRecipients.size(); }
+    public List<String> getFailedRecipients() { return failedRecipients; }
+    public int getSkipped() { return skipped; }
+    public long getElapsedMillis() { return elapsedMillis; }
+    
+    @Override
+    public String toString() {
+        return "DispatchResult{succeeded=" + succeeded +
+               ", failed=" + failedRecipients.size() +
+               ", skipped=" + skipped +
+               ", elapsedMillis=" + elapsedMillis + '}';
+    }
+}
+
+// Made with Bob
@@ -4,17 +4,32 @@ import com.example.employee.exception.EmployeeNotFoundException;
 import com.example.employee.model.Address;
 import com.example.employee.model.Employee;
 import com.example.employee.model.PerformanceReview;
+import com.example.employee.model.enums.EmploymentType;
+import com.example.employee.repository.ColumnarSnapshot;
 import com.example.employee.repository.EmployeeRepository;
-import com.example.employee.util.DateUtils;
+import com.example.employee.util.TenureCalculator;
+import com.example.employee.util.ValidationUtils;
 
+import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class EmployeeService {
     private final EmployeeRepository repository;
+    private final TenureCalculator tenure;
     
     public EmployeeService(EmployeeRepository repository) {
+        this(repository, TenureCalculator.systemDefault());
+    }
+    
+    /**
+     * @param tenure source of years of service, e.g. on a fixed clock in tests
+     */
+    public EmployeeService(EmployeeRepository repository, TenureCalculator tenure) {
         this.repository = repository;
+        this.tenure = tenure;
     }
     
     // GOTCHA #14: Complex instanceof checks without pattern matching (Java 16+)
@@ -47,9 +62,35 @@ public class EmployeeService {
         }
     }
     
-    // GOTCHA #15: Old-style switch statement (Java 14+ has switch expressions)
     public String getEmployeeStatus(Employee emp) {
-        int yearsOfService = DateUtils.calculateYearsOfService(emp.getHireDate());
+        return statusFor(tenure.yearsOfService(emp.getHireDate()));
+    }
+    
+    /**
+     * Number of employees per status, computed from the hire-date column of the
+     * columnar snapshot without materializing employees.
+     */
+    public Map<String, Long> getStatusCounts() {
+        ColumnarSnapshot snapshot = repository.columnarSnapshot();
+        TenureCalculator.Today today = tenure.current();
+        // Every status is decided by years clamped to [-1, 11], so count those first.
+        long[] byYears = new long[13];
+        for (int row = 0; row < snapshot.size(); row++) {
+            int hireDay = snapshot.hireEpochDay(row);
+            int years = hireDay == ColumnarSnapshot.NO_HIRE_DATE ? 0 : today.yearsOfService(hireDay);
+            byYears[Math.max(-1, Math.min(years, 11)) + 1]++;
+        }
+        Map<String, Long> counts = new TreeMap<>();
+        for (int i = 0; i < byYears.length; i++) {
+            if (byYears[i] > 0) {
+                counts.merge(statusFor(i - 1), byYears[i], Long::sum);
+            }
+        }
+        return counts;
+    }
+    
+    // GOTCHA #15: Old-style switch statement (Java 14+ has switch expressions)
+    private static String statusFor(int yearsOfService) {
         String status;
         
         switch (yearsOfService) {
@@ -102,51 +143,86 @@ public class EmployeeService {
         }
     }
     
-    // GOTCHA #17: Manual limiting instead of Stream.limit()
     public List<Employee> getTopPerformers(int limit) {
-        List<Employee> allEmployees = repository.findAll();
-        List<Employee> sorted = allEmployees.stream()
-            .sorted(Comparator.comparingDouble(Employee::getSalary).reversed())
-            .collect(Collectors.toList());
-        
-        List<Employee> result = new ArrayList<>();
-        for (int i = 0; i < Math.min(limit, sorted.size()); i++) {
-            result.add(sorted.get(i));
-        }
-        return result;
+        return repository.findTopBySalary(limit, Double.NEGATIVE_INFINITY);
     }
     
     public Map<String, Long> getDepartmentCounts() {
-        return repository.findAll().stream()
-            .collect(Collectors.groupingBy(Employee::getDepartment, Collectors.counting()));
+        Map<String, Long> counts = new HashMap<>();
+        for (Map.Entry<String, ColumnarSnapshot.Summary> entry : repository.columnarSnapshot().summarizeByDepartment(null).entrySet()) {
+            counts.put(entry.getKey(), (long) entry.getValue().getCount());
+        }
+        return counts;
     }
     
     public double getAverageSalaryByDepartment(String department) {
-        return repository.findByDepartment(department).stream()
-            .mapToDouble(Employee::getSalary)
-            .average()
-            .orElse(0.0);
+        return repository.columnarSnapshot().summarize(department, null, null, null).getAverageSalary();
     }
     
-    // GOTCHA #18: Complex nested loops and conditionals
-    public Map<String, List<Employee>> groupEmployeesBySkills() {
-        Map<String, List<Employee>> skillMap = new HashMap<>();
-        List<Employee> allEmployees = repository.findAll();
+    /**
+     * Average salary per employment type, computed from the columnar snapshot.
+     */
+    public Map<EmploymentType, Double> getAverageSalaryByEmploymentType() {
+        ColumnarSnapshot snapshot = repository.columnarSnapshot();
+        Map<EmploymentType, Double> averages = new EnumMap<>(EmploymentType.class);
+        for (EmploymentType type : EmploymentType.values()) {
+            ColumnarSnapshot.Summary summary = snapshot.summarize(null, type, null, null);
+            if (summary.getCount() > 0) {
+                averages.put(type, summary.getAverageSalary());
+            }
+        }
+        return averages;
+    }
+    
+    /**
+     * Salary cost of the employees hired in {@code [from, to]}, optionally
+     * restricted to one department.
+     */
+    public double getSalaryCostOfHires(String department, LocalDate from, LocalDate to) {
+        return repository.columnarSnapshot().summarize(department, null, from, to).getTotalSalary();
+    }
+    
+    /**
+     * Validates {@code employees} in parallel and stores the valid ones in one
+     * batch. Every rule is checked for every row, so the result lists all
+     * problems at once. A row whose id repeats an earlier row is rejected.
+     */
+    public ImportResult importEmployees(List<Employee> employees) {
+        long start = System.nanoTime();
+        List<Map<String, String>> validation = IntStream.range(0, employees.size())
+            .parallel()
+            .mapToObj(i -> ValidationUtils.validateEmployee(employees.get(i)))
+            .collect(Collectors.toList());
         
-        for (Employee emp : allEmployees) {
-            List<String> skills = emp.getSkills();
-            for (String skill : skills) {
-                if (!skillMap.containsKey(skill)) {
-                    skillMap.put(skill, new ArrayList<>());
-                }
-                List<Employee> employeesWithSkill = skillMap.get(skill);
-                if (!employeesWithSkill.contains(emp)) {
-                    employeesWithSkill.add(emp);
+        List<ImportResult.RowError> errors = new ArrayList<>();
+        List<Employee> accepted = new ArrayList<>(employees.size());
+        Set<String> seenIds = new HashSet<>(employees.size() * 2);
+        for (int row = 0; row < employees.size(); row++) {
+            Employee emp = employees.get(row);
+            Map<String, String> rowErrors = validation.get(row);
+            if (rowErrors.isEmpty() && !seenIds.add(emp.getId())) {
+                rowErrors = Collections.singletonMap("id", "Duplicate employee id in batch");
+            }
+            if (rowErrors.isEmpty()) {
+                accepted.add(emp);
+            } else {
+                for (Map.Entry<String, String> error : rowErrors.entrySet()) {
+                    errors.add(new ImportResult.RowError(row, emp.getId(), error.getKey(), error.getValue()));
                 }
             }
         }
         
-        return skillMap;
+        int imported = accepted.isEmpty() ? 0 : repository.saveAll(accepted);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        return new ImportResult(imported, employees.size() - accepted.size(), errors, elapsedMillis);
+    }
+    
+    public Map<String, List<Employee>> groupEmployeesBySkills() {
+        return repository.groupBySkill();
+    }
+    
+    public List<Employee> findEmployeesBySkills(String query) {
+        return repository.findBySkills(query);
     }
 }
 
@@ -0,0 +1,71 @@
+package com.example.employee.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a bulk employee import: how many rows were stored and every
+ * validation error found in the rows that were rejected.
+ */
+public class ImportResult {
+    
+    /**
+     * One failed rule for one input row.
+     */
+    public static class RowError {
+        private final int row;
+        private final String employeeId;
+        private final String field;
+        private final String reason;
+        
+        public RowError(int row, String employeeId, String field, String reason) {
+            this.row = row;
+            this.employeeId = employeeId;
+            this.field = field;
+            this.reason = reason;
+        }
+        
+        /** Zero-based position of the row in the imported list. */
+        public int getRow() { return row; }
+        public String getEmployeeId() { return employeeId; }
+        public String getField() { return field; }
+        public String getReason() { return reason; }
+        
+        @Override
+        public String toString() {
+            return "row " + row + " (" + employeeId + ") " + field + ": " + reason;
+        }
+    }
+    
+    private final int imported;
+    private final int rejected;
+    private final List<RowError> errors;
+    private final long elapsedMillis;
+    
+    public ImportResult(int imported, int rejected, List<RowError> errors, long elapsedMillis) {
+        this.imported = imported;
+        this.rejected = rejected;
+        this.errors = Collections.unmodifiableList(new ArrayList<>(errors));
+        this.elapsedMillis = elapsedMillis;
+    }
+    
+    public int getImported() { return imported; }
+    public int getRejected() { return rejected; }
+    public List<RowError> getErrors() { return errors; }
+    public long getElapsedMillis() { return elapsedMillis; }
+    
+    public double getRowsPerSecond() {
+        return elapsedMillis == 0 ? 0.0 : (imported + rejected) * 1000.0 / elapsedMillis;
+    }
+    
+    @Override
+    public String toString() {
+        return "ImportResult{imported=" + imported +
+               ", rejected=" + rejected +
+               ", errors=" + errors.size() +
+               ", elapsedMillis=" + elapsedMillis + '}';
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,14 @@
+package com.example.employee.service;
+
+import java.io.IOException;
+
+/**
+ * Transport used by {@link NotificationService} to deliver a single email.
+ * Implementations are called concurrently and must be thread-safe.
+ */
+@FunctionalInterface
+public interface MailSink {
+    void send(String to, String subject, String body) throws IOException;
+}
+
+// Made with Bob
@@ -1,17 +1,58 @@
 package com.example.employee.service;
 
 import com.example.employee.model.Employee;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 // GOTCHA #23: Synchronous I/O-bound operations (Virtual Threads in Java 21 would help)
 public class NotificationService {
-    
+    private static final String PAYROLL_SUBJECT = "Payroll Processed";
+    private static final String PAYROLL_BODY = "Your payroll for this month has been processed.";
+
+    private final MailSink mailSink;
+    private final ExecutorService executor;
+
+    public NotificationService() {
+        this.mailSink = (to, subject, body) -> sendEmail(to, subject, body);
+        this.executor = defaultExecutor();
+    }
+
+    public NotificationService(MailSink mailSink) {
+        this(mailSink, defaultExecutor());
+    }
+
+    /**
+     * @param mailSink transport used by the async dispatcher
+     * @param executor runs dispatch tasks; should not bound its thread count below
+     *                 twice the configured {@link DispatchOptions#getMaxConcurrency()}
+     */
+    public NotificationService(MailSink mailSink, ExecutorService executor) {
+        this.mailSink = mailSink;
+        this.executor = executor;
+    }
+
     public void sendPayrollNotifications(List<Employee> employees) {
         System.out.println("Sending notifications to " + employees.size() + " employees...");
-        
+
         for (Employee emp : employees) {
-            sendEmail(emp.getEmail(), "Payroll Processed", 
-                     "Your payroll for this month has been processed.");
+            sendEmail(emp.getEmail(), PAYROLL_SUBJECT, PAYROLL_BODY);
             // Simulate slow I/O operation
             try {
                 Thread.sleep(100); // Each email takes 100ms
@@ -19,13 +60,166 @@ public class NotificationService {
                 Thread.currentThread().interrupt();
             }
         }
-        
+
         System.out.println("All notifications sent!");
     }
-    
+
+    /**
+     * Fans payroll emails out over the executor, keeping at most
+     * {@code maxConcurrency} in flight. Each email is retried with exponential
+     * backoff when it fails or exceeds its timeout; an attempt that ignores the
+     * interrupt after a timeout keeps its slot until it returns. Employees without
+     * an email address are skipped. The returned future completes once every
+     * email has either been delivered or exhausted its attempts.
+     */
+    public CompletableFuture<DispatchResult> sendPayrollNotificationsAsync(List<Employee> employees,
+                                                                           DispatchOptions options) {
+        List<String> recipients = new ArrayList<>(employees.size());
+        for (Employee emp : employees) {
+            if (emp.getEmail() != null) {
+                recipients.add(emp.getEmail());
+            }
+        }
+        int skipped = employees.size() - recipients.size();
+
+        CompletableFuture<DispatchResult> result = new CompletableFuture<>();
+        long start = System.nanoTime();
+        Semaphore inFlight = new Semaphore(options.getMaxConcurrency());
+        AtomicInteger succeeded = new AtomicInteger();
+        Queue<String> failed = new ConcurrentLinkedQueue<>();
+
+        executor.execute(() -> {
+            try {
+                for (String to : recipients) {
+                    inFlight.acquire();
+                    try {
+                        executor.execute(() -> {
+                            try {
+                                if (deliver(to, options)) {
+                                    succeeded.incrementAndGet();
+                                } else {
+                                    failed.add(to);
+                                }
+                            } finally {
+                                inFlight.release();
+                            }
+                        });
+                    } catch (RejectedExecutionException e) {
+                        inFlight.release();
+                        throw e;
+                    }
+                }
+                // Every permit back means every submitted email has finished.
+                inFlight.acquire(options.getMaxConcurrency());
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                result.complete(new DispatchResult(succeeded.get(), new ArrayList<>(failed), skipped,
+                    elapsedMillis));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result.completeExceptionally(e);
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    private boolean deliver(String to, DispatchOptions options) {
+        long backoffMillis = options.getInitialBackoffMillis();
+        for (int attempt = 1; attempt <= options.getMaxAttempts(); attempt++) {
+            SendAttempt attemptTask = new SendAttempt(to);
+            Future<Void> send = executor.submit(attemptTask);
+            try {
+                send.get(options.getTimeoutMillis(), TimeUnit.MILLISECONDS);
+                return true;
+            } catch (TimeoutException e) {
+                attemptTask.abandon(send);
+            } catch (ExecutionException e) {
+                // transient failure, fall through to retry
+            } catch (InterruptedException e) {
+                attemptTask.abandon(send);
+                Thread.currentThread().interrupt();
+                return false;
+            }
+
+            if (attempt < options.getMaxAttempts()) {
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+                backoffMillis *= 2;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * One send to the mail sink that can be abandoned after a timeout without
+     * leaving it running unaccounted for.
+     */
+    private final class SendAttempt implements Callable<Void> {
+        private final String to;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CountDownLatch finished = new CountDownLatch(1);
+
+        SendAttempt(String to) {
+            this.to = to;
+        }
+
+        @Override
+        public Void call() throws Exception {
+            if (!claimed.compareAndSet(false, true)) {
+                return null;
+            }
+            try {
+                mailSink.send(to, PAYROLL_SUBJECT, PAYROLL_BODY);
+                return null;
+            } finally {
+                finished.countDown();
+            }
+        }
+
+        // Returns once the sink is no longer being called: the attempt either never starts or has returned.
+        void abandon(Future<Void> future) {
+            if (claimed.compareAndSet(false, true)) {
+                future.cancel(false);
+                return;
+            }
+            future.cancel(true);
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    finished.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
     private void sendEmail(String to, String subject, String body) {
         System.out.println("  Sending email to: " + to);
     }
+
+    // Uses virtual threads when the runtime has them (Java 21+) while still compiling for Java 8.
+    private static ExecutorService defaultExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "notification-dispatch");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
 }
 
 // Made with Bob
@@ -0,0 +1,37 @@
+package com.example.employee.service;
+
+import com.example.employee.model.PayrollRates;
+import com.example.employee.repository.RepositorySnapshot;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * A named what-if for {@link PayrollService#simulate}: overrides applied to a
+ * fork of the live workforce, and the payroll rates to total it with.
+ */
+public class PayrollScenario {
+    private final String name;
+    private final UnaryOperator<RepositorySnapshot> overrides;
+    private final PayrollRates rates;
+
+    /**
+     * @param overrides derives the scenario's workforce from the live snapshot,
+     *                  e.g. {@code s -> s.withAll(newHires)}; must not mutate shared state
+     */
+    public PayrollScenario(String name, UnaryOperator<RepositorySnapshot> overrides, PayrollRates rates) {
+        this.name = name;
+        this.overrides = overrides;
+        this.rates = rates;
+    }
+
+    public String getName() { return name; }
+    public UnaryOperator<RepositorySnapshot> getOverrides() { return overrides; }
+    public PayrollRates getRates() { return rates; }
+
+    @Override
+    public String toString() {
+        return "PayrollScenario{" + name + ", " + rates + '}';
+    }
+}
+
+// Made with Bob
@@ -2,61 +2,241 @@ package com.example.employee.service;
 
 import com.example.employee.exception.EmployeeNotFoundException;
 import com.example.employee.model.Employee;
+import com.example.employee.model.Paycheck;
+import com.example.employee.model.PayrollRates;
+import com.example.employee.model.PayrollSummary;
+import com.example.employee.model.PayrollTotals;
 import com.example.employee.model.PerformanceReview;
+import com.example.employee.repository.ColumnarSnapshot;
 import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.repository.RepositorySnapshot;
+import com.example.employee.util.BoundedCache;
+import com.example.employee.util.CacheStats;
+import com.example.employee.util.Cents;
 import com.example.employee.util.DateUtils;
-import com.example.employee.util.StringUtils;
 
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class PayrollService {
     private final EmployeeRepository repository;
     private static final double TAX_RATE = 0.25;
     private static final double HEALTH_INSURANCE = 500.0;
     private static final double RETIREMENT_PERCENT = 0.05;
+    /** The rates {@link #calculatePay} and {@link #calculatePayrollTotals()} use. */
+    public static final PayrollRates STANDARD_RATES = new PayrollRates(TAX_RATE, HEALTH_INSURANCE, RETIREMENT_PERCENT);
+    private static final ThreadLocal<PaystubRenderer> RENDERERS = ThreadLocal.withInitial(PaystubRenderer::new);
+    
+    private static final int DEFAULT_CACHE_SIZE = 10_000;
+    private static final long DEFAULT_CACHE_TTL_MINUTES = 30;
+    
+    private final BoundedCache<String, Computed<String>> paystubCache;
+    private final BoundedCache<String, Computed<Double>> bonusCache;
     
     public PayrollService(EmployeeRepository repository) {
+        this(repository, DEFAULT_CACHE_SIZE, DEFAULT_CACHE_TTL_MINUTES, TimeUnit.MINUTES);
+    }
+    
+    /**
+     * @param cacheSize  maximum number of cached paystubs, and separately of cached bonuses
+     * @param cacheTtl   how long a cached result may be served after it was computed
+     */
+    public PayrollService(EmployeeRepository repository, int cacheSize, long cacheTtl, TimeUnit unit) {
         this.repository = repository;
+        this.paystubCache = new BoundedCache<>(cacheSize, cacheTtl, unit);
+        this.bonusCache = new BoundedCache<>(cacheSize, cacheTtl, unit);
     }
     
-    // GOTCHA #19: String concatenation instead of Text Blocks (Java 15+)
+    /**
+     * Receives paystubs produced by a bulk payroll run. Called concurrently from
+     * the run's worker threads, so implementations must be thread-safe.
+     */
+    @FunctionalInterface
+    public interface PaystubSink {
+        void accept(String employeeId, String paystub);
+    }
+    
+    /**
+     * Renders the employee's paystub, serving it from cache until the employee
+     * record changes.
+     */
     public String generatePaystub(String employeeId) throws EmployeeNotFoundException {
         Employee emp = repository.findById(employeeId);
-        
-        double grossPay = emp.getSalary() / 12;
-        double taxes = grossPay * TAX_RATE;
-        double retirement = grossPay * RETIREMENT_PERCENT;
-        double netPay = grossPay - taxes - HEALTH_INSURANCE - retirement;
-        
-        String payStub = "========================================\n";
-        payStub += "           PAYROLL STATEMENT            \n";
-        payStub += "========================================\n";
-        payStub += "Employee: " + emp.getFullName() + "\n";
-        payStub += "Employee ID: " + emp.getId() + "\n";
-        payStub += "Department: " + emp.getDepartment() + "\n";
-        payStub += "Position: " + emp.getPosition() + "\n";
-        payStub += "Employment Type: " + emp.getEmploymentType() + "\n";
-        payStub += "----------------------------------------\n";
-        payStub += "Gross Pay:        $" + String.format("%.2f", grossPay) + "\n";
-        payStub += "Taxes (25%):      $" + String.format("%.2f", taxes) + "\n";
-        payStub += "Health Insurance: $" + String.format("%.2f", HEALTH_INSURANCE) + "\n";
-        payStub += "Retirement (5%):  $" + String.format("%.2f", retirement) + "\n";
-        payStub += "----------------------------------------\n";
-        payStub += "Net Pay:          $" + String.format("%.2f", netPay) + "\n";
-        payStub += "========================================\n";
-        payStub += "Payment Method: " + emp.getPaymentInfo().getPaymentMethod() + "\n";
-        payStub += "Bank: " + emp.getPaymentInfo().getBankName() + "\n";
-        payStub += "Account: " + StringUtils.maskSensitiveData(
-            emp.getPaymentInfo().getAccountNumber()) + "\n";
-        payStub += "========================================\n";
-        
-        return payStub;
+        return paystubCache.get(employeeId,
+            cached -> cached.employee == emp,
+            id -> new Computed<>(emp, null, renderPaystub(emp, calculatePay(emp)))).value;
+    }
+    
+    /**
+     * Monthly pay under {@link #STANDARD_RATES}, rounded to the cent exactly as
+     * {@link #calculatePayrollTotals()} rounds it.
+     */
+    public Paycheck calculatePay(Employee emp) {
+        long grossPay = Cents.divide(Cents.of(emp.getSalary()), 12);
+        long taxes = Cents.applyRate(grossPay, STANDARD_RATES.getTaxRateBasisPoints());
+        long retirement = Cents.applyRate(grossPay, STANDARD_RATES.getRetirementBasisPoints());
+        long healthInsurance = STANDARD_RATES.getHealthInsuranceCents();
+        long netPay = grossPay - taxes - healthInsurance - retirement;
+        return new Paycheck(emp.getId(), Cents.toDouble(grossPay), Cents.toDouble(taxes),
+            Cents.toDouble(healthInsurance), Cents.toDouble(retirement), Cents.toDouble(netPay));
+    }
+    
+    /**
+     * Exact monthly payroll totals in cents for the whole workforce.
+     *
+     * <p>Each salary is rounded to cents once; gross pay, taxes and retirement are
+     * then rounded half-up to the cent per employee and net pay is derived from
+     * them, so the totals are exactly the sum of the paychecks
+     * {@link #calculatePay} returns and paystubs show. The
+     * scan runs in parallel over the columnar snapshot and allocates nothing per
+     * employee.
+     */
+    public PayrollTotals calculatePayrollTotals() {
+        ColumnarSnapshot snapshot = repository.columnarSnapshot();
+        return IntStream.range(0, snapshot.size())
+            .parallel()
+            .collect(PayrollTotals::new,
+                (totals, row) -> addPay(totals, Cents.of(snapshot.salary(row)), STANDARD_RATES),
+                PayrollTotals::combine);
+    }
+    
+    /**
+     * Exact monthly payroll totals, as {@link #calculatePayrollTotals()} computes
+     * them, for the employees of {@code snapshot} under {@code rates}.
+     */
+    public PayrollTotals calculatePayrollTotals(RepositorySnapshot snapshot, PayrollRates rates) {
+        return snapshot.stream()
+            .parallel()
+            .collect(PayrollTotals::new,
+                (totals, emp) -> addPay(totals, Cents.of(emp.getSalary()), rates),
+                PayrollTotals::combine);
+    }
+    
+    /**
+     * Forks every scenario from one snapshot of the live workforce and totals
+     * them in parallel. The repository is never written, and each fork holds
+     * only the employees its scenario overrides.
+     *
+     * @return totals keyed by scenario name, in scenario order
+     */
+    public Map<String, PayrollTotals> simulate(List<PayrollScenario> scenarios) {
+        RepositorySnapshot live = repository.snapshot();
+        List<PayrollTotals> totals = scenarios.parallelStream()
+            .map(scenario -> calculatePayrollTotals(scenario.getOverrides().apply(live), scenario.getRates()))
+            .collect(Collectors.toList());
+        Map<String, PayrollTotals> results = new LinkedHashMap<>();
+        for (int i = 0; i < scenarios.size(); i++) {
+            results.put(scenarios.get(i).getName(), totals.get(i));
+        }
+        return results;
+    }
+    
+    private static void addPay(PayrollTotals totals, long annualSalaryCents, PayrollRates rates) {
+        long grossPay = Cents.divide(annualSalaryCents, 12);
+        long taxes = Cents.applyRate(grossPay, rates.getTaxRateBasisPoints());
+        long retirement = Cents.applyRate(grossPay, rates.getRetirementBasisPoints());
+        long healthInsurance = rates.getHealthInsuranceCents();
+        long netPay = grossPay - taxes - healthInsurance - retirement;
+        totals.add(grossPay, taxes, healthInsurance, retirement, netPay);
+    }
+    
+    /**
+     * Runs payroll for the whole workforce on the common fork-join pool.
+     *
+     * @see #runPayroll(int, PaystubSink)
+     */
+    public PayrollSummary runPayroll(PaystubSink sink) {
+        return runPayroll(ForkJoinPool.getCommonPoolParallelism(), sink);
+    }
+    
+    /**
+     * Computes pay for every employee in parallel, streaming each rendered paystub
+     * to {@code sink} as soon as it is produced instead of collecting them.
+     *
+     * @param parallelism number of worker threads to use
+     * @param sink        thread-safe receiver of paystubs, or {@code null} to compute totals only
+     * @return aggregate totals across all employees paid in this run
+     */
+    public PayrollSummary runPayroll(int parallelism, PaystubSink sink) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.submit(() -> repository.stream()
+                .parallel()
+                .collect(PayrollSummary::new,
+                    (summary, emp) -> summary.add(pay(emp, sink)),
+                    PayrollSummary::combine))
+                .join();
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    /**
+     * Streams the paystub of every employee to {@code channel} as UTF-8 text,
+     * rendering and encoding each stub into reused buffers.
+     *
+     * @return aggregate totals across all employees written
+     */
+    public PayrollSummary writePaystubs(WritableByteChannel channel) throws IOException {
+        PaystubRenderer renderer = new PaystubRenderer();
+        PayrollSummary summary = new PayrollSummary();
+        Iterator<Employee> employees = repository.stream().iterator();
+        while (employees.hasNext()) {
+            Employee emp = employees.next();
+            Paycheck paycheck = calculatePay(emp);
+            renderer.write(emp, paycheck, channel);
+            summary.add(paycheck);
+        }
+        renderer.flush(channel);
+        return summary;
+    }
+    
+    private Paycheck pay(Employee emp, PaystubSink sink) {
+        Paycheck paycheck = calculatePay(emp);
+        if (sink != null) {
+            sink.accept(emp.getId(), renderPaystub(emp, paycheck));
+        }
+        return paycheck;
     }
     
+    private String renderPaystub(Employee emp, Paycheck paycheck) {
+        return RENDERERS.get().render(emp, paycheck).toString();
+    }
+    
+    /**
+     * Salary times the average bonus percentage of the employee's reviews, served
+     * from cache until the employee or their reviews change.
+     */
     public double calculateBonus(String employeeId) throws EmployeeNotFoundException {
         Employee emp = repository.findById(employeeId);
         List<PerformanceReview> empReviews = repository.getReviews(employeeId);
-        
+        return bonusCache.get(employeeId,
+            cached -> cached.employee == emp && cached.reviews == empReviews,
+            id -> new Computed<>(emp, empReviews, computeBonus(emp, empReviews))).value;
+    }
+    
+    public CacheStats getPaystubCacheStats() {
+        return paystubCache.stats();
+    }
+    
+    public CacheStats getBonusCacheStats() {
+        return bonusCache.stats();
+    }
+    
+    private static double computeBonus(Employee emp, List<PerformanceReview> empReviews) {
         if (empReviews.isEmpty()) {
             return 0.0;
         }
@@ -69,6 +249,28 @@ public class PayrollService {
         return emp.getSalary() * avgBonusPercent;
     }
     
+    /**
+     * Applies {@link #calculateAdjustedSalary} to the stored employee and saves
+     * the result, which records the change in the salary history.
+     *
+     * @return the updated employee
+     */
+    public Employee applySalaryAdjustment(String employeeId, String adjustmentType)
+            throws EmployeeNotFoundException {
+        Employee emp = repository.findById(employeeId);
+        Employee adjusted = emp.withSalary(calculateAdjustedSalary(emp, adjustmentType));
+        repository.save(adjusted);
+        return adjusted;
+    }
+    
+    /**
+     * Total annual salary of everyone employed at the end of {@code date},
+     * from the salary history, or empty if the date is before the history starts.
+     */
+    public OptionalDouble getAnnualPayrollCostAsOf(LocalDate date) {
+        return repository.salaryHistory().totalSalaryAsOf(date);
+    }
+    
     // GOTCHA #20: Complex switch-like logic that could use switch expressions
     public double calculateAdjustedSalary(Employee emp, String adjustmentType) {
         double baseSalary = emp.getSalary();
@@ -99,6 +301,24 @@ public class PayrollService {
         
         return adjustedSalary;
     }
+    
+    /**
+     * A cached result together with the repository objects it was computed from.
+     * Stored objects are immutable and replaced on every write, so identity
+     * tells whether the result is still current; no repository listener is
+     * needed, and entries of deleted employees age out of the cache.
+     */
+    private static final class Computed<T> {
+        final Employee employee;
+        final List<PerformanceReview> reviews;
+        final T value;
+        
+        Computed(Employee employee, List<PerformanceReview> reviews, T value) {
+            this.employee = employee;
+            this.reviews = reviews;
+            this.value = value;
+        }
+    }
 }
 
 // Made with Bob
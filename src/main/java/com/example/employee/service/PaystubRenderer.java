@@ -0,0 +1,108 @@
+package com.example.employee.service;
+
+import com.example.employee.model.Employee;
+import com.example.employee.model.Paycheck;
+import com.example.employee.model.PaymentInfo;
+import com.example.employee.util.MoneyFormat;
+import com.example.employee.util.Utf8ChannelWriter;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Renders paystubs into a reused {@link StringBuilder} and, for bulk output,
+ * encodes them into a reused byte buffer that is drained to a channel when full.
+ * After warm-up, rendering and writing a stub allocates nothing.
+ *
+ * <p>Not thread-safe; use one renderer per thread.
+ */
+public final class PaystubRenderer {
+    private static final String RULE = "========================================\n";
+    private static final String THIN_RULE = "----------------------------------------\n";
+
+    private final StringBuilder text = new StringBuilder(1024);
+    private final int bufferSize;
+    private Utf8ChannelWriter writer;
+    private WritableByteChannel boundChannel;
+
+    public PaystubRenderer() {
+        this(64 * 1024);
+    }
+
+    public PaystubRenderer(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Renders one paystub. The returned builder is owned by this renderer and is
+     * overwritten by the next call.
+     */
+    public StringBuilder render(Employee emp, Paycheck paycheck) {
+        text.setLength(0);
+        appendPaystub(text, emp, paycheck);
+        return text;
+    }
+
+    /**
+     * Renders one paystub and stages its UTF-8 bytes, writing to {@code channel}
+     * whenever the buffer fills. Call {@link #flush(WritableByteChannel)} at the end.
+     */
+    public void write(Employee emp, Paycheck paycheck, WritableByteChannel channel) throws IOException {
+        writerFor(channel).write(render(emp, paycheck));
+    }
+
+    public void flush(WritableByteChannel channel) throws IOException {
+        writerFor(channel).flush();
+    }
+
+    static void appendPaystub(StringBuilder out, Employee emp, Paycheck paycheck) {
+        PaymentInfo payment = emp.getPaymentInfo();
+        out.append(RULE)
+            .append("           PAYROLL STATEMENT            \n")
+            .append(RULE)
+            .append("Employee: ").append(emp.getFirstName()).append(' ').append(emp.getLastName()).append('\n')
+            .append("Employee ID: ").append(emp.getId()).append('\n')
+            .append("Department: ").append(emp.getDepartment()).append('\n')
+            .append("Position: ").append(emp.getPosition()).append('\n')
+            .append("Employment Type: ").append(emp.getEmploymentType()).append('\n')
+            .append(THIN_RULE);
+        appendAmount(out, "Gross Pay:        $", paycheck.getGrossPay());
+        appendAmount(out, "Taxes (25%):      $", paycheck.getTaxes());
+        appendAmount(out, "Health Insurance: $", paycheck.getHealthInsurance());
+        appendAmount(out, "Retirement (5%):  $", paycheck.getRetirement());
+        out.append(THIN_RULE);
+        appendAmount(out, "Net Pay:          $", paycheck.getNetPay());
+        out.append(RULE)
+            .append("Payment Method: ").append(payment.getPaymentMethod()).append('\n')
+            .append("Bank: ").append(payment.getBankName()).append('\n')
+            .append("Account: ");
+        appendMasked(out, payment.getAccountNumber());
+        out.append('\n').append(RULE);
+    }
+
+    private static void appendAmount(StringBuilder out, String label, double amount) {
+        MoneyFormat.appendMoney(out.append(label), amount).append('\n');
+    }
+
+    // Same output as StringUtils.maskSensitiveData without the intermediate strings.
+    private static void appendMasked(StringBuilder out, String data) {
+        out.append("****");
+        if (data != null && data.length() >= 4) {
+            out.append(data, data.length() - 4, data.length());
+        }
+    }
+
+    // Stays bound to one channel; switching channels first drains the old one.
+    private Utf8ChannelWriter writerFor(WritableByteChannel channel) throws IOException {
+        if (writer == null || boundChannel != channel) {
+            if (writer != null) {
+                writer.flush();
+            }
+            writer = new Utf8ChannelWriter(channel, bufferSize);
+            boundChannel = channel;
+        }
+        return writer;
+    }
+}
+
+// Made with Bob
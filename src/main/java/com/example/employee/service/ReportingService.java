@@ -1,7 +1,10 @@
 package com.example.employee.service;
 
 import com.example.employee.model.Employee;
+import com.example.employee.repository.ColumnarSnapshot;
 import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.repository.RepositorySnapshot;
+import com.example.employee.util.MoneyFormat;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -15,47 +18,58 @@ public class ReportingService {
         this.payrollService = payrollService;
     }
     
-    // GOTCHA #21: Manual calculation instead of Collectors
     public String generateDepartmentReport(String department) {
-        List<Employee> deptEmployees = repository.findByDepartment(department);
+        ColumnarSnapshot.Summary stats = repository.columnarSnapshot().summarize(department, null, null, null);
         
-        if (deptEmployees.isEmpty()) {
+        if (stats.getCount() == 0) {
             return "No employees in department: " + department;
         }
         
-        double totalSalary = 0;
-        double minSalary = Double.MAX_VALUE;
-        double maxSalary = Double.MIN_VALUE;
+        double totalSalary = stats.getTotalSalary();
+        double minSalary = stats.getMinSalary();
+        double maxSalary = stats.getMaxSalary();
+        double avgSalary = stats.getAverageSalary();
         
-        for (Employee emp : deptEmployees) {
-            double salary = emp.getSalary();
-            totalSalary += salary;
-            if (salary < minSalary) {
-                minSalary = salary;
-            }
-            if (salary > maxSalary) {
-                maxSalary = salary;
-            }
-        }
-        
-        double avgSalary = totalSalary / deptEmployees.size();
-        
-        String report = "===========================================\n";
-        report += "      DEPARTMENT REPORT: " + department + "\n";
-        report += "===========================================\n";
-        report += "Total Employees:   " + deptEmployees.size() + "\n";
-        report += "Total Salary Cost: $" + String.format("%.2f", totalSalary) + "\n";
-        report += "Average Salary:    $" + String.format("%.2f", avgSalary) + "\n";
-        report += "Minimum Salary:    $" + String.format("%.2f", minSalary) + "\n";
-        report += "Maximum Salary:    $" + String.format("%.2f", maxSalary) + "\n";
-        report += "===========================================\n";
+        StringBuilder report = new StringBuilder(512);
+        report.append("===========================================\n");
+        report.append("      DEPARTMENT REPORT: ").append(department).append('\n');
+        report.append("===========================================\n");
+        report.append("Total Employees:   ").append(stats.getCount()).append('\n');
+        MoneyFormat.appendMoney(report.append("Total Salary Cost: $"), totalSalary).append('\n');
+        MoneyFormat.appendMoney(report.append("Average Salary:    $"), avgSalary).append('\n');
+        MoneyFormat.appendMoney(report.append("Minimum Salary:    $"), minSalary).append('\n');
+        MoneyFormat.appendMoney(report.append("Maximum Salary:    $"), maxSalary).append('\n');
+        report.append("===========================================\n");
         
-        return report;
+        return report.toString();
+    }
+    
+    /**
+     * Headcount and salary cost per department with company totals, all read
+     * from one repository snapshot so the department rows add up to the totals
+     * even while employees are being saved.
+     */
+    public String generateCompanyReport() {
+        RepositorySnapshot snapshot = repository.snapshot();
+        StringBuilder report = new StringBuilder(1024);
+        report.append("===========================================\n");
+        report.append("      COMPANY REPORT (version ").append(snapshot.getVersion()).append(")\n");
+        report.append("===========================================\n");
+        for (RepositorySnapshot.DepartmentTotal total : snapshot.getDepartmentTotals().values()) {
+            report.append(total.getDepartment()).append(": ").append(total.getHeadcount()).append(" employees, $");
+            MoneyFormat.appendMoney(report, total.getTotalSalary()).append('\n');
+        }
+        report.append("-------------------------------------------\n");
+        report.append("Total Employees:   ").append(snapshot.size()).append('\n');
+        MoneyFormat.appendMoney(report.append("Total Salary Cost: $"), snapshot.getTotalSalary()).append('\n');
+        MoneyFormat.appendMoney(report.append("Average Salary:    $"), snapshot.getAverageSalary()).append('\n');
+        report.append("===========================================\n");
+        return report.toString();
     }
     
     // GOTCHA #22: Imperative style instead of functional/declarative
     public List<String> getEmployeeSummaries() {
-        List<Employee> employees = repository.findAll();
+        List<Employee> employees = repository.snapshot().findAll();
         List<String> summaries = new ArrayList<>();
         
         for (Employee emp : employees) {
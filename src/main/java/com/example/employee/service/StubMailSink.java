@@ -0,0 +1,45 @@
+package com.example.employee.service;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-in for an SMTP relay that only simulates network latency and,
+ * optionally, transient failures. Useful for demos and tests of the async
+ * dispatcher.
+ */
+public class StubMailSink implements MailSink {
+    private final long latencyMillis;
+    private final double failureRate;
+    private final AtomicLong delivered = new AtomicLong();
+    
+    public StubMailSink(long latencyMillis) {
+        this(latencyMillis, 0.0);
+    }
+    
+    public StubMailSink(long latencyMillis, double failureRate) {
+        this.latencyMillis = latencyMillis;
+        this.failureRate = failureRate;
+    }
+    
+    @Override
+    public void send(String to, String subject, String body) throws IOException {
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while sending to " + to, e);
+        }
+        if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+            throw new IOException("Simulated delivery failure for " + to);
+        }
+        delivered.incrementAndGet();
+    }
+    
+    public long getDeliveredCount() {
+        return delivered.get();
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,228 @@
+package com.example.employee.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Size- and time-bounded cache with segmented-LRU eviction.
+ *
+ * <p>New entries enter a probation segment and are promoted to a protected
+ * segment (80% of capacity) on their second hit, so a burst of one-off lookups
+ * cannot flush the entries that are read repeatedly. Entries also expire a
+ * fixed time after they were loaded. Keys are hashed onto independently locked
+ * stripes; values are loaded outside the lock, so two threads missing the same
+ * key at once may both load it.
+ */
+public class BoundedCache<K, V> {
+    private static final int MAX_STRIPES = 16;
+
+    private final Stripe<K, V>[] stripes;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public BoundedCache(int maximumSize, long timeToLive, TimeUnit unit) {
+        this(maximumSize, timeToLive, unit, System::nanoTime);
+    }
+
+    @SuppressWarnings("unchecked")
+    BoundedCache(int maximumSize, long timeToLive, TimeUnit unit, LongSupplier ticker) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        if (timeToLive <= 0) {
+            throw new IllegalArgumentException("timeToLive must be positive: " + timeToLive);
+        }
+        int stripeCount = 1;
+        while (stripeCount < MAX_STRIPES && maximumSize / (stripeCount * 2) >= 64) {
+            stripeCount *= 2;
+        }
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            int capacity = maximumSize / stripeCount + (i < maximumSize % stripeCount ? 1 : 0);
+            stripes[i] = new Stripe<>(capacity);
+        }
+        this.ttlNanos = unit.toNanos(timeToLive);
+        this.ticker = ticker;
+    }
+
+    /**
+     * Returns the cached value for {@code key}, loading and caching it on a miss.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        return get(key, value -> true, loader);
+    }
+
+    /**
+     * Like {@link #get(Object, Function)}, but a cached value rejected by
+     * {@code stillValid} is dropped, counted as an invalidation and reloaded.
+     */
+    public V get(K key, Predicate<? super V> stillValid, Function<? super K, ? extends V> loader) {
+        Stripe<K, V> stripe = stripeFor(key);
+        long now = ticker.getAsLong();
+        synchronized (stripe) {
+            Entry<V> entry = stripe.find(key);
+            if (entry != null) {
+                if (now - entry.expiresAt >= 0) {
+                    stripe.remove(key);
+                    evictions.increment();
+                } else if (!stillValid.test(entry.value)) {
+                    stripe.remove(key);
+                    invalidations.increment();
+                } else {
+                    stripe.promote(key, entry);
+                    hits.increment();
+                    return entry.value;
+                }
+            }
+        }
+        misses.increment();
+        V value = loader.apply(key);
+        put(key, value);
+        return value;
+    }
+
+    public V getIfPresent(K key) {
+        Stripe<K, V> stripe = stripeFor(key);
+        long now = ticker.getAsLong();
+        synchronized (stripe) {
+            Entry<V> entry = stripe.find(key);
+            if (entry == null || now - entry.expiresAt >= 0) {
+                return null;
+            }
+            stripe.promote(key, entry);
+            return entry.value;
+        }
+    }
+
+    public void put(K key, V value) {
+        Stripe<K, V> stripe = stripeFor(key);
+        Entry<V> entry = new Entry<>(value, ticker.getAsLong() + ttlNanos);
+        synchronized (stripe) {
+            evictions.add(stripe.insert(key, entry));
+        }
+    }
+
+    public void invalidate(K key) {
+        Stripe<K, V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            if (stripe.remove(key)) {
+                invalidations.increment();
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                invalidations.add(stripe.size());
+                stripe.clear();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), invalidations.sum(), size());
+    }
+
+    private Stripe<K, V> stripeFor(K key) {
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        return stripes[h & (stripes.length - 1)];
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final long expiresAt;
+
+        Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    // Both segments iterate least recently used first; guarded by the stripe's monitor.
+    private static final class Stripe<K, V> {
+        private final int capacity;
+        private final int protectedCapacity;
+        private final LinkedHashMap<K, Entry<V>> probation = new LinkedHashMap<>();
+        private final LinkedHashMap<K, Entry<V>> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+
+        Stripe(int capacity) {
+            this.capacity = Math.max(1, capacity);
+            this.protectedCapacity = this.capacity * 4 / 5;
+        }
+
+        Entry<V> find(K key) {
+            Entry<V> entry = protectedSegment.get(key);
+            return entry != null ? entry : probation.get(key);
+        }
+
+        void promote(K key, Entry<V> entry) {
+            if (protectedCapacity == 0 || probation.remove(key) == null) {
+                return;
+            }
+            protectedSegment.put(key, entry);
+            if (protectedSegment.size() > protectedCapacity) {
+                Iterator<Map.Entry<K, Entry<V>>> eldest = protectedSegment.entrySet().iterator();
+                Map.Entry<K, Entry<V>> demoted = eldest.next();
+                eldest.remove();
+                probation.put(demoted.getKey(), demoted.getValue());
+            }
+        }
+
+        /** Inserts or replaces an entry and returns how many entries were evicted. */
+        int insert(K key, Entry<V> entry) {
+            if (protectedSegment.containsKey(key)) {
+                protectedSegment.put(key, entry);
+                return 0;
+            }
+            probation.remove(key);
+            probation.put(key, entry);
+            int evicted = 0;
+            while (size() > capacity) {
+                LinkedHashMap<K, Entry<V>> victims = probation.isEmpty() ? protectedSegment : probation;
+                Iterator<K> eldest = victims.keySet().iterator();
+                eldest.next();
+                eldest.remove();
+                evicted++;
+            }
+            return evicted;
+        }
+
+        boolean remove(K key) {
+            return protectedSegment.remove(key) != null || probation.remove(key) != null;
+        }
+
+        int size() {
+            return probation.size() + protectedSegment.size();
+        }
+
+        void clear() {
+            probation.clear();
+            protectedSegment.clear();
+        }
+    }
+}
+
+// Made with Bob
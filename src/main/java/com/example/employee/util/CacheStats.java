@@ -0,0 +1,46 @@
+package com.example.employee.util;
+
+/**
+ * Point-in-time counters of a {@link BoundedCache}.
+ */
+public class CacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long invalidationCount;
+    private final int size;
+    
+    public CacheStats(long hitCount, long missCount, long evictionCount, long invalidationCount, int size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.invalidationCount = invalidationCount;
+        this.size = size;
+    }
+    
+    public long getHitCount() { return hitCount; }
+    public long getMissCount() { return missCount; }
+    /** Entries dropped for size or because their time-to-live ran out. */
+    public long getEvictionCount() { return evictionCount; }
+    /** Entries dropped because the data they were computed from changed. */
+    public long getInvalidationCount() { return invalidationCount; }
+    public int getSize() { return size; }
+    
+    public double getHitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 0.0 : (double) hitCount / requests;
+    }
+    
+    @Override
+    public String toString() {
+        return "CacheStats{" +
+               "hits=" + hitCount +
+               ", misses=" + missCount +
+               ", evictions=" + evictionCount +
+               ", invalidations=" + invalidationCount +
+               ", size=" + size +
+               '}';
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,84 @@
+package com.example.employee.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point money arithmetic on {@code long} amounts of whole cents.
+ *
+ * <p>All operations are static and allocation-free on the normal path. Rounding
+ * is half-up (ties away from zero) and overflow throws
+ * {@link ArithmeticException} instead of wrapping. Rates are given in basis
+ * points, so 25% is {@code 2_500}.
+ */
+public final class Cents {
+    public static final int BASIS_POINTS = 10_000;
+
+    // Below this, a double times 100 still resolves the rounding digit exactly enough.
+    private static final double FAST_PATH_LIMIT = 1e13;
+
+    // Private constructor to prevent instantiation
+    private Cents() {
+    }
+
+    /**
+     * Converts a dollar amount to cents, rounding half-up on its shortest decimal
+     * representation so that {@code of(1.005)} is 101, as with {@code "%.2f"}.
+     */
+    public static long of(double amount) {
+        if (Double.isNaN(amount) || Double.isInfinite(amount)) {
+            throw new ArithmeticException("Not a money amount: " + amount);
+        }
+        double abs = Math.abs(amount);
+        if (abs >= FAST_PATH_LIMIT) {
+            return BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        }
+        double scaled = abs * 100;
+        long cents = (long) scaled;
+        double fraction = scaled - cents;
+        if (Math.abs(fraction - 0.5) <= 4 * Math.ulp(scaled)) {
+            cents = BigDecimal.valueOf(abs).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValue();
+        } else if (fraction > 0.5) {
+            cents++;
+        }
+        return amount < 0 ? -cents : cents;
+    }
+
+    public static double toDouble(long cents) {
+        return cents / 100.0;
+    }
+
+    public static long add(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    public static long subtract(long a, long b) {
+        return Math.subtractExact(a, b);
+    }
+
+    /** {@code cents * basisPoints / 10_000}, rounded half-up. */
+    public static long applyRate(long cents, long basisPoints) {
+        return divide(Math.multiplyExact(cents, basisPoints), BASIS_POINTS);
+    }
+
+    /** {@code cents / divisor}, rounded half-up. */
+    public static long divide(long cents, long divisor) {
+        if (divisor == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+        long quotient = cents / divisor;
+        long remainder = cents % divisor;
+        // Compare 2|r| >= |d| without overflowing either side.
+        if (Math.abs(remainder) >= Math.abs(divisor) - Math.abs(remainder)) {
+            quotient += (cents < 0) == (divisor < 0) ? 1 : -1;
+        }
+        return quotient;
+    }
+
+    /** Basis points for a fractional rate, e.g. {@code 0.25} is 2 500. */
+    public static long basisPoints(double rate) {
+        return Math.round(rate * BASIS_POINTS);
+    }
+}
+
+// Made with Bob
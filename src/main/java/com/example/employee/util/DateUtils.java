@@ -1,7 +1,6 @@
 package com.example.employee.util;
 
 import java.time.LocalDate;
-import java.time.Period;
 import java.time.format.DateTimeFormatter;
 
 public class DateUtils {
@@ -19,10 +18,7 @@ public class DateUtils {
     }
     
     public static int calculateYearsOfService(LocalDate hireDate) {
-        if (hireDate == null) {
-            return 0;
-        }
-        return Period.between(hireDate, LocalDate.now()).getYears();
+        return TenureCalculator.systemDefault().yearsOfService(hireDate);
     }
     
     public static boolean isEligibleForBonus(LocalDate hireDate) {
@@ -1,20 +1,42 @@
 package com.example.employee.util;
 
-import java.util.Random;
-
+/**
+ * Process-wide ids backed by a {@link TimeOrderedIdGenerator}. The node id is
+ * read from the {@code employee.nodeId} system property (default 0) and must
+ * differ between instances that share a store.
+ *
+ * <p>String ids carry the 64-bit id as 16 zero-padded hex digits, so they sort
+ * in generation order.
+ */
 public class IdGenerator {
-    private static final Random random = new Random();
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final TimeOrderedIdGenerator GENERATOR =
+        new TimeOrderedIdGenerator(Integer.getInteger("employee.nodeId", 0));
     
     // Private constructor to prevent instantiation
     private IdGenerator() {
     }
     
+    public static long nextId() {
+        return GENERATOR.nextId();
+    }
+    
     public static String generateEmployeeId() {
-        return "E" + String.format("%05d", random.nextInt(100000));
+        return withPrefix("E", GENERATOR.nextId());
     }
     
     public static String generateEventId() {
-        return "EVT" + System.currentTimeMillis();
+        return withPrefix("EVT", GENERATOR.nextId());
+    }
+    
+    private static String withPrefix(String prefix, long id) {
+        char[] chars = new char[prefix.length() + 16];
+        prefix.getChars(0, prefix.length(), chars, 0);
+        for (int i = chars.length - 1; i >= prefix.length(); i--) {
+            chars[i] = HEX[(int) id & 0xF];
+            id >>>= 4;
+        }
+        return new String(chars);
     }
 }
 
@@ -0,0 +1,47 @@
+package com.example.employee.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonicalizes equal values to one shared instance, like {@link String#intern()}
+ * but in an ordinary, bounded map. Meant for low-cardinality values; once
+ * {@code maximumSize} distinct values are held, new ones are returned as-is
+ * rather than pooled, so a field with unexpectedly many values cannot grow
+ * the pool without limit.
+ */
+public final class Interner<T> {
+    private final ConcurrentHashMap<T, T> pool = new ConcurrentHashMap<>();
+    private final int maximumSize;
+
+    public Interner(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Returns the pooled instance equal to {@code value}, pooling {@code value}
+     * itself if there is none and the pool has room. Null is returned as-is.
+     */
+    public T intern(T value) {
+        if (value == null) {
+            return null;
+        }
+        T pooled = pool.get(value);
+        if (pooled != null) {
+            return pooled;
+        }
+        if (pool.size() >= maximumSize) {
+            return value;
+        }
+        pooled = pool.putIfAbsent(value, value);
+        return pooled != null ? pooled : value;
+    }
+
+    public int size() {
+        return pool.size();
+    }
+}
+
+// Made with Bob
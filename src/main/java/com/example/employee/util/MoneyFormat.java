@@ -0,0 +1,56 @@
+package com.example.employee.util;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+/**
+ * Allocation-free formatting of money amounts with two decimals, producing the
+ * same digits as {@code String.format(Locale.ROOT, "%.2f", amount)}.
+ *
+ * <p>Amounts are rounded half-up to whole cents with {@link Cents#of(double)};
+ * only values whose third decimal sits on a rounding tie take the
+ * {@link BigDecimal} slow path.
+ */
+public final class MoneyFormat {
+    // Beyond this the cents no longer fit comfortably in the fast path.
+    private static final double FAST_PATH_LIMIT = 1e13;
+
+    // Private constructor to prevent instantiation
+    private MoneyFormat() {
+    }
+
+    public static String format(double amount) {
+        return appendMoney(new StringBuilder(16), amount).toString();
+    }
+
+    public static StringBuilder appendMoney(StringBuilder out, double amount) {
+        if (Double.isNaN(amount) || Double.isInfinite(amount) || Math.abs(amount) >= FAST_PATH_LIMIT) {
+            return out.append(String.format(Locale.ROOT, "%.2f", amount));
+        }
+        if (Double.doubleToRawLongBits(amount) < 0) {
+            out.append('-');
+        }
+        return appendCents(out, Math.abs(Cents.of(amount)));
+    }
+
+    /**
+     * Appends an amount held in whole cents.
+     */
+    public static StringBuilder appendCents(StringBuilder out, long cents) {
+        if (cents < 0) {
+            out.append('-');
+            if (cents == Long.MIN_VALUE) {
+                return out.append(BigDecimal.valueOf(cents, 2).negate().toPlainString());
+            }
+            cents = -cents;
+        }
+        long fraction = cents % 100;
+        out.append(cents / 100).append('.');
+        if (fraction < 10) {
+            out.append('0');
+        }
+        return out.append(fraction);
+    }
+}
+
+// Made with Bob
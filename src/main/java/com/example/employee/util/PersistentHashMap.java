@@ -0,0 +1,469 @@
+package com.example.employee.util;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Immutable hash map whose updates return a new map sharing all unchanged
+ * structure with the old one (a compressed hash-array mapped trie).
+ *
+ * <p>Each node covers 5 bits of the key's hash and stores up to 32 slots in an
+ * array sized to the slots in use, inline entries first and child nodes last.
+ * {@link #plus} and {@link #minus} copy only the O(log32 n) nodes on the path to
+ * the key, so a fork is free and each change costs a few small arrays. Keys
+ * whose full hashes collide share a collision node. Null keys and values are
+ * not supported.
+ */
+public final class PersistentHashMap<K, V> {
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(BitmapNode.EMPTY, 0);
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int MAX_SHIFT = 30;
+
+    private final Node<K, V> root;
+    private final int size;
+
+    private PersistentHashMap(Node<K, V> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Value mapped to {@code key}, or {@code null}. */
+    public V get(K key) {
+        return root.get(key, hash(key), 0);
+    }
+
+    public boolean containsKey(K key) {
+        return get(key) != null;
+    }
+
+    /**
+     * @return a map with {@code key} mapped to {@code value}; this map if it
+     *         already held that exact value
+     */
+    public PersistentHashMap<K, V> plus(K key, V value) {
+        Objects.requireNonNull(value, "value");
+        boolean[] added = new boolean[1];
+        Node<K, V> updated = root.put(key, value, hash(key), 0, added);
+        return updated == root ? this : new PersistentHashMap<>(updated, added[0] ? size + 1 : size);
+    }
+
+    /**
+     * @return a map without {@code key}; this map if it had no such key
+     */
+    public PersistentHashMap<K, V> minus(K key) {
+        Node<K, V> updated = root.remove(key, hash(key), 0);
+        return updated == root ? this : new PersistentHashMap<>(updated, size - 1);
+    }
+
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        root.forEach(action);
+    }
+
+    /** Values in no particular order; the stream splits by subtree when parallel. */
+    public Stream<V> values() {
+        return StreamSupport.stream(new NodeSpliterator<K, V, V>(root, size, (k, v) -> v), false);
+    }
+
+    public Stream<K> keys() {
+        return StreamSupport.stream(new NodeSpliterator<K, V, K>(root, size, (k, v) -> k), false);
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private abstract static class Node<K, V> {
+        abstract V get(K key, int hash, int shift);
+
+        /** Returns this node when nothing changed; sets added[0] when the key was new. */
+        abstract Node<K, V> put(K key, V value, int hash, int shift, boolean[] added);
+
+        /** Returns this node when the key was absent. */
+        abstract Node<K, V> remove(K key, int hash, int shift);
+
+        abstract int payloadArity();
+
+        abstract K keyAt(int index);
+
+        abstract V valueAt(int index);
+
+        abstract int nodeArity();
+
+        abstract Node<K, V> nodeAt(int index);
+
+        void forEach(BiConsumer<? super K, ? super V> action) {
+            for (int i = 0; i < payloadArity(); i++) {
+                action.accept(keyAt(i), valueAt(i));
+            }
+            for (int i = 0; i < nodeArity(); i++) {
+                nodeAt(i).forEach(action);
+            }
+        }
+    }
+
+    // slots = [k0, v0, k1, v1, ..., nodeN, ..., node1, node0]; nodes are stored from the end.
+    private static final class BitmapNode<K, V> extends Node<K, V> {
+        static final BitmapNode<?, ?> EMPTY = new BitmapNode<>(0, 0, new Object[0]);
+
+        private final int dataMap;
+        private final int nodeMap;
+        private final Object[] slots;
+
+        BitmapNode(int dataMap, int nodeMap, Object[] slots) {
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.slots = slots;
+        }
+
+        private int dataIndex(int bit) {
+            return Integer.bitCount(dataMap & (bit - 1));
+        }
+
+        private int nodeSlot(int bit) {
+            return slots.length - 1 - Integer.bitCount(nodeMap & (bit - 1));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        V get(K key, int hash, int shift) {
+            int bit = bit(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int index = dataIndex(bit);
+                return key.equals(slots[2 * index]) ? (V) slots[2 * index + 1] : null;
+            }
+            if ((nodeMap & bit) != 0) {
+                return ((Node<K, V>) slots[nodeSlot(bit)]).get(key, hash, shift + BITS);
+            }
+            return null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Node<K, V> put(K key, V value, int hash, int shift, boolean[] added) {
+            int bit = bit(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int index = dataIndex(bit);
+                K existing = (K) slots[2 * index];
+                if (key.equals(existing)) {
+                    if (slots[2 * index + 1] == value) {
+                        return this;
+                    }
+                    Object[] copy = slots.clone();
+                    copy[2 * index + 1] = value;
+                    return new BitmapNode<>(dataMap, nodeMap, copy);
+                }
+                added[0] = true;
+                Node<K, V> child = merge(existing, (V) slots[2 * index + 1], hash(existing),
+                    key, value, hash, shift + BITS);
+                return inlineToNode(bit, index, child);
+            }
+            if ((nodeMap & bit) != 0) {
+                int slot = nodeSlot(bit);
+                Node<K, V> child = (Node<K, V>) slots[slot];
+                Node<K, V> updated = child.put(key, value, hash, shift + BITS, added);
+                if (updated == child) {
+                    return this;
+                }
+                Object[] copy = slots.clone();
+                copy[slot] = updated;
+                return new BitmapNode<>(dataMap, nodeMap, copy);
+            }
+            added[0] = true;
+            int index = dataIndex(bit);
+            Object[] copy = new Object[slots.length + 2];
+            System.arraycopy(slots, 0, copy, 0, 2 * index);
+            copy[2 * index] = key;
+            copy[2 * index + 1] = value;
+            System.arraycopy(slots, 2 * index, copy, 2 * index + 2, slots.length - 2 * index);
+            return new BitmapNode<>(dataMap | bit, nodeMap, copy);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Node<K, V> remove(K key, int hash, int shift) {
+            int bit = bit(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int index = dataIndex(bit);
+                if (!key.equals(slots[2 * index])) {
+                    return this;
+                }
+                Object[] copy = new Object[slots.length - 2];
+                System.arraycopy(slots, 0, copy, 0, 2 * index);
+                System.arraycopy(slots, 2 * index + 2, copy, 2 * index, slots.length - 2 * index - 2);
+                return new BitmapNode<>(dataMap ^ bit, nodeMap, copy);
+            }
+            if ((nodeMap & bit) != 0) {
+                int slot = nodeSlot(bit);
+                Node<K, V> child = (Node<K, V>) slots[slot];
+                Node<K, V> updated = child.remove(key, hash, shift + BITS);
+                if (updated == child) {
+                    return this;
+                }
+                if (updated.nodeArity() == 0 && updated.payloadArity() == 1) {
+                    // Keep the trie canonical: a single remaining entry moves up into this node.
+                    return nodeToInline(bit, slot, updated.keyAt(0), updated.valueAt(0));
+                }
+                Object[] copy = slots.clone();
+                copy[slot] = updated;
+                return new BitmapNode<>(dataMap, nodeMap, copy);
+            }
+            return this;
+        }
+
+        private Node<K, V> inlineToNode(int bit, int index, Node<K, V> child) {
+            int oldSlot = 2 * index;
+            int newSlot = slots.length - 2 - Integer.bitCount(nodeMap & (bit - 1));
+            Object[] copy = new Object[slots.length - 1];
+            System.arraycopy(slots, 0, copy, 0, oldSlot);
+            System.arraycopy(slots, oldSlot + 2, copy, oldSlot, newSlot - oldSlot);
+            copy[newSlot] = child;
+            System.arraycopy(slots, newSlot + 2, copy, newSlot + 1, slots.length - newSlot - 2);
+            return new BitmapNode<>(dataMap ^ bit, nodeMap | bit, copy);
+        }
+
+        private Node<K, V> nodeToInline(int bit, int slot, K key, V value) {
+            int newIndex = 2 * dataIndex(bit);
+            Object[] copy = new Object[slots.length + 1];
+            System.arraycopy(slots, 0, copy, 0, newIndex);
+            copy[newIndex] = key;
+            copy[newIndex + 1] = value;
+            System.arraycopy(slots, newIndex, copy, newIndex + 2, slot - newIndex);
+            System.arraycopy(slots, slot + 1, copy, slot + 2, slots.length - slot - 1);
+            return new BitmapNode<>(dataMap | bit, nodeMap ^ bit, copy);
+        }
+
+        @Override
+        int payloadArity() {
+            return Integer.bitCount(dataMap);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        K keyAt(int index) {
+            return (K) slots[2 * index];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        V valueAt(int index) {
+            return (V) slots[2 * index + 1];
+        }
+
+        @Override
+        int nodeArity() {
+            return Integer.bitCount(nodeMap);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Node<K, V> nodeAt(int index) {
+            return (Node<K, V>) slots[slots.length - 1 - index];
+        }
+    }
+
+    private static <K, V> Node<K, V> merge(K key0, V value0, int hash0, K key1, V value1, int hash1, int shift) {
+        if (shift > MAX_SHIFT) {
+            // Every hash bit is used up, so the hashes are equal.
+            return new CollisionNode<>(hash0, new Object[] {key0, value0, key1, value1});
+        }
+        int bit0 = bit(hash0, shift);
+        int bit1 = bit(hash1, shift);
+        if (bit0 == bit1) {
+            Node<K, V> child = merge(key0, value0, hash0, key1, value1, hash1, shift + BITS);
+            return new BitmapNode<>(0, bit0, new Object[] {child});
+        }
+        Object[] slots = Integer.compareUnsigned(bit0, bit1) < 0
+            ? new Object[] {key0, value0, key1, value1}
+            : new Object[] {key1, value1, key0, value0};
+        return new BitmapNode<>(bit0 | bit1, 0, slots);
+    }
+
+    // Entries whose keys share one full hash, as [k0, v0, k1, v1, ...].
+    private static final class CollisionNode<K, V> extends Node<K, V> {
+        private final int hash;
+        private final Object[] entries;
+
+        CollisionNode(int hash, Object[] entries) {
+            this.hash = hash;
+            this.entries = entries;
+        }
+
+        private int indexOf(K key) {
+            for (int i = 0; i < entries.length; i += 2) {
+                if (key.equals(entries[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        V get(K key, int hash, int shift) {
+            int i = this.hash == hash ? indexOf(key) : -1;
+            return i < 0 ? null : (V) entries[i + 1];
+        }
+
+        @Override
+        Node<K, V> put(K key, V value, int hash, int shift, boolean[] added) {
+            int i = indexOf(key);
+            if (i >= 0) {
+                if (entries[i + 1] == value) {
+                    return this;
+                }
+                Object[] copy = entries.clone();
+                copy[i + 1] = value;
+                return new CollisionNode<>(hash, copy);
+            }
+            added[0] = true;
+            Object[] copy = Arrays.copyOf(entries, entries.length + 2);
+            copy[entries.length] = key;
+            copy[entries.length + 1] = value;
+            return new CollisionNode<>(hash, copy);
+        }
+
+        @Override
+        Node<K, V> remove(K key, int hash, int shift) {
+            int i = this.hash == hash ? indexOf(key) : -1;
+            if (i < 0) {
+                return this;
+            }
+            Object[] copy = new Object[entries.length - 2];
+            System.arraycopy(entries, 0, copy, 0, i);
+            System.arraycopy(entries, i + 2, copy, i, entries.length - i - 2);
+            return new CollisionNode<>(hash, copy);
+        }
+
+        @Override
+        int payloadArity() {
+            return entries.length / 2;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        K keyAt(int index) {
+            return (K) entries[2 * index];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        V valueAt(int index) {
+            return (V) entries[2 * index + 1];
+        }
+
+        @Override
+        int nodeArity() {
+            return 0;
+        }
+
+        @Override
+        Node<K, V> nodeAt(int index) {
+            throw new IndexOutOfBoundsException("Collision nodes have no children");
+        }
+    }
+
+    /**
+     * Depth-first traversal that hands off half of its unvisited subtrees on
+     * each split.
+     */
+    private static final class NodeSpliterator<K, V, T> implements Spliterator<T> {
+        private final ArrayDeque<Node<K, V>> pending = new ArrayDeque<>();
+        private final BiFunction<? super K, ? super V, ? extends T> element;
+        private Node<K, V> current;
+        private int index;
+        private long estimate;
+
+        NodeSpliterator(Node<K, V> root, long estimate, BiFunction<? super K, ? super V, ? extends T> element) {
+            this.element = element;
+            this.estimate = estimate;
+            pending.add(root);
+        }
+
+        private NodeSpliterator(long estimate, BiFunction<? super K, ? super V, ? extends T> element) {
+            this.element = element;
+            this.estimate = estimate;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (true) {
+                if (current != null && index < current.payloadArity()) {
+                    action.accept(element.apply(current.keyAt(index), current.valueAt(index)));
+                    index++;
+                    return true;
+                }
+                if (!open()) {
+                    return false;
+                }
+            }
+        }
+
+        // Starts the next pending node and queues its children.
+        private boolean open() {
+            current = pending.pollFirst();
+            index = 0;
+            if (current == null) {
+                return false;
+            }
+            for (int i = 0; i < current.nodeArity(); i++) {
+                pending.addLast(current.nodeAt(i));
+            }
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (pending.size() == 1 && (current == null || index >= current.payloadArity())) {
+                open();
+            }
+            int handOff = pending.size() / 2;
+            if (handOff == 0) {
+                return null;
+            }
+            NodeSpliterator<K, V, T> split = new NodeSpliterator<>(estimate / 2, element);
+            for (int i = 0; i < handOff; i++) {
+                split.pending.addFirst(pending.pollLast());
+            }
+            estimate -= split.estimate;
+            return split;
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return IMMUTABLE | NONNULL;
+        }
+    }
+}
+
+// Made with Bob
@@ -6,18 +6,18 @@ public class StringUtils {
     private StringUtils() {
     }
     
-    // GOTCHA #11: String concatenation instead of Text Blocks (Java 15+)
     public static String generateReport(String title, String content, String footer) {
-        String report = "========================================\n";
-        report += "         " + title + "\n";
-        report += "========================================\n";
-        report += "\n";
-        report += content;
-        report += "\n";
-        report += "----------------------------------------\n";
-        report += footer + "\n";
-        report += "========================================\n";
-        return report;
+        StringBuilder report = new StringBuilder(256);
+        report.append("========================================\n");
+        report.append("         ").append(title).append('\n');
+        report.append("========================================\n");
+        report.append('\n');
+        report.append(content);
+        report.append('\n');
+        report.append("----------------------------------------\n");
+        report.append(footer).append('\n');
+        report.append("========================================\n");
+        return report.toString();
     }
     
     public static String maskSensitiveData(String data) {
@@ -0,0 +1,117 @@
+package com.example.employee.util;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.Period;
+
+/**
+ * Whole years of service, as {@link Period#between} would count them, without
+ * reading the date or allocating per call.
+ *
+ * <p>"Today" is resolved from the clock once and cached until the clock passes
+ * the next midnight in its zone (or steps back before the cached day). With it
+ * the calculator precomputes each anniversary threshold as an epoch day:
+ * someone hired on or before {@code today.minusYears(n)} has served at least
+ * {@code n} years. A lookup is then a binary search over those thresholds,
+ * which also works directly on the epoch days held by a columnar snapshot.
+ */
+public final class TenureCalculator {
+    private static final int MAX_YEARS = 150;
+    private static final TenureCalculator SYSTEM = new TenureCalculator(Clock.systemDefaultZone());
+
+    private final Clock clock;
+    private volatile Today today;
+
+    public TenureCalculator(Clock clock) {
+        this.clock = clock;
+    }
+
+    /** Shared calculator on the system clock and default zone. */
+    public static TenureCalculator systemDefault() {
+        return SYSTEM;
+    }
+
+    public LocalDate today() {
+        return current().getDate();
+    }
+
+    /**
+     * @return completed years between {@code hireDate} and today, negative for
+     *         future hire dates, or 0 when {@code hireDate} is null
+     */
+    public int yearsOfService(LocalDate hireDate) {
+        if (hireDate == null) {
+            return 0;
+        }
+        return yearsOfService(hireDate.toEpochDay());
+    }
+
+    /**
+     * @see #yearsOfService(LocalDate)
+     */
+    public int yearsOfService(long hireEpochDay) {
+        return current().yearsOfService(hireEpochDay);
+    }
+
+    /**
+     * Thresholds for the current day. Bulk scans should take this once and query
+     * it per row, which skips reading the clock for every employee.
+     */
+    public Today current() {
+        Today now = today;
+        long millis = clock.millis();
+        if (now == null || millis >= now.validUntilMillis || millis < now.validFromMillis) {
+            now = new Today(LocalDate.now(clock), clock);
+            today = now;
+        }
+        return now;
+    }
+
+    /**
+     * Anniversary thresholds of one day.
+     */
+    public static final class Today {
+        private final LocalDate date;
+        private final long validFromMillis;
+        private final long validUntilMillis;
+        // anniversaries[n] = epoch day of date.minusYears(n)
+        private final long[] anniversaries = new long[MAX_YEARS + 1];
+
+        Today(LocalDate date, Clock clock) {
+            this.date = date;
+            this.validFromMillis = date.atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+            this.validUntilMillis = date.plusDays(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+            for (int years = 0; years <= MAX_YEARS; years++) {
+                anniversaries[years] = date.minusYears(years).toEpochDay();
+            }
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+
+        /**
+         * @see TenureCalculator#yearsOfService(LocalDate)
+         */
+        public int yearsOfService(long hireEpochDay) {
+            if (hireEpochDay > anniversaries[0] || hireEpochDay <= anniversaries[MAX_YEARS]) {
+                // Future hire dates or implausibly long service: not worth a threshold table.
+                return Period.between(LocalDate.ofEpochDay(hireEpochDay), date).getYears();
+            }
+            // anniversaries is descending; find the last index whose threshold is >= hireEpochDay.
+            int low = 0;
+            int high = MAX_YEARS;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if (anniversaries[mid] >= hireEpochDay) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return low;
+        }
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,67 @@
+package com.example.employee.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free generator of unique, time-ordered 64-bit ids.
+ *
+ * <p>An id packs, from the high bits down, 41 bits of milliseconds since
+ * 2020-01-01T00:00Z, a 10-bit node id and a 12-bit sequence. Ids from one
+ * generator are strictly increasing: the last timestamp and sequence are kept
+ * in a single {@link AtomicLong} and advanced by compare-and-set, so threads
+ * never block. When more than 4096 ids are taken in one millisecond, or the
+ * clock steps backwards, the generator borrows from the next millisecond
+ * rather than repeating or waiting; ids stay unique and catch up with the
+ * clock once the burst ends. Generators with distinct node ids never collide.
+ */
+public final class TimeOrderedIdGenerator {
+    public static final long EPOCH_MILLIS = 1_577_836_800_000L;
+    public static final int MAX_NODE_ID = (1 << 10) - 1;
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final int NODE_BITS = 10;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeBits;
+    private final LongSupplier clock;
+    // (millis since EPOCH_MILLIS << SEQUENCE_BITS) | sequence of the last id handed out
+    private final AtomicLong last = new AtomicLong();
+
+    public TimeOrderedIdGenerator(int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    TimeOrderedIdGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId must be in [0, " + MAX_NODE_ID + "]: " + nodeId);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+
+    public long nextId() {
+        long floor = (clock.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        long previous;
+        long next;
+        do {
+            previous = last.get();
+            next = Math.max(previous + 1, floor);
+        } while (!last.compareAndSet(previous, next));
+        return (next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS) | nodeBits | (next & SEQUENCE_MASK);
+    }
+
+    public static long timestampMillis(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+
+    public static int nodeId(long id) {
+        return (int) (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+
+    public static int sequence(long id) {
+        return (int) (id & SEQUENCE_MASK);
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,84 @@
+package com.example.employee.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+
+/**
+ * Top-N selection with a bounded heap: O(n log k) time and O(k) space instead
+ * of sorting everything. Results are the first {@code k} elements in the
+ * given order, i.e. what {@code sorted(order).limit(k)} would return.
+ */
+public class TopN {
+
+    // Private constructor to prevent instantiation
+    private TopN() {
+    }
+
+    public static <T> List<T> select(Iterable<? extends T> items, Comparator<? super T> order,
+                                     Predicate<? super T> filter, int k) {
+        Heap<T> heap = new Heap<>(order, k);
+        for (T item : items) {
+            if (filter.test(item)) {
+                heap.offer(item);
+            }
+        }
+        return heap.toSortedList();
+    }
+
+    /**
+     * A collector that keeps only the top {@code k} elements. Works on parallel
+     * streams: each partition fills its own heap and the heaps are merged.
+     */
+    public static <T> Collector<T, ?, List<T>> collector(Comparator<? super T> order, int k) {
+        return Collector.of(
+            () -> new Heap<T>(order, k),
+            Heap::offer,
+            Heap::merge,
+            Heap::toSortedList);
+    }
+
+    private static final class Heap<T> {
+        private final Comparator<? super T> order;
+        private final int k;
+        // Head is the worst element kept, so it is the one evicted.
+        private final PriorityQueue<T> queue;
+
+        Heap(Comparator<? super T> order, int k) {
+            if (k < 0) {
+                throw new IllegalArgumentException("k must not be negative: " + k);
+            }
+            this.order = order;
+            this.k = k;
+            this.queue = new PriorityQueue<>(Math.max(1, Math.min(k, 1024)), Collections.reverseOrder(order));
+        }
+
+        void offer(T item) {
+            if (queue.size() < k) {
+                queue.add(item);
+            } else if (k > 0 && order.compare(item, queue.peek()) < 0) {
+                queue.poll();
+                queue.add(item);
+            }
+        }
+
+        Heap<T> merge(Heap<T> other) {
+            for (T item : other.queue) {
+                offer(item);
+            }
+            return this;
+        }
+
+        List<T> toSortedList() {
+            List<T> result = new ArrayList<>(queue);
+            result.sort(order);
+            return result;
+        }
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,79 @@
+package com.example.employee.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes text as UTF-8 into a reused direct buffer that is drained to a
+ * channel whenever it fills, so writing many records allocates nothing once
+ * the scratch arrays have grown to the largest record.
+ *
+ * <p>Not thread-safe.
+ */
+public final class Utf8ChannelWriter {
+    private final WritableByteChannel channel;
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private final ByteBuffer bytes;
+    private char[] chars = new char[1024];
+    private CharBuffer charView = CharBuffer.wrap(chars);
+
+    public Utf8ChannelWriter(WritableByteChannel channel, int bufferSize) {
+        this.channel = channel;
+        this.bytes = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    public void write(CharSequence text) throws IOException {
+        int length = text.length();
+        if (chars.length < length) {
+            chars = new char[Math.max(length, chars.length * 2)];
+            charView = CharBuffer.wrap(chars);
+        }
+        if (text instanceof StringBuilder) {
+            ((StringBuilder) text).getChars(0, length, chars, 0);
+        } else if (text instanceof String) {
+            ((String) text).getChars(0, length, chars, 0);
+        } else {
+            for (int i = 0; i < length; i++) {
+                chars[i] = text.charAt(i);
+            }
+        }
+        charView.clear().limit(length);
+
+        encoder.reset();
+        while (true) {
+            CoderResult result = encoder.encode(charView, bytes, true);
+            if (result.isOverflow()) {
+                drain();
+            } else if (result.isUnderflow()) {
+                break;
+            } else {
+                result.throwException();
+            }
+        }
+        while (encoder.flush(bytes).isOverflow()) {
+            drain();
+        }
+    }
+
+    /**
+     * Writes everything staged so far to the channel.
+     */
+    public void flush() throws IOException {
+        drain();
+    }
+
+    private void drain() throws IOException {
+        bytes.flip();
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        bytes.clear();
+    }
+}
+
+// Made with Bob
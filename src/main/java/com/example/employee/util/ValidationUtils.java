@@ -1,6 +1,14 @@
 package com.example.employee.util;
 
+import com.example.employee.model.Employee;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
 public class ValidationUtils {
+    private static final Pattern ZIP_CODE = Pattern.compile("\\d{5}(-\\d{4})?");
     
     // Private constructor to prevent instantiation
     private ValidationUtils() {
@@ -21,7 +29,7 @@ public class ValidationUtils {
         if (zipCode == null) {
             return false;
         }
-        return zipCode.matches("\\d{5}") || zipCode.matches("\\d{5}-\\d{4}");
+        return ZIP_CODE.matcher(zipCode).matches();
     }
     
     // GOTCHA #10: Returning null for invalid state instead of Optional
@@ -41,6 +49,41 @@ public class ValidationUtils {
         }
         return null; // null means valid - confusing!
     }
+    
+    /**
+     * Checks every rule for {@code emp} instead of stopping at the first failure.
+     *
+     * @return reason per failing field, in rule order; empty when the employee is valid
+     */
+    public static Map<String, String> validateEmployee(Employee emp) {
+        Map<String, String> errors = Collections.emptyMap();
+        if (emp.getId() == null || emp.getId().isEmpty()) {
+            errors = addError(errors, "id", "Employee id is required");
+        }
+        if (emp.getFirstName() == null || emp.getFirstName().isEmpty()) {
+            errors = addError(errors, "firstName", "First name is required");
+        }
+        if (emp.getLastName() == null || emp.getLastName().isEmpty()) {
+            errors = addError(errors, "lastName", "Last name is required");
+        }
+        if (!isValidEmail(emp.getEmail())) {
+            errors = addError(errors, "email", "Invalid email format");
+        }
+        if (!isValidSalary(emp.getSalary())) {
+            errors = addError(errors, "salary", "Invalid salary amount");
+        }
+        if (emp.getAddress() != null && !isValidZipCode(emp.getAddress().getZipCode())) {
+            errors = addError(errors, "address.zipCode", "Invalid zip code");
+        }
+        return errors;
+    }
+    
+    // Valid rows, the common case, share the empty map instead of allocating one.
+    private static Map<String, String> addError(Map<String, String> errors, String field, String reason) {
+        Map<String, String> result = errors.isEmpty() ? new LinkedHashMap<>() : errors;
+        result.put(field, reason);
+        return result;
+    }
 }
 
 // Made with Bob
@@ -0,0 +1,35 @@
+package com.example.employee;
+
+import com.example.employee.model.Address;
+import com.example.employee.model.Employee;
+import com.example.employee.model.PaymentInfo;
+import com.example.employee.model.enums.EmploymentType;
+import com.example.employee.model.enums.PaymentMethod;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Shared fixtures for building employees in tests.
+ */
+public final class TestData {
+
+    private TestData() {
+    }
+
+    public static Employee employee(String id, String department, double salary,
+                                    LocalDate hireDate, String... skills) {
+        Address address = new Address("1 Test St", "Springfield", "IL", "62701", "USA");
+        PaymentInfo payment = new PaymentInfo("1111222233", "123456789",
+                "Test Bank", PaymentMethod.DIRECT_DEPOSIT);
+        return new Employee(id, "First" + id, "Last" + id, id.toLowerCase() + "@company.com",
+                department, "Engineer", salary, hireDate,
+                address, payment, EmploymentType.FULL_TIME, Arrays.asList(skills));
+    }
+
+    public static Employee employee(String id, String department, double salary) {
+        return employee(id, department, salary, LocalDate.of(2020, 1, 1), "Java");
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,126 @@
+package com.example.employee.compensation;
+
+import com.example.employee.model.Address;
+import com.example.employee.model.Employee;
+import com.example.employee.model.PaymentInfo;
+import com.example.employee.model.enums.EmploymentType;
+import com.example.employee.model.enums.PaymentMethod;
+import com.example.employee.model.event.SalaryChangedEvent;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.repository.InMemoryAuditLog;
+import com.example.employee.service.PayrollService;
+import com.example.employee.util.TenureCalculator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Compensation Engine Tests")
+class CompensationEngineTest {
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 1);
+    private static final TenureCalculator TENURE =
+        new TenureCalculator(Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+
+    @Test
+    @DisplayName("Standard rule sets should match calculateAdjustedSalary for every employee")
+    void shouldMatchCalculateAdjustedSalary() {
+        EmployeeRepository repository = new EmployeeRepository(new InMemoryAuditLog(), true);
+        PayrollService payroll = new PayrollService(repository);
+        CompensationEngine engine = new CompensationEngine(repository);
+
+        for (String type : Arrays.asList("COST_OF_LIVING", "MERIT", "PROMOTION", "UNKNOWN")) {
+            AdjustmentProposal proposal = engine.propose(CompensationRules.forAdjustmentType(type));
+            assertThat(proposal.size()).isEqualTo(repository.findAll().size());
+            for (int row = 0; row < proposal.size(); row++) {
+                Employee emp = proposal.employee(row);
+                assertThat(proposal.proposedSalary(row))
+                    .as("%s for %s", type, emp.getId())
+                    .isEqualTo(payroll.calculateAdjustedSalary(emp, type));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Combined rules should multiply factors and total budgets per department")
+    void shouldCombineRulesAndTotalBudgets() {
+        EmployeeRepository repository = new EmployeeRepository(new InMemoryAuditLog(), false);
+        repository.saveAll(Arrays.asList(
+            employee("A", "Eng", "Senior Engineer", 100_000, TODAY.minusYears(6)),
+            employee("B", "Eng", "Engineer", 80_000, TODAY.minusYears(3)),
+            employee("C", "Ops", "Team Lead", 50_000, TODAY.minusYears(3).plusDays(1)),
+            employee("D", "Ops", "Analyst", 40_000, null)));
+        Map<String, Double> levels = Collections.singletonMap("Lead", 1.10);
+        CompensationRules rules = CompensationRules.of(
+            AdjustmentRule.costOfLiving(1.02),
+            CompensationRules.MERIT.getRules().get(0),
+            AdjustmentRule.promotionByPosition(levels, 1.0));
+
+        AdjustmentProposal proposal = new CompensationEngine(repository, TENURE).propose(rules);
+
+        Map<String, Double> proposed = new HashMap<>();
+        for (int row = 0; row < proposal.size(); row++) {
+            proposed.put(proposal.employee(row).getId(), proposal.proposedSalary(row));
+        }
+        assertThat(proposed.get("A")).isCloseTo(100_000 * 1.02 * 1.10, within(1e-6));
+        assertThat(proposed.get("B")).isCloseTo(80_000 * 1.02 * 1.07, within(1e-6));
+        assertThat(proposed.get("C")).isCloseTo(50_000 * 1.02 * 1.05 * 1.10, within(1e-6));
+        assertThat(proposed.get("D")).isCloseTo(40_000 * 1.02 * 1.05, within(1e-6));
+        assertThat(proposal.getDate()).isEqualTo(TODAY);
+
+        AdjustmentProposal.DepartmentBudget eng = proposal.getDepartmentBudgets().get("Eng");
+        assertThat(proposal.getDepartmentBudgets()).containsOnlyKeys("Eng", "Ops");
+        assertThat(eng.getHeadcount()).isEqualTo(2);
+        assertThat(eng.getCurrentTotal()).isEqualTo(180_000.0);
+        assertThat(eng.getProposedTotal()).isEqualTo(112_200.0 + 87_312.0);
+        assertThat(eng.getIncrease()).isEqualTo(19_512.0);
+        assertThat(proposal.getTotal().getHeadcount()).isEqualTo(4);
+        assertThat(proposal.getTotal().getCurrentTotal()).isEqualTo(270_000.0);
+        assertThat(proposal.getTotal().getProposedTotal()).isEqualTo(112_200.0 + 87_312.0 + 58_905.0 + 42_840.0);
+    }
+
+    @Test
+    @DisplayName("Proposals should leave the repository unchanged until committed, and skip stale rows")
+    void shouldCommitOnlyUnchangedEmployees() throws Exception {
+        EmployeeRepository repository = new EmployeeRepository(new InMemoryAuditLog(), false);
+        repository.saveAll(Arrays.asList(
+            employee("A", "Eng", "Engineer", 100_000, TODAY.minusYears(1)),
+            employee("B", "Eng", "Engineer", 80_000, TODAY.minusYears(1)),
+            employee("C", "Eng", "Engineer", 60_000, TODAY.minusYears(1))));
+        CompensationEngine engine = new CompensationEngine(repository, TENURE);
+
+        AdjustmentProposal proposal = engine.propose(CompensationRules.COST_OF_LIVING);
+        assertThat(repository.findById("A").getSalary()).isEqualTo(100_000.0);
+
+        repository.save(repository.findById("B").withSalary(85_000));
+        repository.delete("C");
+        assertThat(engine.commit(proposal)).isEqualTo(1);
+        assertThat(engine.commit(proposal)).isZero();
+
+        assertThat(repository.findById("A").getSalary()).isEqualTo(100_000 * 1.03);
+        assertThat(repository.findById("B").getSalary()).isEqualTo(85_000.0);
+        assertThat(repository.getAuditLog()).filteredOn(event -> event instanceof SalaryChangedEvent)
+            .extracting(event -> ((SalaryChangedEvent) event).getEmployeeId())
+            .containsExactlyInAnyOrder("A", "B");
+        assertThat(repository.salaryHistory().salaryAsOf("A", LocalDate.now())).hasValue(100_000 * 1.03);
+    }
+
+    private static Employee employee(String id, String department, String position, double salary,
+                                     LocalDate hireDate) {
+        Address address = new Address("1 Test St", "Springfield", "IL", "62701", "USA");
+        PaymentInfo payment = new PaymentInfo("1111222233", "123456789",
+                "Test Bank", PaymentMethod.DIRECT_DEPOSIT);
+        return new Employee(id, "First" + id, "Last" + id, id.toLowerCase() + "@company.com",
+                department, position, salary, hireDate,
+                address, payment, EmploymentType.FULL_TIME, Arrays.asList("Java"));
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,136 @@
+package com.example.employee.eventbus;
+
+import com.example.employee.model.event.AuditEvent;
+import com.example.employee.model.event.EmployeeCreatedEvent;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.repository.InMemoryAuditLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.example.employee.TestData.employee;
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Event Bus Tests")
+class EventBusTest {
+
+    @Test
+    @DisplayName("Every subscriber should see every event in per-producer order, in batches")
+    void shouldDeliverAllEventsFromManyProducers() throws Exception {
+        for (WaitStrategy strategy : Arrays.asList(WaitStrategy.yielding(), WaitStrategy.sleeping(),
+                WaitStrategy.blocking())) {
+            int producers = 4;
+            int perProducer = 50_000;
+            EventBus<long[]> bus = new EventBus<>(1024, strategy, Backpressure.BLOCK);
+            OrderCheckingHandler first = new OrderCheckingHandler(producers);
+            OrderCheckingHandler second = new OrderCheckingHandler(producers);
+            bus.subscribe("first", first);
+            bus.subscribe("second", second);
+
+            List<Thread> threads = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                long producer = p;
+                threads.add(new Thread(() -> {
+                    for (long i = 0; i < perProducer; i++) {
+                        assertThat(bus.publish(new long[] {producer, i})).isTrue();
+                    }
+                }));
+            }
+            threads.forEach(Thread::start);
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            bus.close();
+
+            for (OrderCheckingHandler handler : Arrays.asList(first, second)) {
+                assertThat(handler.received).isEqualTo(producers * perProducer);
+                assertThat(handler.outOfOrder).isZero();
+                assertThat(handler.batches).isPositive().isLessThanOrEqualTo(handler.received);
+            }
+            assertThat(bus.getDroppedCount()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("A full ring should drop under DROP backpressure and a failing handler should keep consuming")
+    void shouldDropWhenFullAndSurviveHandlerFailures() throws Exception {
+        EventBus<Integer> bus = new EventBus<>(8, WaitStrategy.blocking(), Backpressure.DROP);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicLong handled = new AtomicLong();
+        bus.subscribe("slow", (event, sequence, endOfBatch) -> {
+            release.await();
+            handled.incrementAndGet();
+            if (event == 3) {
+                throw new IllegalStateException("boom");
+            }
+        });
+
+        int accepted = 0;
+        for (int i = 0; i < 20; i++) {
+            if (bus.publish(i)) {
+                accepted++;
+            }
+        }
+        assertThat(accepted).isEqualTo(8);
+        assertThat(bus.getDroppedCount()).isEqualTo(12);
+
+        release.countDown();
+        bus.close();
+        assertThat(handled.get()).isEqualTo(8);
+        assertThat(bus.getHandlerFailures()).isEqualTo(1);
+        assertThatThrownBy(() -> bus.publish(99)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("The repository should publish its audit events to the bus")
+    void shouldPublishRepositoryAuditEvents() throws Exception {
+        EventBus<AuditEvent> bus = new EventBus<>(1024, WaitStrategy.blocking(), Backpressure.BLOCK);
+        List<String> employeeIds = new ArrayList<>();
+        CountDownLatch received = new CountDownLatch(3);
+        bus.subscribe("search-sync", (event, sequence, endOfBatch) -> {
+            employeeIds.add(((EmployeeCreatedEvent) event).getEmployeeId());
+            received.countDown();
+        });
+        EmployeeRepository repository = new EmployeeRepository(new InMemoryAuditLog(), false, bus);
+
+        repository.save(employee("B1", "Eng", 1.0));
+        repository.saveAll(Arrays.asList(employee("B2", "Eng", 1.0), employee("B3", "Eng", 1.0)));
+
+        assertThat(received.await(5, TimeUnit.SECONDS)).isTrue();
+        bus.close();
+        assertThat(employeeIds).containsExactly("B1", "B2", "B3");
+    }
+
+    private static final class OrderCheckingHandler implements EventHandler<long[]> {
+        private final long[] lastSeen;
+        long received;
+        long outOfOrder;
+        long batches;
+
+        OrderCheckingHandler(int producers) {
+            lastSeen = new long[producers];
+            Arrays.fill(lastSeen, -1);
+        }
+
+        @Override
+        public void onEvent(long[] event, long sequence, boolean endOfBatch) {
+            int producer = (int) event[0];
+            if (event[1] != lastSeen[producer] + 1) {
+                outOfOrder++;
+            }
+            lastSeen[producer] = event[1];
+            received++;
+            if (endOfBatch) {
+                batches++;
+            }
+        }
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,120 @@
+package com.example.employee.io;
+
+import com.example.employee.model.Employee;
+import com.example.employee.model.PaymentInfo;
+import com.example.employee.model.enums.EmploymentType;
+import com.example.employee.model.enums.PaymentMethod;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.repository.InMemoryAuditLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.example.employee.TestData.employee;
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Workforce Import/Export Tests")
+class WorkforceExchangeTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Export then parallel import should reproduce every employee, line breaks included, in both formats")
+    void shouldRoundTripThroughFileInParallel() throws Exception {
+        for (ExchangeFormat format : ExchangeFormat.values()) {
+            roundTripThroughFile(format);
+        }
+    }
+
+    @Test
+    @DisplayName("Sequential import should accept line breaks inside field values in both formats")
+    void shouldRoundTripEmbeddedLineBreaks() throws IOException {
+        for (ExchangeFormat format : ExchangeFormat.values()) {
+            roundTripEmbeddedLineBreaks(format);
+        }
+    }
+
+    private void roundTripThroughFile(ExchangeFormat format) throws Exception {
+        EmployeeRepository source = new EmployeeRepository();
+        List<Employee> rows = new ArrayList<>();
+        String padding = String.join("\n", Collections.nCopies(40, "continued"));
+        for (int i = 0; i < 20_000; i++) {
+            rows.add(employee("X" + i, "Dept " + (i % 7), 40_000 + i * 0.01,
+                LocalDate.of(2010, 1, 1).plusDays(i % 4000), "Java", "Go, \"Rust\"", "C|C++"));
+            if (i % 3 == 0) {
+                // Long quoted line breaks in CSV, so split points land inside records.
+                rows.add(tricky("M" + i, "line one\nline, \"two\"\r\n" + padding + i));
+            }
+        }
+        rows.add(tricky("T1", "Smith, \"Jr\""));
+        source.saveAll(rows);
+
+        Path file = directory.resolve("workforce." + format.name().toLowerCase());
+        long exported = WorkforceExporter.export(source, file, format);
+
+        EmployeeRepository target = new EmployeeRepository(new InMemoryAuditLog(), false);
+        long imported = WorkforceImporter.importInto(target, file, format, 4);
+
+        assertThat(imported).isEqualTo(exported).isEqualTo(source.findAll().size());
+        for (Employee expected : source.findAll()) {
+            Employee actual = target.findById(expected.getId());
+            assertThat(actual).isEqualTo(expected);
+            assertThat(actual.getSalary()).isEqualTo(expected.getSalary());
+        }
+    }
+
+    private static void roundTripEmbeddedLineBreaks(ExchangeFormat format) throws IOException {
+        Employee emp = tricky("T2", "line one\nline two\r\nline three");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        WorkforceExporter.export(Collections.singletonList(emp).iterator(), Channels.newChannel(bytes), format);
+
+        List<Employee> read = new ArrayList<>();
+        WorkforceImporter.read(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())),
+            format, 10, read::addAll);
+
+        assertThat(read).containsExactly(emp);
+        assertThat(read.get(0).getLastName()).isEqualTo(emp.getLastName());
+        assertThat(read.get(0).getAddress()).isNull();
+        assertThat(read.get(0).getSkills()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Malformed records should fail with their byte offset")
+    void shouldReportOffsetOfMalformedRecord() throws IOException {
+        ExchangeFormat format = ExchangeFormat.CSV;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        WorkforceExporter.export(Arrays.asList(employee("A1", "Eng", 1.0)).iterator(),
+            Channels.newChannel(bytes), format);
+        int offset = bytes.size();
+        bytes.write("A2,too,few,columns\n".getBytes(StandardCharsets.UTF_8));
+        Path file = directory.resolve("broken.csv");
+        Files.write(file, bytes.toByteArray());
+
+        assertThatThrownBy(() -> WorkforceImporter.read(file, format, 1, 10, batch -> { }))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("byte " + offset);
+    }
+
+    private static Employee tricky(String id, String lastName) {
+        return new Employee(id, "Zoë", lastName, "", "R&D, \"Labs\"", null, 1234.5,
+            null, null,
+            new PaymentInfo("1111222233", "123456789", "Bank\\of|Tests", PaymentMethod.CHECK),
+            EmploymentType.CONTRACT, Collections.emptyList());
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,58 @@
+package com.example.employee.metrics;
+
+import com.example.employee.exception.EmployeeNotFoundException;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.service.PayrollService;
+import com.example.employee.service.ReportingService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Service Instrumentation Tests")
+class InstrumentationTest {
+
+    @Test
+    @DisplayName("Decorated repository and services should record calls and misses")
+    void shouldRecordCallsThroughDecorators() throws Exception {
+        MetricsRegistry metrics = new MetricsRegistry();
+        EmployeeRepository repository = new InstrumentedEmployeeRepository(metrics);
+        PayrollService payroll = new InstrumentedPayrollService(repository, metrics);
+        ReportingService reporting = new InstrumentedReportingService(repository, payroll, metrics);
+
+        payroll.generatePaystub("E001");
+        payroll.generatePaystub("E002");
+        reporting.generateDepartmentReport("Engineering");
+        assertThatThrownBy(() -> repository.findById("missing"))
+            .isInstanceOf(EmployeeNotFoundException.class);
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.getTimers().get("payroll.generatePaystub").getCount()).isEqualTo(2);
+        // Two lookups made by the paystubs plus the failed one.
+        assertThat(snapshot.getTimers().get("repository.findById").getCount()).isEqualTo(3);
+        assertThat(snapshot.getTimers().get("reporting.generateDepartmentReport").getCount()).isEqualTo(1);
+        assertThat(snapshot.getCounters()).containsEntry("repository.findById.notFound", 1L);
+        assertThat(snapshot.getTimers().get("payroll.generatePaystub").getValueAtPercentile(99)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Snapshots should export as text lines and JSON")
+    void shouldExportTextAndJson() {
+        MetricsRegistry metrics = new MetricsRegistry();
+        Timer timer = metrics.timer("repository.findById");
+        timer.record(1_500);
+        timer.record(2_500);
+        metrics.counter("repository.findById.notFound").add(3);
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.toText()).isEqualTo(
+            "repository.findById count=2 mean=2.00us p50=1.50us p99=2.56us p999=2.56us max=2.56us\n"
+                + "repository.findById.notFound count=3\n");
+        assertThat(snapshot.toJson()).isEqualTo(
+            "{\"timers\":{\"repository.findById\":{\"count\":2,\"meanUs\":2.00,\"p50Us\":1.50,"
+                + "\"p99Us\":2.56,\"p999Us\":2.56,\"maxUs\":2.56}},"
+                + "\"counters\":{\"repository.findById.notFound\":3}}");
+    }
+}
+
+// Made with Bob
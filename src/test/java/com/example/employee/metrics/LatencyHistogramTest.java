@@ -0,0 +1,57 @@
+package com.example.employee.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Latency Histogram Tests")
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Bucket bounds should cover every long within 1/32 relative error")
+    void shouldBucketWithBoundedRelativeError() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextLong() >>> (1 + random.nextInt(63));
+            int bucket = LatencyHistogram.bucketOf(value);
+            long high = LatencyHistogram.highestValueIn(bucket);
+            assertThat(high).isGreaterThanOrEqualTo(value);
+            assertThat((double) (high - value)).isLessThanOrEqualTo(value / 32.0);
+            if (bucket > 0) {
+                assertThat(LatencyHistogram.highestValueIn(bucket - 1)).isLessThan(value);
+            }
+        }
+        assertThat(LatencyHistogram.bucketOf(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.BUCKETS - 1);
+    }
+
+    @Test
+    @DisplayName("Percentiles should match a known distribution recorded from many threads")
+    void shouldReportPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        IntStream.rangeClosed(1, 100_000).parallel().forEach(histogram::record);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.getCount()).isEqualTo(100_000);
+        assertThat(snapshot.getTotal()).isEqualTo(100_000L * 100_001 / 2);
+        assertThat(snapshot.getMin()).isEqualTo(1);
+        assertThat(snapshot.getValueAtPercentile(50)).isBetween(50_000L, 51_600L);
+        assertThat(snapshot.getValueAtPercentile(99)).isBetween(99_000L, 102_100L);
+        assertThat(snapshot.getValueAtPercentile(99.9)).isBetween(99_900L, 102_100L);
+        assertThat(snapshot.getMax()).isBetween(100_000L, 102_100L);
+    }
+
+    @Test
+    @DisplayName("An empty histogram should report zeros")
+    void shouldReportZerosWhenEmpty() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+        assertThat(snapshot.getCount()).isZero();
+        assertThat(snapshot.getValueAtPercentile(99)).isZero();
+        assertThat(snapshot.getMean()).isZero();
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,52 @@
+package com.example.employee.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.example.employee.TestData.employee;
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Compact Employee Storage Tests")
+class EmployeeCompactionTest {
+
+    @Test
+    @DisplayName("Equal low-cardinality values and skill sets should be stored once")
+    void shouldShareInternedValues() {
+        Employee a = employee("C1", new String("Engineering"), 1.0, LocalDate.of(2020, 1, 1),
+            new String("Java"), new String("SQL"));
+        Employee b = employee("C2", new String("Engineering"), 2.0, LocalDate.of(2020, 1, 1),
+            new String("Java"), new String("SQL"));
+
+        assertThat(a.getDepartment()).isSameAs(b.getDepartment());
+        assertThat(a.getAddress().getCity()).isSameAs(b.getAddress().getCity());
+        assertThat(a.getPaymentInfo().getBankName()).isSameAs(b.getPaymentInfo().getBankName());
+        assertThat(a.getSharedSkills()).isSameAs(b.getSharedSkills()).containsExactly("Java", "SQL");
+        assertThat(a.getFirstName()).isNotSameAs(b.getFirstName());
+    }
+
+    @Test
+    @DisplayName("Shared skills should be an unmodifiable view, and getSkills a private copy")
+    void shouldExposeUnmodifiableSkills() {
+        List<String> skills = new ArrayList<>(Arrays.asList("Go", "Rust"));
+        Employee emp = new Employee("C3", "Ann", "Lee", "ann@company.com", "Platform", "Engineer",
+            1.0, LocalDate.of(2020, 1, 1), null, null, null, skills);
+        skills.add("Zig");
+
+        assertThat(emp.getSharedSkills()).containsExactly("Go", "Rust");
+        assertThat(emp.getSharedSkills()).isSameAs(emp.getSharedSkills());
+        assertThatThrownBy(() -> emp.getSharedSkills().add("C"))
+            .isInstanceOf(UnsupportedOperationException.class);
+
+        List<String> copy = emp.getSkills();
+        copy.add("C");
+        assertThat(copy).containsExactly("Go", "Rust", "C");
+        assertThat(emp.getSharedSkills()).containsExactly("Go", "Rust");
+    }
+}
+
+// Made with Bob
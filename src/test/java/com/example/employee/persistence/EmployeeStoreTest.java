@@ -0,0 +1,190 @@
+package com.example.employee.persistence;
+
+import com.example.employee.model.Employee;
+import com.example.employee.model.PerformanceReview;
+import com.example.employee.model.enums.ReviewType;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.repository.SalaryHistory;
+import com.example.employee.service.PayrollService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.example.employee.TestData.employee;
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Employee Store Persistence Tests")
+class EmployeeStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Writes should be recovered from the write-ahead log alone")
+    void shouldRecoverFromWriteAheadLog() throws Exception {
+        Map<String, Employee> expected;
+        try (EmployeeStore store = EmployeeStore.open(directory)) {
+            EmployeeRepository repository = store.getRepository();
+            for (int i = 0; i < 500; i++) {
+                repository.save(employee("W" + i, "Dept" + (i % 4), 50_000 + i));
+            }
+            repository.save(employee("W7", "Moved", 99_000));
+            repository.delete("W8");
+            repository.saveReviews("W1", Arrays.asList(review("W1", 5), review("W1", 3)));
+            expected = snapshotOf(repository);
+        }
+
+        try (EmployeeStore store = EmployeeStore.open(directory)) {
+            EmployeeRepository repository = store.getRepository();
+            assertThat(snapshotOf(repository)).isEqualTo(expected);
+            assertThat(repository.getReviews("W1")).containsExactly(review("W1", 5), review("W1", 3));
+            assertThat(repository.getAuditLog()).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Recovered salaries should start a new history instead of being backdated")
+    void recoveryShouldRestartSalaryHistory() throws Exception {
+        try (EmployeeStore store = EmployeeStore.open(directory)) {
+            EmployeeRepository repository = store.getRepository();
+            repository.save(employee("H1", "Eng", 100_000, LocalDate.of(2015, 1, 1)));
+            repository.save(employee("H2", "Eng", 80_000, LocalDate.of(2018, 1, 1)));
+            store.checkpoint();
+            repository.save(employee("H1", "Eng", 110_000, LocalDate.of(2015, 1, 1)));
+            repository.save(employee("H1", "Eng", 120_000, LocalDate.of(2015, 1, 1)));
+        }
+
+        try (EmployeeStore store = EmployeeStore.open(directory)) {
+            SalaryHistory history = store.getRepository().salaryHistory();
+            LocalDate today = LocalDate.now();
+            PayrollService payroll = new PayrollService(store.getRepository());
+
+            assertThat(payroll.getAnnualPayrollCostAsOf(today.minusDays(1))).isEmpty();
+            assertThat(history.salaryAsOf("H1", LocalDate.of(2020, 1, 1))).isEmpty();
+            assertThat(payroll.getAnnualPayrollCostAsOf(today)).hasValue(200_000.0);
+            assertThat(history.headcountAsOf(today)).hasValue(2);
+            // Replayed raises are not reported as changes made at recovery time.
+            assertThat(history.changes("H1", today.atStartOfDay(), today.plusDays(1).atStartOfDay()))
+                .extracting(SalaryHistory.Change::getSalary)
+                .containsExactly(120_000.0);
+        }
+    }
+
+    @Test
+    @DisplayName("Snapshot plus log tail should reproduce the latest state")
+    void shouldRecoverFromSnapshotAndLogTail() throws Exception {
+        Map<String, Employee> expected;
+        try (EmployeeStore store = EmployeeStore.open(directory)) {
+            EmployeeRepository repository = store.getRepository();
+            for (int i = 0; i < 10_000; i++) {
+                repository.save(employee("S" + i, "Dept" + (i % 9), 40_000 + i));
+            }
+            repository.saveReviews("S5", Arrays.asList(review("S5", 4)));
+            store.checkpoint();
+            repository.save(employee("S1", "AfterSnapshot", 1_000));
+            repository.delete("S2");
+            repository.saveReviews("S5", Arrays.asList());
+            expected = snapshotOf(repository);
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.map(p -> p.getFileName().toString()).collect(Collectors.toList()))
+                .hasSize(2)
+                .anyMatch(name -> name.startsWith(SnapshotFile.FILE_PREFIX));
+        }
+
+        try (EmployeeStore store = EmployeeStore.open(directory)) {
+            assertThat(store.getRecoveredEmployees()).isEqualTo(10_000);
+            assertThat(snapshotOf(store.getRepository())).isEqualTo(expected);
+            assertThat(store.getRepository().getReviews("S5")).isEmpty();
+            assertThat(store.getRepository().findByDepartment("AfterSnapshot"))
+                .extracting(Employee::getId).containsExactly("S1");
+        }
+    }
+
+    @Test
+    @DisplayName("Close should wait for a running checkpoint before closing the log")
+    void closeShouldWaitForRunningCheckpoint() throws Exception {
+        Map<String, Employee> expected;
+        EmployeeStore store = EmployeeStore.open(directory);
+        EmployeeRepository repository = store.getRepository();
+        for (int i = 0; i < 20_000; i++) {
+            repository.save(employee("C" + i, "Dept" + (i % 7), 45_000 + i));
+        }
+        expected = snapshotOf(repository);
+        store.scheduleCheckpoints(1, TimeUnit.MILLISECONDS);
+        Thread.sleep(20);
+        store.close();
+
+        Map<String, Long> filesAtClose = sizesOf(directory);
+        Thread.sleep(100);
+        assertThat(sizesOf(directory)).isEqualTo(filesAtClose);
+
+        try (EmployeeStore reopened = EmployeeStore.open(directory)) {
+            assertThat(snapshotOf(reopened.getRepository())).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("A torn record at the end of the log should be ignored")
+    void shouldIgnoreTornLogTail() throws Exception {
+        try (EmployeeStore store = EmployeeStore.open(directory)) {
+            store.getRepository().save(employee("T1", "Engineering", 80_000));
+            store.getRepository().save(employee("T2", "Engineering", 81_000));
+        }
+        Path wal = WriteAheadLog.file(directory, 0);
+        try (FileChannel channel = FileChannel.open(wal, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 10);
+            channel.position(channel.size());
+            channel.write(ByteBuffer.wrap(new byte[] {0, 0, 1, 0, 1, 2}));
+        }
+
+        try (EmployeeStore store = EmployeeStore.open(directory)) {
+            assertThat(store.getRepository().findAll()).extracting(Employee::getId).containsExactly("T1");
+            store.getRepository().save(employee("T3", "Engineering", 82_000));
+        }
+        try (EmployeeStore store = EmployeeStore.open(directory)) {
+            assertThat(store.getRepository().findAll()).extracting(Employee::getId)
+                .containsExactlyInAnyOrder("T1", "T3");
+        }
+    }
+
+    private static PerformanceReview review(String employeeId, int rating) {
+        return new PerformanceReview(employeeId, LocalDate.of(2024, 12, 1), rating,
+            "Rating " + rating, rating / 100.0, ReviewType.ANNUAL);
+    }
+
+    private static Map<String, Long> sizesOf(Path directory) throws IOException {
+        Map<String, Long> sizes = new TreeMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                sizes.put(file.getFileName().toString(), Files.size(file));
+            }
+        }
+        return sizes;
+    }
+
+    private static Map<String, Employee> snapshotOf(EmployeeRepository repository) {
+        Map<String, Employee> state = new TreeMap<>();
+        for (Employee emp : repository.findAll()) {
+            state.put(emp.getId(), emp);
+        }
+        return state;
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,147 @@
+package com.example.employee.persistence;
+
+import com.example.employee.model.event.AuditEvent;
+import com.example.employee.model.event.EmployeeCreatedEvent;
+import com.example.employee.model.event.SalaryChangedEvent;
+import com.example.employee.repository.EmployeeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static com.example.employee.TestData.employee;
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Mapped Audit Journal Tests")
+class MappedAuditJournalTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Events should survive reopening across segment rollovers")
+    void eventsShouldSurviveReopen() throws Exception {
+        try (MappedAuditJournal journal = new MappedAuditJournal(directory, 4_096, 100, 50)) {
+            for (int i = 0; i < 1_000; i++) {
+                journal.append(event(i));
+            }
+            assertThat(journal.getSegmentCount()).isGreaterThan(1);
+            assertThat(journal.size()).isEqualTo(1_000);
+        }
+
+        try (MappedAuditJournal journal = new MappedAuditJournal(directory, 4_096, 100, 50)) {
+            journal.append(event(1_000));
+            List<AuditEvent> events = toList(journal.iterator());
+
+            assertThat(events).hasSize(1_001);
+            for (int i = 0; i < events.size(); i++) {
+                assertSameEvent(events.get(i), event(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Range reads should return only events inside the time window")
+    void rangeShouldFilterByTimestamp() throws Exception {
+        try (MappedAuditJournal journal = new MappedAuditJournal(directory, 2_048, 10, 50)) {
+            for (int i = 0; i < 500; i++) {
+                journal.append(event(i));
+            }
+
+            List<AuditEvent> window = toList(journal.range(START.plusMinutes(100), START.plusMinutes(150)));
+
+            assertThat(window).hasSize(50);
+            assertThat(window.get(0).getEventId()).isEqualTo("EVT100");
+            assertThat(window.get(49).getEventId()).isEqualTo("EVT149");
+            assertThat(toList(journal.range(START.minusDays(1), START))).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Recovery should stop at the first record whose checksum does not match")
+    void recoveryShouldStopAtCorruptRecord() throws Exception {
+        try (MappedAuditJournal journal = new MappedAuditJournal(directory, 4_096, 100, 50)) {
+            for (int i = 0; i < 10; i++) {
+                journal.append(event(i));
+            }
+        }
+        Path segment = directory.resolve(String.format("audit-%020d.seg", 0));
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            int position = 0;
+            for (int i = 0; i < 5; i++) {
+                position += 8 + buffer.getInt(position);
+            }
+            // Flips a bit of the sixth record's timestamp, leaving its length intact.
+            buffer.put(position + 10, (byte) (buffer.get(position + 10) ^ 1));
+        }
+
+        try (MappedAuditJournal journal = new MappedAuditJournal(directory, 4_096, 100, 50)) {
+            assertThat(journal.size()).isEqualTo(5);
+            journal.append(event(5));
+            List<AuditEvent> events = toList(journal.iterator());
+
+            assertThat(events).hasSize(6);
+            for (int i = 0; i < events.size(); i++) {
+                assertSameEvent(events.get(i), event(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Repository should write its audit events through the journal")
+    void repositoryShouldAppendToJournal() throws Exception {
+        try (MappedAuditJournal journal = MappedAuditJournal.open(directory)) {
+            EmployeeRepository repository = new EmployeeRepository(journal);
+            repository.save(employee("J1", "Engineering", 90_000));
+            repository.save(employee("J2", "Engineering", 95_000));
+
+            assertThat(repository.getAuditLog())
+                .extracting(e -> ((EmployeeCreatedEvent) e).getEmployeeId())
+                .containsExactly("J1", "J2");
+        }
+    }
+
+    private static AuditEvent event(int i) {
+        LocalDateTime timestamp = START.plusMinutes(i).plusNanos(i);
+        if (i % 3 == 0) {
+            return new SalaryChangedEvent("EVT" + i, timestamp, "system", "E" + i, 1_000.5 * i, 1_100.25 * i);
+        }
+        if (i % 3 == 1) {
+            return new EmployeeCreatedEvent("EVT" + i, timestamp, "hr-admin", "E" + i);
+        }
+        return new AuditEvent("EVT" + i, timestamp, "system", "LOGIN");
+    }
+
+    private static void assertSameEvent(AuditEvent actual, AuditEvent expected) {
+        assertThat(actual.getClass()).isEqualTo(expected.getClass());
+        assertThat(actual.getEventId()).isEqualTo(expected.getEventId());
+        assertThat(actual.getTimestamp()).isEqualTo(expected.getTimestamp());
+        assertThat(actual.getUserId()).isEqualTo(expected.getUserId());
+        assertThat(actual.getEventType()).isEqualTo(expected.getEventType());
+        if (expected instanceof SalaryChangedEvent) {
+            SalaryChangedEvent salaryChanged = (SalaryChangedEvent) actual;
+            assertThat(salaryChanged.getEmployeeId()).isEqualTo(((SalaryChangedEvent) expected).getEmployeeId());
+            assertThat(salaryChanged.getOldSalary()).isEqualTo(((SalaryChangedEvent) expected).getOldSalary());
+            assertThat(salaryChanged.getNewSalary()).isEqualTo(((SalaryChangedEvent) expected).getNewSalary());
+        }
+    }
+
+    private static List<AuditEvent> toList(Iterator<AuditEvent> iterator) {
+        List<AuditEvent> events = new ArrayList<>();
+        iterator.forEachRemaining(events::add);
+        return events;
+    }
+}
+
+// Made with Bob
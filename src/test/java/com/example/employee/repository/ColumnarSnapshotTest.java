@@ -0,0 +1,90 @@
+package com.example.employee.repository;
+
+import com.example.employee.model.Employee;
+import com.example.employee.model.enums.EmploymentType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static com.example.employee.TestData.employee;
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Columnar Snapshot Tests")
+class ColumnarSnapshotTest {
+
+    private static final String[] DEPARTMENTS = {"Engineering", "Sales", "HR", "Finance"};
+
+    @Test
+    @DisplayName("Columnar aggregates and filters should match a scan over employee objects")
+    void shouldMatchObjectScan() {
+        EmployeeRepository repository = new EmployeeRepository();
+        Random random = new Random(3);
+        for (int i = 0; i < 4_000; i++) {
+            String id = "C" + random.nextInt(700);
+            if (random.nextInt(5) == 0) {
+                repository.delete(id);
+            } else {
+                repository.save(employee(id, DEPARTMENTS[random.nextInt(DEPARTMENTS.length)],
+                    30_000 + random.nextInt(100) * 1_000,
+                    LocalDate.of(2010, 1, 1).plusDays(random.nextInt(5_000))));
+            }
+        }
+
+        ColumnarSnapshot snapshot = repository.columnarSnapshot();
+        List<Employee> all = repository.findAll();
+        assertThat(snapshot.size()).isEqualTo(all.size());
+        assertThat(snapshot.totalSalary())
+            .isCloseTo(all.stream().mapToDouble(Employee::getSalary).sum(), within(0.01));
+
+        LocalDate from = LocalDate.of(2013, 1, 1);
+        LocalDate to = LocalDate.of(2016, 12, 31);
+        List<Employee> hired = all.stream()
+            .filter(e -> e.getDepartment().equals("Sales"))
+            .filter(e -> !e.getHireDate().isBefore(from) && !e.getHireDate().isAfter(to))
+            .collect(Collectors.toList());
+        ColumnarSnapshot.Summary summary = snapshot.summarize("Sales", EmploymentType.FULL_TIME, from, to);
+        assertThat(summary.getCount()).isEqualTo(hired.size());
+        assertThat(summary.getTotalSalary())
+            .isCloseTo(hired.stream().mapToDouble(Employee::getSalary).sum(), within(0.01));
+        assertThat(summary.getMaxSalary())
+            .isEqualTo(hired.stream().mapToDouble(Employee::getSalary).max().orElse(0.0));
+        assertThat(snapshot.summarize("Nowhere", null, null, null).getCount()).isZero();
+
+        Map<String, ColumnarSnapshot.Summary> byDepartment = snapshot.summarizeByDepartment(null);
+        for (String department : DEPARTMENTS) {
+            assertThat(byDepartment.get(department).getCount())
+                .isEqualTo(repository.getDepartmentStats(department).getEmployeeCount());
+            assertThat(byDepartment.get(department).getMinSalary())
+                .isEqualTo(repository.getDepartmentStats(department).getMinSalary());
+        }
+
+        assertThat(snapshot.select("HR", null, 50_000, 70_000))
+            .containsExactlyInAnyOrderElementsOf(all.stream()
+                .filter(e -> e.getDepartment().equals("HR"))
+                .filter(e -> e.getSalary() >= 50_000 && e.getSalary() <= 70_000)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("Snapshots should be shared until a write and unaffected by later writes")
+    void shouldBeCachedAndImmutable() {
+        EmployeeRepository repository = new EmployeeRepository();
+        ColumnarSnapshot before = repository.columnarSnapshot();
+        assertThat(repository.columnarSnapshot()).isSameAs(before);
+
+        repository.save(employee("C1", "Legal", 90_000));
+        ColumnarSnapshot after = repository.columnarSnapshot();
+
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.size()).isEqualTo(before.size() + 1);
+        assertThat(before.departmentCode("Legal")).isEqualTo(-1);
+        assertThat(after.summarize("Legal", null, null, null).getTotalSalary()).isEqualTo(90_000.0);
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,93 @@
+package com.example.employee.repository;
+
+import com.example.employee.model.DepartmentStats;
+import com.example.employee.model.Employee;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.List;
+import java.util.Random;
+
+import static com.example.employee.TestData.employee;
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Department Aggregates Tests")
+class DepartmentAggregatesTest {
+
+    private static final String[] DEPARTMENTS = {"Engineering", "Sales", "HR", "Finance"};
+
+    @Test
+    @DisplayName("Incremental aggregates should match a brute-force scan")
+    void aggregatesShouldMatchBruteForce() {
+        EmployeeRepository repository = new EmployeeRepository();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 10_000; i++) {
+            String id = "A" + random.nextInt(500);
+            if (random.nextInt(4) == 0) {
+                repository.delete(id);
+            } else {
+                repository.save(employee(id, DEPARTMENTS[random.nextInt(DEPARTMENTS.length)],
+                    20_000 + random.nextInt(400_000) + random.nextInt(100) / 100.0));
+            }
+            if (i % 1_000 == 0) {
+                assertMatchesBruteForce(repository);
+            }
+        }
+        assertMatchesBruteForce(repository);
+    }
+
+    @Test
+    @DisplayName("Deleting the current minimum and maximum should expose the next extremes")
+    void deletingExtremesShouldUpdateMinAndMax() {
+        EmployeeRepository repository = new EmployeeRepository();
+        repository.save(employee("L1", "Legal", 50_000));
+        repository.save(employee("L2", "Legal", 70_000));
+        repository.save(employee("L3", "Legal", 90_000));
+        repository.save(employee("L4", "Legal", 90_000));
+
+        repository.delete("L1");
+        repository.delete("L3");
+        DepartmentStats stats = repository.getDepartmentStats("Legal");
+        assertThat(stats.getMinSalary()).isEqualTo(70_000);
+        assertThat(stats.getMaxSalary()).isEqualTo(90_000);
+
+        repository.delete("L4");
+        repository.save(employee("L2", "Legal", 65_000));
+        stats = repository.getDepartmentStats("Legal");
+        assertThat(stats.getEmployeeCount()).isEqualTo(1);
+        assertThat(stats.getMinSalary()).isEqualTo(65_000);
+        assertThat(stats.getMaxSalary()).isEqualTo(65_000);
+
+        repository.delete("L2");
+        assertThat(repository.getDepartmentStats("Legal").getEmployeeCount()).isZero();
+        assertThat(repository.getAllDepartmentStats()).doesNotContainKey("Legal");
+    }
+
+    private static void assertMatchesBruteForce(EmployeeRepository repository) {
+        List<Employee> all = repository.findAll();
+        for (String department : DEPARTMENTS) {
+            DoubleSummaryStatistics expected = all.stream()
+                .filter(e -> e.getDepartment().equals(department))
+                .mapToDouble(Employee::getSalary)
+                .summaryStatistics();
+            DepartmentStats actual = repository.getDepartmentStats(department);
+
+            assertThat(actual.getEmployeeCount()).isEqualTo(expected.getCount());
+            if (expected.getCount() > 0) {
+                assertThat(actual.getTotalSalary()).isCloseTo(expected.getSum(), within(0.001));
+                assertThat(actual.getMinSalary()).isEqualTo(expected.getMin());
+                assertThat(actual.getMaxSalary()).isEqualTo(expected.getMax());
+                int histogramTotal = 0;
+                for (int bucketCount : actual.getSalaryHistogram()) {
+                    assertThat(bucketCount).isNotNegative();
+                    histogramTotal += bucketCount;
+                }
+                assertThat(histogramTotal).isEqualTo(expected.getCount());
+            }
+        }
+    }
+}
+
+// Made with Bob
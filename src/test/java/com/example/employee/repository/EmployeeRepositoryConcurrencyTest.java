@@ -0,0 +1,137 @@
+package com.example.employee.repository;
+
+import com.example.employee.exception.EmployeeNotFoundException;
+import com.example.employee.model.Employee;
+import com.example.employee.model.event.AuditEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.employee.TestData.employee;
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Employee Repository Concurrency Tests")
+class EmployeeRepositoryConcurrencyTest {
+
+    private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+    private static final int SAVES_PER_THREAD = 2_000;
+
+    @Test
+    @DisplayName("Concurrent saves should lose neither employees nor audit events")
+    void concurrentSavesShouldNotLoseUpdates() throws Exception {
+        EmployeeRepository repository = new EmployeeRepository();
+        int initialSize = repository.findAll().size();
+        int initialAudit = repository.getAuditLog().size();
+
+        runConcurrently(THREADS, threadIndex -> {
+            for (int i = 0; i < SAVES_PER_THREAD; i++) {
+                String id = "T" + threadIndex + "-" + i;
+                repository.save(employee(id, "Dept" + (i % 7), 50_000 + i));
+                // interleave reads with writes
+                assertThat(repository.findById(id).getId()).isEqualTo(id);
+            }
+            return null;
+        });
+
+        assertThat(repository.findAll()).hasSize(initialSize + THREADS * SAVES_PER_THREAD);
+        List<AuditEvent> auditLog = repository.getAuditLog();
+        assertThat(auditLog).hasSize(initialAudit + THREADS * SAVES_PER_THREAD);
+        assertThat(auditLog).doesNotContainNull();
+    }
+
+    @Test
+    @DisplayName("Concurrent saves and deletes of the same ids should leave a consistent store")
+    void concurrentSaveAndDeleteShouldStayConsistent() throws Exception {
+        EmployeeRepository repository = new EmployeeRepository();
+
+        runConcurrently(THREADS, threadIndex -> {
+            for (int i = 0; i < SAVES_PER_THREAD; i++) {
+                String id = "S" + (i % 50);
+                if ((threadIndex + i) % 3 == 0) {
+                    repository.delete(id);
+                } else {
+                    repository.save(employee(id, "Shared", 60_000 + threadIndex));
+                }
+                repository.findByDepartment("Shared");
+            }
+            return null;
+        });
+
+        for (Employee emp : repository.findByDepartment("Shared")) {
+            assertThat(repository.findById(emp.getId())).isSameAs(emp);
+        }
+    }
+
+    @Test
+    @DisplayName("Read throughput should not collapse as reader threads are added")
+    void readThroughputShouldScale() throws Exception {
+        EmployeeRepository repository = new EmployeeRepository();
+        for (int i = 0; i < 10_000; i++) {
+            repository.save(employee("R" + i, "Dept" + (i % 10), 40_000 + i));
+        }
+
+        // Best of three runs each, after a warm-up, to keep scheduler noise out of the ratio.
+        readThroughput(repository, THREADS);
+        double single = 0;
+        double parallel = 0;
+        for (int run = 0; run < 3; run++) {
+            single = Math.max(single, readThroughput(repository, 1));
+            parallel = Math.max(parallel, readThroughput(repository, THREADS));
+        }
+
+        // Lock-free reads keep aggregate throughput near one reader's even when the
+        // threads outnumber the cores; contention on a shared lock would collapse it.
+        assertThat(parallel).isGreaterThanOrEqualTo(0.5 * single);
+
+        assertThatThrownBy(() -> repository.findById("missing"))
+            .isInstanceOf(EmployeeNotFoundException.class);
+    }
+
+    // Reads per second summed over all threads.
+    private static double readThroughput(EmployeeRepository repository, int threads) throws Exception {
+        int readsPerThread = 200_000;
+        long start = System.nanoTime();
+        runConcurrently(threads, threadIndex -> {
+            for (int i = 0; i < readsPerThread; i++) {
+                repository.findById("R" + ((i * 31 + threadIndex) % 10_000));
+            }
+            return null;
+        });
+        return (double) threads * readsPerThread / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private interface Task {
+        Void run(int threadIndex) throws Exception;
+    }
+
+    private static void runConcurrently(int threads, Task task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int threadIndex = t;
+                futures.add(pool.submit((Callable<Void>) () -> {
+                    start.await();
+                    return task.run(threadIndex);
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
+
+// Made with Bob
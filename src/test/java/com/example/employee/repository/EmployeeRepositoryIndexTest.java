@@ -0,0 +1,158 @@
+package com.example.employee.repository;
+
+import com.example.employee.model.Employee;
+import com.example.employee.service.EmployeeService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static com.example.employee.TestData.employee;
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Employee Repository Secondary Index Tests")
+class EmployeeRepositoryIndexTest {
+
+    private static final String[] DEPARTMENTS = {"Engineering", "Sales", "HR", "Finance", "Legal"};
+
+    @Test
+    @DisplayName("Indexes should match a full scan after random saves, moves and deletes")
+    void indexesShouldMatchFullScan() {
+        EmployeeRepository repository = new EmployeeRepository();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 5_000; i++) {
+            String id = "X" + random.nextInt(1_000);
+            if (random.nextInt(5) == 0) {
+                repository.delete(id);
+            } else {
+                repository.save(employee(id,
+                    DEPARTMENTS[random.nextInt(DEPARTMENTS.length)],
+                    30_000 + random.nextInt(50) * 1_000,
+                    LocalDate.of(2000, 1, 1).plusDays(random.nextInt(9_000))));
+            }
+        }
+
+        List<Employee> all = repository.findAll();
+        for (String department : DEPARTMENTS) {
+            List<Employee> expected = all.stream()
+                .filter(e -> e.getDepartment().equals(department))
+                .collect(Collectors.toList());
+            assertThat(repository.findByDepartment(department)).containsExactlyInAnyOrderElementsOf(expected);
+        }
+
+        List<Employee> expectedRange = all.stream()
+            .filter(e -> e.getSalary() >= 45_000 && e.getSalary() <= 60_000)
+            .collect(Collectors.toList());
+        List<Employee> range = repository.findBySalaryRange(45_000, 60_000);
+        assertThat(range).containsExactlyInAnyOrderElementsOf(expectedRange);
+        assertThat(range).isSortedAccordingTo(Comparator.comparingDouble(Employee::getSalary));
+
+        Comparator<Employee> bySalaryDesc = Comparator.comparingDouble(Employee::getSalary).reversed();
+        List<Employee> top = repository.findTopBySalary(25, 50_000);
+        assertThat(top).isSortedAccordingTo(bySalaryDesc);
+        assertThat(top).extracting(Employee::getSalary).containsExactlyElementsOf(all.stream()
+            .filter(e -> e.getSalary() >= 50_000)
+            .sorted(bySalaryDesc)
+            .limit(25)
+            .map(Employee::getSalary)
+            .collect(Collectors.toList()));
+        assertThat(repository.findTop(25, bySalaryDesc, e -> e.getSalary() >= 50_000))
+            .extracting(Employee::getSalary)
+            .containsExactlyElementsOf(top.stream().map(Employee::getSalary).collect(Collectors.toList()));
+
+        LocalDate newest = all.stream().map(Employee::getHireDate).max(Comparator.naturalOrder()).get();
+        LocalDate oldest = all.stream().map(Employee::getHireDate).min(Comparator.naturalOrder()).get();
+        assertThat(repository.getNewestEmployee().getHireDate()).isEqualTo(newest);
+        assertThat(repository.getOldestEmployee().getHireDate()).isEqualTo(oldest);
+    }
+
+    @Test
+    @DisplayName("Salary range bounds should be inclusive and tolerate inverted ranges")
+    void salaryRangeBoundsShouldBeInclusive() {
+        EmployeeRepository repository = new EmployeeRepository();
+
+        assertThat(repository.findBySalaryRange(95_000, 120_000))
+            .extracting(Employee::getId)
+            .containsExactly("E002", "E004", "E001");
+        assertThat(repository.findBySalaryRange(120_000, 95_000)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Top-by-salary should return nothing for a zero or negative limit")
+    void topBySalaryShouldTolerateNonPositiveLimits() {
+        EmployeeRepository repository = new EmployeeRepository();
+
+        assertThat(repository.findTopBySalary(0, Double.NEGATIVE_INFINITY)).isEmpty();
+        assertThat(repository.findTopBySalary(-1, Double.NEGATIVE_INFINITY)).isEmpty();
+        assertThat(new EmployeeService(repository).getTopPerformers(-1)).isEmpty();
+        assertThat(repository.findTopBySalary(2, Double.NEGATIVE_INFINITY))
+            .extracting(Employee::getId).containsExactly("E003", "E001");
+    }
+
+    @Test
+    @DisplayName("A failing write-ahead listener should reject the write before any index changes")
+    void failingWriteAheadListenerShouldLeaveIndexesUntouched() throws Exception {
+        EmployeeRepository repository = new EmployeeRepository();
+        repository.addWriteAheadListener((previous, current) -> {
+            throw new IllegalStateException("log unavailable");
+        });
+
+        assertThatThrownBy(() -> repository.save(employee("E001", "Sales", 1_000_000)))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> repository.saveAll(Arrays.asList(employee("X1", "Sales", 10))))
+            .isInstanceOf(IllegalStateException.class);
+
+        assertThat(repository.findById("E001").getDepartment()).isEqualTo("Engineering");
+        assertThat(repository.findByDepartment("Sales")).extracting(Employee::getId).containsExactly("E002");
+        assertThat(repository.findTopBySalary(1, 0)).extracting(Employee::getId).containsExactly("E003");
+        assertThat(repository.snapshot().contains("X1")).isFalse();
+        assertThat(repository.snapshot().findById("E001").getSalary()).isEqualTo(120_000.0);
+        assertThat(repository.columnarSnapshot().size()).isEqualTo(repository.findAll().size());
+    }
+
+    @Test
+    @DisplayName("A salary the indexes cannot hold should be rejected before any index changes")
+    void invalidSalaryShouldLeaveIndexesUntouched() throws Exception {
+        EmployeeRepository repository = new EmployeeRepository();
+        int size = repository.findAll().size();
+
+        for (double salary : new double[] {Double.NaN, Double.POSITIVE_INFINITY, 1e300}) {
+            assertThatThrownBy(() -> repository.save(employee("G1", "Ghost", salary)))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> repository.saveAll(Arrays.asList(
+                    employee("G2", "Ghost", 50_000), employee("G3", "Ghost", salary))))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> repository.save(employee("E001", "Ghost", salary)))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        assertThat(repository.findAll()).hasSize(size);
+        assertThat(repository.findById("E001").getDepartment()).isEqualTo("Engineering");
+        assertThat(repository.findByDepartment("Ghost")).isEmpty();
+        assertThat(repository.getDepartmentStats("Ghost").getEmployeeCount()).isZero();
+        assertThat(repository.findTopBySalary(1, 0)).extracting(Employee::getId).containsExactly("E003");
+        assertThat(repository.snapshot().size()).isEqualTo(size);
+        assertThat(repository.snapshot().getDepartmentTotal("Ghost").getHeadcount()).isZero();
+        assertThat(repository.columnarSnapshot().size()).isEqualTo(size);
+    }
+
+    @Test
+    @DisplayName("Moving an employee between departments should update the department index")
+    void departmentMoveShouldUpdateIndex() {
+        EmployeeRepository repository = new EmployeeRepository();
+        repository.save(employee("E001", "Sales", 120_000));
+
+        assertThat(repository.findByDepartment("Engineering")).extracting(Employee::getId).containsExactly("E003");
+        assertThat(repository.findByDepartment("Sales")).extracting(Employee::getId)
+            .containsExactlyInAnyOrder("E001", "E002");
+        assertThat(repository.findByDepartment("Nowhere")).isEmpty();
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,136 @@
+package com.example.employee.repository;
+
+import com.example.employee.exception.EmployeeNotFoundException;
+import com.example.employee.model.Employee;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.example.employee.TestData.employee;
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Repository Snapshot Tests")
+class RepositorySnapshotTest {
+
+    @Test
+    @DisplayName("Snapshots should not see later writes, and forks should not leak into the repository")
+    void shouldIsolateSnapshotsAndForks() throws Exception {
+        EmployeeRepository repository = new EmployeeRepository(new InMemoryAuditLog(), false);
+        repository.saveAll(Arrays.asList(employee("A", "Eng", 100_000), employee("B", "Ops", 80_000)));
+
+        RepositorySnapshot before = repository.snapshot();
+        repository.save(employee("A", "Eng", 120_000));
+        repository.delete("B");
+        repository.save(employee("C", "Eng", 90_000));
+
+        assertThat(before.size()).isEqualTo(2);
+        assertThat(before.findById("A").getSalary()).isEqualTo(100_000.0);
+        assertThat(before.contains("B")).isTrue();
+        assertThat(before.contains("C")).isFalse();
+
+        RepositorySnapshot fork = before.with(employee("D", "Eng", 70_000)).without("A");
+        assertThat(fork.findByDepartment("Eng")).extracting(Employee::getId).containsExactly("D");
+        assertThat(before.findByDepartment("Eng")).extracting(Employee::getId).containsExactly("A");
+        assertThat(fork.without("missing")).isSameAs(fork);
+        assertThatThrownBy(() -> fork.findById("A")).isInstanceOf(EmployeeNotFoundException.class);
+
+        RepositorySnapshot now = repository.snapshot();
+        assertThat(now.findAll()).extracting(Employee::getId).containsExactlyInAnyOrder("A", "C");
+        assertThat(now.findById("A").getSalary()).isEqualTo(120_000.0);
+        assertThatThrownBy(() -> repository.findById("D")).isInstanceOf(EmployeeNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Concurrent writes to different ids should all reach the snapshot")
+    void shouldKeepEveryConcurrentWrite() throws Exception {
+        EmployeeRepository repository = new EmployeeRepository(new InMemoryAuditLog(), false);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                writers.add(pool.submit(() -> {
+                    for (int i = 0; i < 5_000; i++) {
+                        String id = "T" + thread + "-" + i;
+                        repository.save(employee(id, "Dept" + thread, 50_000 + i));
+                        if (i % 10 == 0) {
+                            repository.delete(id);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        RepositorySnapshot snapshot = repository.snapshot();
+        assertThat(snapshot.size()).isEqualTo(4 * 4_500);
+        assertThat(snapshot.stream().parallel().count()).isEqualTo(4 * 4_500);
+        assertThat(snapshot.findAll()).containsExactlyInAnyOrderElementsOf(repository.findAll());
+    }
+
+    @Test
+    @DisplayName("Readers should see whole batches and totals that match the employees of one version")
+    void shouldReadConsistentVersionsDuringWrites() throws Exception {
+        EmployeeRepository repository = new EmployeeRepository(new InMemoryAuditLog(), false);
+        for (int i = 0; i < 200; i++) {
+            repository.save(employee("M" + i, i % 2 == 0 ? "Eng" : "Ops", 50_000 + i));
+        }
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            // Each batch swaps the departments of two employees, so headcounts never change.
+            Future<?> writer = pool.submit(() -> {
+                for (int round = 0; round < 2_000; round++) {
+                    int a = (round * 2) % 200;
+                    int b = a + 1;
+                    RepositorySnapshot now = repository.snapshot();
+                    Employee first = now.findById("M" + a);
+                    Employee second = now.findById("M" + b);
+                    repository.saveAll(Arrays.asList(
+                        employee(first.getId(), second.getDepartment(), first.getSalary() + 1),
+                        employee(second.getId(), first.getDepartment(), second.getSalary() + 1)));
+                }
+                done.set(true);
+                return null;
+            });
+            Future<?> reader = pool.submit(() -> {
+                long lastVersion = -1;
+                while (!done.get()) {
+                    RepositorySnapshot snapshot = repository.snapshot();
+                    assertThat(snapshot.getVersion()).isGreaterThanOrEqualTo(lastVersion);
+                    lastVersion = snapshot.getVersion();
+                    assertThat(snapshot.getDepartmentTotal("Eng").getHeadcount()).isEqualTo(100);
+                    assertThat(snapshot.findByDepartment("Ops")).hasSize(100);
+                    double sum = snapshot.stream().mapToDouble(Employee::getSalary).sum();
+                    assertThat(snapshot.getTotalSalary()).isCloseTo(sum, within(1e-3));
+                    double departments = snapshot.getDepartmentTotals().values().stream()
+                        .mapToDouble(RepositorySnapshot.DepartmentTotal::getTotalSalary).sum();
+                    assertThat(departments).isCloseTo(snapshot.getTotalSalary(), within(1e-3));
+                }
+                return null;
+            });
+            writer.get(60, TimeUnit.SECONDS);
+            reader.get(60, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        RepositorySnapshot last = repository.snapshot();
+        assertThat(last.getVersion()).isEqualTo(200 + 2_000);
+        assertThat(last.getAverageSalary()).isCloseTo(50_099.5 + 20, within(1e-6));
+    }
+}
+
+// Made with Bob
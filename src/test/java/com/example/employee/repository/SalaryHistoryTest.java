@@ -0,0 +1,157 @@
+package com.example.employee.repository;
+
+import com.example.employee.model.Employee;
+import com.example.employee.model.event.SalaryChangedEvent;
+import com.example.employee.service.PayrollService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.stream.Collectors;
+
+import static com.example.employee.TestData.employee;
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Salary History Tests")
+class SalaryHistoryTest {
+
+    @Test
+    @DisplayName("Saving a different salary should emit a SalaryChangedEvent")
+    void shouldEmitSalaryChangedEvents() throws Exception {
+        EmployeeRepository repository = new EmployeeRepository(new InMemoryAuditLog(), false);
+        repository.save(employee("S1", "Eng", 100_000));
+        repository.save(employee("S1", "Eng", 100_000));
+        repository.save(employee("S1", "Eng", 110_000));
+        repository.saveAll(Arrays.asList(employee("S1", "Eng", 120_000), employee("S2", "Eng", 90_000)));
+        new PayrollService(repository).applySalaryAdjustment("S2", "COST_OF_LIVING");
+
+        List<SalaryChangedEvent> changes = repository.getAuditLog().stream()
+            .filter(event -> event instanceof SalaryChangedEvent)
+            .map(event -> (SalaryChangedEvent) event)
+            .collect(Collectors.toList());
+        assertThat(changes).extracting(SalaryChangedEvent::getEmployeeId).containsExactly("S1", "S1", "S2");
+        assertThat(changes).extracting(SalaryChangedEvent::getOldSalary).containsExactly(100_000.0, 110_000.0, 90_000.0);
+        assertThat(changes.get(2).getNewSalary()).isCloseTo(92_700.0, within(1e-6));
+        assertThat(repository.findById("S2").getSalary()).isCloseTo(92_700.0, within(1e-6));
+        assertThat(repository.salaryHistory().salaryAsOf("S1", LocalDate.now())).hasValue(120_000.0);
+    }
+
+    @Test
+    @DisplayName("Point-in-time and range queries should follow hires, raises and removals")
+    void shouldAnswerAsOfQueries() {
+        MutableClock clock = new MutableClock(LocalDateTime.of(2024, 1, 10, 9, 0));
+        SalaryHistory history = new SalaryHistory(clock);
+        EmployeeChangeListener listener = history.listener();
+
+        Employee alice = employee("A", "Eng", 100_000, LocalDate.of(2023, 3, 1));
+        Employee bob = employee("B", "Eng", 80_000, LocalDate.of(2024, 2, 1));
+        listener.onChange(null, alice);
+        clock.set(LocalDateTime.of(2024, 2, 1, 9, 0));
+        listener.onChange(null, bob);
+        clock.set(LocalDateTime.of(2024, 6, 30, 17, 0));
+        listener.onChange(alice, alice.withSalary(110_000));
+        clock.set(LocalDateTime.of(2024, 9, 15, 12, 0));
+        listener.onChange(bob, null);
+
+        // A salary takes effect when first seen, not at the hire date.
+        assertThat(history.salaryAsOf("A", LocalDate.of(2024, 1, 9))).isEmpty();
+        assertThat(history.salaryAsOf("A", LocalDate.of(2024, 1, 10))).hasValue(100_000.0);
+        assertThat(history.salaryAsOf("A", LocalDate.of(2024, 6, 29))).hasValue(100_000.0);
+        assertThat(history.salaryAsOf("A", LocalDate.of(2024, 6, 30))).hasValue(110_000.0);
+        assertThat(history.salaryAsOf("B", LocalDate.of(2024, 1, 31))).isEmpty();
+        assertThat(history.salaryAsOf("B", LocalDate.of(2024, 9, 14))).hasValue(80_000.0);
+        assertThat(history.salaryAsOf("B", LocalDate.of(2024, 9, 15))).isEqualTo(OptionalDouble.empty());
+
+        assertThat(history.getRecordedSince()).isEqualTo(LocalDateTime.of(2024, 1, 10, 9, 0));
+        assertThat(history.totalSalaryAsOf(LocalDate.of(2024, 1, 9))).isEmpty();
+        assertThat(history.headcountAsOf(LocalDate.of(2024, 1, 9))).isEmpty();
+        assertThat(history.totalSalaryAsOf(LocalDate.of(2024, 1, 31))).hasValue(100_000.0);
+        assertThat(history.totalSalaryAsOf(LocalDate.of(2024, 6, 30))).hasValue(190_000.0);
+        assertThat(history.totalSalaryAsOf(LocalDate.of(2024, 12, 31))).hasValue(110_000.0);
+        assertThat(history.headcountAsOf(LocalDate.of(2024, 7, 1))).hasValue(2);
+
+        assertThat(history.changes("A", LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 1, 0, 0)))
+            .extracting(SalaryHistory.Change::getSalary)
+            .containsExactly(100_000.0, 110_000.0);
+        assertThat(history.changes("B", LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 1, 0, 0)))
+            .extracting(SalaryHistory.Change::isRemoval)
+            .containsExactly(false, true);
+    }
+
+    @Test
+    @DisplayName("Restarting the history should forget earlier dates instead of backdating current salaries")
+    void restartShouldMakeEarlierDatesUnknown() {
+        MutableClock clock = new MutableClock(LocalDateTime.of(2024, 1, 1, 9, 0));
+        SalaryHistory history = new SalaryHistory(clock);
+        EmployeeChangeListener listener = history.listener();
+        Employee alice = employee("A", "Eng", 100_000, LocalDate.of(2020, 1, 1));
+        listener.onChange(null, alice);
+        clock.set(LocalDateTime.of(2024, 5, 1, 9, 0));
+        listener.onChange(alice, alice.withSalary(120_000));
+
+        clock.set(LocalDateTime.of(2024, 8, 1, 9, 0));
+        history.restart(Arrays.asList(alice.withSalary(120_000), employee("B", "Eng", 70_000)));
+
+        assertThat(history.totalSalaryAsOf(LocalDate.of(2024, 7, 31))).isEmpty();
+        assertThat(history.salaryAsOf("A", LocalDate.of(2024, 3, 1))).isEmpty();
+        assertThat(history.totalSalaryAsOf(LocalDate.of(2024, 8, 1))).hasValue(190_000.0);
+        assertThat(history.changes("A", LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 1, 0, 0)))
+            .extracting(SalaryHistory.Change::getEffective)
+            .containsExactly(LocalDateTime.of(2024, 8, 1, 9, 0));
+    }
+
+    @Test
+    @DisplayName("Workforce-wide totals should be exact in parallel over many timelines")
+    void shouldSumLargeHistoriesExactly() {
+        LocalDateTime start = LocalDateTime.of(2023, 6, 1, 0, 0);
+        MutableClock clock = new MutableClock(start);
+        SalaryHistory history = new SalaryHistory(clock);
+        EmployeeChangeListener listener = history.listener();
+        for (int i = 0; i < 50_000; i++) {
+            Employee emp = employee("P" + i, "Eng", 50_000.10, LocalDate.of(2020, 1, 1));
+            clock.set(start);
+            listener.onChange(null, emp);
+            clock.set(LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(i));
+            listener.onChange(emp, emp.withSalary(60_000.20));
+        }
+        assertThat(history.totalSalaryAsOf(LocalDate.of(2023, 12, 31))).hasValue(2_500_005_000.0);
+        assertThat(history.totalSalaryAsOf(LocalDate.of(2024, 2, 1))).hasValue(3_000_010_000.0);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(LocalDateTime start) {
+            set(start);
+        }
+
+        void set(LocalDateTime time) {
+            instant = time.toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
+
+// Made with Bob
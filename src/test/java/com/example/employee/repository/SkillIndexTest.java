@@ -0,0 +1,119 @@
+package com.example.employee.repository;
+
+import com.example.employee.model.Employee;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static com.example.employee.TestData.employee;
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Skill Index Tests")
+class SkillIndexTest {
+
+    private static final String[] SKILLS = {"Java", "AWS", "Docker", "Kotlin", "Spring Boot", "SQL"};
+
+    @Test
+    @DisplayName("Skill queries should match a full scan after random saves and deletes")
+    void queriesShouldMatchFullScan() {
+        EmployeeRepository repository = new EmployeeRepository();
+        Random random = new Random(11);
+
+        for (int i = 0; i < 5_000; i++) {
+            String id = "S" + random.nextInt(800);
+            if (random.nextInt(6) == 0) {
+                repository.delete(id);
+            } else {
+                List<String> skills = new ArrayList<>();
+                for (String skill : SKILLS) {
+                    if (random.nextInt(3) == 0) {
+                        skills.add(skill);
+                    }
+                }
+                repository.save(employee(id, "Engineering", 50_000, LocalDate.of(2020, 1, 1),
+                    skills.toArray(new String[0])));
+            }
+        }
+
+        assertMatches(repository, "Java AND AWS NOT Docker",
+            e -> has(e, "Java") && has(e, "AWS") && !has(e, "Docker"));
+        assertMatches(repository, "(Java OR Kotlin) AND Spring Boot",
+            e -> (has(e, "Java") || has(e, "Kotlin")) && has(e, "Spring Boot"));
+        assertMatches(repository, "SQL OR Docker AND NOT AWS",
+            e -> has(e, "SQL") || (has(e, "Docker") && !has(e, "AWS")));
+        assertMatches(repository, "NOT \"Spring Boot\"", e -> !has(e, "Spring Boot"));
+        assertMatches(repository, "Cobol", e -> false);
+
+        for (String skill : SKILLS) {
+            List<Employee> expected = repository.findAll().stream()
+                .filter(e -> has(e, skill))
+                .collect(Collectors.toList());
+            assertThat(repository.groupBySkill().getOrDefault(skill, new ArrayList<>()))
+                .containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Queued changes from concurrent writers should all be visible to the next query")
+    void concurrentWritesShouldReachQueries() throws Exception {
+        EmployeeRepository repository = new EmployeeRepository();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                writers.add(pool.submit(() -> {
+                    for (int i = 0; i < 3_000; i++) {
+                        String skill = SKILLS[(thread + i) % SKILLS.length];
+                        repository.save(employee("C" + thread + "-" + (i % 700), "Engineering", 50_000,
+                            LocalDate.of(2020, 1, 1), skill));
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        for (String skill : SKILLS) {
+            assertMatches(repository, '"' + skill + '"', e -> has(e, skill));
+        }
+        assertThat(repository.columnarSnapshot().size()).isEqualTo(repository.findAll().size());
+    }
+
+    @Test
+    @DisplayName("Malformed skill queries should be rejected")
+    void shouldRejectMalformedQueries() {
+        for (String query : new String[] {"", "Java AND", "(Java OR AWS", "Java)", "\"Java", "OR Java"}) {
+            assertThatThrownBy(() -> SkillQuery.parse(query))
+                .as(query)
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static void assertMatches(EmployeeRepository repository, String query, Predicate<Employee> expected) {
+        assertThat(repository.findBySkills(query))
+            .as(query)
+            .containsExactlyInAnyOrderElementsOf(repository.findAll().stream()
+                .filter(expected)
+                .collect(Collectors.toList()));
+    }
+
+    private static boolean has(Employee employee, String skill) {
+        return employee.getSharedSkills().contains(skill);
+    }
+}
+
+// Made with Bob
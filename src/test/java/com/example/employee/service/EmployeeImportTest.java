@@ -0,0 +1,60 @@
+package com.example.employee.service;
+
+import com.example.employee.model.Address;
+import com.example.employee.model.Employee;
+import com.example.employee.model.PaymentInfo;
+import com.example.employee.model.enums.EmploymentType;
+import com.example.employee.model.enums.PaymentMethod;
+import com.example.employee.repository.EmployeeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.example.employee.TestData.employee;
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Bulk Employee Import Tests")
+class EmployeeImportTest {
+
+    @Test
+    @DisplayName("Import should store valid rows in one batch and report every error of the rest")
+    void shouldImportValidRowsAndCollectAllErrors() {
+        EmployeeRepository repository = new EmployeeRepository();
+        EmployeeService service = new EmployeeService(repository);
+        int employeesBefore = repository.findAll().size();
+        long auditBefore = repository.getAuditLog().size();
+
+        List<Employee> rows = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            rows.add(employee("I" + i, "Acquired", 50_000 + i));
+        }
+        rows.add(new Employee("BAD1", "", "Doe", "not-an-email", "Acquired", "Engineer", -1,
+            LocalDate.of(2020, 1, 1),
+            new Address("1 Main St", "Springfield", "IL", "6270", "USA"),
+            new PaymentInfo("1111222233", "123456789", "Test Bank", PaymentMethod.DIRECT_DEPOSIT),
+            EmploymentType.FULL_TIME, Collections.singletonList("Java")));
+        rows.add(employee("I5", "Acquired", 1.0));
+
+        ImportResult result = service.importEmployees(rows);
+
+        assertThat(result.getImported()).isEqualTo(10_000);
+        assertThat(result.getRejected()).isEqualTo(2);
+        assertThat(result.getErrors())
+            .extracting(ImportResult.RowError::getField)
+            .containsExactly("firstName", "email", "salary", "address.zipCode", "id");
+        assertThat(result.getErrors().get(0).getRow()).isEqualTo(10_000);
+        assertThat(result.getErrors().get(4).getReason()).contains("Duplicate");
+
+        assertThat(repository.findAll()).hasSize(employeesBefore + 10_000);
+        assertThat(repository.findByDepartment("Acquired")).hasSize(10_000);
+        assertThat(repository.getDepartmentStats("Acquired").getMaxSalary()).isEqualTo(59_999.0);
+        assertThat(repository.findBySalaryRange(59_999, 59_999)).extracting(Employee::getId).contains("I9999");
+        assertThat(repository.getAuditLog()).hasSize((int) auditBefore + 10_000);
+    }
+}
+
+// Made with Bob
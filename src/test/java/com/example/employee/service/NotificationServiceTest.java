@@ -0,0 +1,157 @@
+package com.example.employee.service;
+
+import com.example.employee.model.Employee;
+import com.example.employee.model.enums.EmploymentType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.employee.TestData.employee;
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Notification Service Tests")
+class NotificationServiceTest {
+
+    @Test
+    @DisplayName("Async dispatch should overlap slow sends")
+    void asyncDispatchShouldOverlapSlowSends() throws Exception {
+        StubMailSink sink = new StubMailSink(50);
+        NotificationService service = new NotificationService(sink);
+
+        DispatchResult result = service
+            .sendPayrollNotificationsAsync(employees(200), new DispatchOptions(100, 1_000, 1, 0))
+            .get(30, TimeUnit.SECONDS);
+
+        assertThat(result.getSucceeded()).isEqualTo(200);
+        assertThat(result.getFailed()).isZero();
+        assertThat(sink.getDeliveredCount()).isEqualTo(200);
+        // 200 x 50ms sequentially would take 10 seconds
+        assertThat(result.getElapsedMillis()).isLessThan(2_500);
+    }
+
+    @Test
+    @DisplayName("Concurrency limit should bound the number of in-flight sends")
+    void concurrencyLimitShouldBeRespected() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        NotificationService service = new NotificationService((to, subject, body) -> {
+            peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+
+        DispatchResult result = service
+            .sendPayrollNotificationsAsync(employees(100), new DispatchOptions(8, 1_000, 1, 0))
+            .get(30, TimeUnit.SECONDS);
+
+        assertThat(result.getSucceeded()).isEqualTo(100);
+        assertThat(peak.get()).isLessThanOrEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Transient failures should be retried and permanent ones reported")
+    void failuresShouldBeRetriedThenReported() throws Exception {
+        Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+        NotificationService service = new NotificationService((to, subject, body) -> {
+            int attempt = attempts.computeIfAbsent(to, k -> new AtomicInteger()).incrementAndGet();
+            if (to.startsWith("n0") || attempt < 3) {
+                throw new IOException("relay unavailable");
+            }
+        });
+
+        DispatchResult result = service
+            .sendPayrollNotificationsAsync(employees(10), new DispatchOptions(4, 1_000, 3, 1))
+            .get(30, TimeUnit.SECONDS);
+
+        assertThat(result.getSucceeded()).isEqualTo(9);
+        assertThat(result.getFailedRecipients()).containsExactly("n0@company.com");
+        assertThat(attempts.get("n0@company.com").get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Sends exceeding the timeout should count as failures")
+    void slowSendsShouldTimeOut() throws Exception {
+        NotificationService service = new NotificationService(new StubMailSink(2_000));
+
+        DispatchResult result = service
+            .sendPayrollNotificationsAsync(employees(3), new DispatchOptions(3, 50, 2, 1))
+            .get(30, TimeUnit.SECONDS);
+
+        assertThat(result.getSucceeded()).isZero();
+        assertThat(result.getFailed()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Timed-out sends that ignore interrupts should keep their slot until they return")
+    void abandonedSendsShouldHoldTheirSlot() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        NotificationService service = new NotificationService((to, subject, body) -> {
+            peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+            boolean interrupted = false;
+            while (System.nanoTime() < deadline) {
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            inFlight.decrementAndGet();
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        DispatchResult result = service
+            .sendPayrollNotificationsAsync(employees(6), new DispatchOptions(2, 20, 2, 1))
+            .get(30, TimeUnit.SECONDS);
+
+        assertThat(result.getFailed()).isEqualTo(6);
+        assertThat(peak.get()).isLessThanOrEqualTo(2);
+        assertThat(inFlight.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Employees without an email address should be skipped, not failed")
+    void missingAddressesShouldBeSkipped() throws Exception {
+        StubMailSink sink = new StubMailSink(0);
+        NotificationService service = new NotificationService(sink);
+        List<Employee> employees = employees(3);
+        employees.add(new Employee("N-NONE", "First", "Last", null, "Engineering", "Engineer", 50_000,
+            LocalDate.of(2020, 1, 1), null, null, EmploymentType.FULL_TIME, Collections.emptyList()));
+
+        DispatchResult result = service
+            .sendPayrollNotificationsAsync(employees, new DispatchOptions(4, 1_000, 1, 0))
+            .get(30, TimeUnit.SECONDS);
+
+        assertThat(result.getSucceeded()).isEqualTo(3);
+        assertThat(result.getFailed()).isZero();
+        assertThat(result.getSkipped()).isEqualTo(1);
+        assertThat(sink.getDeliveredCount()).isEqualTo(3);
+    }
+
+    private static List<Employee> employees(int count) {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            employees.add(employee("N" + i, "Engineering", 50_000));
+        }
+        return employees;
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,241 @@
+package com.example.employee.service;
+
+import com.example.employee.model.Employee;
+import com.example.employee.model.Paycheck;
+import com.example.employee.model.PayrollRates;
+import com.example.employee.model.PayrollSummary;
+import com.example.employee.model.PayrollTotals;
+import com.example.employee.model.PerformanceReview;
+import com.example.employee.model.enums.ReviewType;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.util.CacheStats;
+import com.example.employee.util.Cents;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.example.employee.TestData.employee;
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Payroll Service Tests")
+class PayrollServiceTest {
+
+    private EmployeeRepository repository;
+    private PayrollService payrollService;
+
+    @BeforeEach
+    void setUp() {
+        repository = new EmployeeRepository();
+        for (int i = 0; i < 2_000; i++) {
+            repository.save(employee("P" + i, "Dept" + (i % 5), 40_000 + i * 37.5));
+        }
+        payrollService = new PayrollService(repository);
+    }
+
+    @Test
+    @DisplayName("Bulk payroll run should match the single-employee path")
+    void bulkRunShouldMatchSingleEmployeePath() throws Exception {
+        Map<String, String> stubs = new ConcurrentHashMap<>();
+
+        PayrollSummary summary = payrollService.runPayroll(4, stubs::put);
+
+        assertThat(summary.getEmployeeCount()).isEqualTo(repository.findAll().size());
+        assertThat(stubs).hasSize(repository.findAll().size());
+
+        double gross = 0;
+        double net = 0;
+        for (Employee emp : repository.findAll()) {
+            assertThat(stubs.get(emp.getId())).isEqualTo(payrollService.generatePaystub(emp.getId()));
+            Paycheck paycheck = payrollService.calculatePay(emp);
+            gross += paycheck.getGrossPay();
+            net += paycheck.getNetPay();
+        }
+        assertThat(summary.getTotalGrossPay()).isCloseTo(gross, within(0.01));
+        assertThat(summary.getTotalNetPay()).isCloseTo(net, within(0.01));
+        assertThat(summary.getTotalHealthInsurance()).isCloseTo(500.0 * summary.getEmployeeCount(), within(0.01));
+    }
+
+    @Test
+    @DisplayName("Bulk payroll run without a sink should still compute totals")
+    void bulkRunWithoutSinkShouldComputeTotals() {
+        PayrollSummary parallel = payrollService.runPayroll(3, null);
+        PayrollSummary serial = payrollService.runPayroll(1, null);
+
+        assertThat(parallel.getEmployeeCount()).isEqualTo(serial.getEmployeeCount());
+        assertThat(parallel.getTotalTaxes()).isCloseTo(serial.getTotalTaxes(), within(0.01));
+        assertThatThrownBy(() -> payrollService.runPayroll(0, null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Cent payroll totals should equal the exact sum of per-employee pay")
+    void centTotalsShouldBeExact() {
+        PayrollTotals totals = payrollService.calculatePayrollTotals();
+
+        BigDecimal gross = BigDecimal.ZERO;
+        BigDecimal taxes = BigDecimal.ZERO;
+        BigDecimal net = BigDecimal.ZERO;
+        for (Employee emp : repository.findAll()) {
+            BigDecimal salary = BigDecimal.valueOf(emp.getSalary()).setScale(2, RoundingMode.HALF_UP);
+            BigDecimal monthly = salary.divide(BigDecimal.valueOf(12), 2, RoundingMode.HALF_UP);
+            BigDecimal tax = monthly.multiply(new BigDecimal("0.25")).setScale(2, RoundingMode.HALF_UP);
+            BigDecimal retirement = monthly.multiply(new BigDecimal("0.05")).setScale(2, RoundingMode.HALF_UP);
+            gross = gross.add(monthly);
+            taxes = taxes.add(tax);
+            net = net.add(monthly.subtract(tax).subtract(new BigDecimal("500.00")).subtract(retirement));
+        }
+        assertThat(totals.getEmployeeCount()).isEqualTo(repository.findAll().size());
+        assertThat(totals.getGrossPayCents()).isEqualTo(gross.movePointRight(2).longValueExact());
+        assertThat(totals.getTaxesCents()).isEqualTo(taxes.movePointRight(2).longValueExact());
+        assertThat(totals.getNetPayCents()).isEqualTo(net.movePointRight(2).longValueExact());
+
+        PayrollSummary doubles = payrollService.runPayroll(1, null);
+        assertThat(totals.getNetPayCents() / 100.0)
+            .isCloseTo(doubles.getTotalNetPay(), within(totals.getEmployeeCount() * 0.01));
+    }
+
+    @Test
+    @DisplayName("Paystubs should show the cent amounts the totals add up")
+    void paystubsShouldMatchCentTotals() throws Exception {
+        EmployeeRepository single = new EmployeeRepository();
+        for (Employee emp : single.findAll()) {
+            single.delete(emp.getId());
+        }
+        single.save(employee("R1", "Engineering", 100_000.06));
+        PayrollService service = new PayrollService(single);
+
+        Paycheck paycheck = service.calculatePay(single.findById("R1"));
+        PayrollTotals totals = service.calculatePayrollTotals();
+        assertThat(paycheck.getTaxes()).isEqualTo(2083.34);
+        assertThat(paycheck.getNetPay()).isEqualTo(5333.33);
+        assertThat(Cents.of(paycheck.getGrossPay())).isEqualTo(totals.getGrossPayCents());
+        assertThat(Cents.of(paycheck.getTaxes())).isEqualTo(totals.getTaxesCents());
+        assertThat(Cents.of(paycheck.getNetPay())).isEqualTo(totals.getNetPayCents());
+        assertThat(service.generatePaystub("R1"))
+            .contains("Taxes (25%):      $2083.34")
+            .contains("$5333.33");
+    }
+
+    @Test
+    @DisplayName("Cached paystubs and bonuses should be refreshed when the employee or reviews change")
+    void cacheShouldFollowWrites() throws Exception {
+        String before = payrollService.generatePaystub("P1");
+        assertThat(payrollService.generatePaystub("P1")).isSameAs(before);
+        assertThat(payrollService.calculateBonus("P1")).isZero();
+
+        repository.save(employee("P1", "Dept1", 120_000.0));
+        assertThat(payrollService.generatePaystub("P1")).contains("Gross Pay:        $10000.00");
+
+        repository.saveReviews("P1", Collections.singletonList(new PerformanceReview(
+            "P1", LocalDate.of(2024, 1, 15), 5, "Great", 0.10, ReviewType.ANNUAL)));
+        assertThat(payrollService.calculateBonus("P1")).isCloseTo(12_000.0, within(0.001));
+        assertThat(payrollService.calculateBonus("P1")).isCloseTo(12_000.0, within(0.001));
+
+        CacheStats paystubs = payrollService.getPaystubCacheStats();
+        assertThat(paystubs.getHitCount()).isEqualTo(1);
+        assertThat(paystubs.getInvalidationCount()).isEqualTo(1);
+        assertThat(payrollService.getBonusCacheStats().getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Paystub layout should be unchanged by the buffered renderer")
+    void paystubLayoutShouldBeUnchanged() throws Exception {
+        repository.save(employee("P-X", "Engineering", 100_000.0));
+
+        assertThat(payrollService.generatePaystub("P-X")).isEqualTo(
+            "========================================\n"
+                + "           PAYROLL STATEMENT            \n"
+                + "========================================\n"
+                + "Employee: FirstP-X LastP-X\n"
+                + "Employee ID: P-X\n"
+                + "Department: Engineering\n"
+                + "Position: Engineer\n"
+                + "Employment Type: FULL_TIME\n"
+                + "----------------------------------------\n"
+                + "Gross Pay:        $8333.33\n"
+                + "Taxes (25%):      $2083.33\n"
+                + "Health Insurance: $500.00\n"
+                + "Retirement (5%):  $416.67\n"
+                + "----------------------------------------\n"
+                + "Net Pay:          $5333.33\n"
+                + "========================================\n"
+                + "Payment Method: DIRECT_DEPOSIT\n"
+                + "Bank: Test Bank\n"
+                + "Account: ****2233\n"
+                + "========================================\n");
+    }
+
+    @Test
+    @DisplayName("Streaming paystubs to a channel should write every stub in full")
+    void writePaystubsShouldStreamEveryStub() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PayrollSummary summary = payrollService.writePaystubs(Channels.newChannel(out));
+
+        StringBuilder expected = new StringBuilder();
+        Iterator<Employee> employees = repository.stream().iterator();
+        while (employees.hasNext()) {
+            expected.append(payrollService.generatePaystub(employees.next().getId()));
+        }
+        assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(expected.toString());
+        assertThat(summary.getEmployeeCount()).isEqualTo(repository.findAll().size());
+
+        // A buffer smaller than one stub forces the overflow path.
+        Employee emp = repository.findById("P7");
+        PaystubRenderer renderer = new PaystubRenderer(64);
+        ByteArrayOutputStream small = new ByteArrayOutputStream();
+        WritableByteChannel channel = Channels.newChannel(small);
+        renderer.write(emp, payrollService.calculatePay(emp), channel);
+        renderer.write(emp, payrollService.calculatePay(emp), channel);
+        renderer.flush(channel);
+        String stub = payrollService.generatePaystub("P7");
+        assertThat(new String(small.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(stub + stub);
+    }
+
+    @Test
+    @DisplayName("Scenarios should fork from live data without writing to it")
+    void scenariosShouldForkFromLiveData() {
+        PayrollTotals live = payrollService.calculatePayrollTotals();
+        List<Employee> newHires = new ArrayList<>();
+        for (Employee emp : repository.findByDepartment("Dept0")) {
+            if (newHires.size() < 40) {
+                newHires.add(employee("N" + emp.getId(), "Dept0", emp.getSalary()));
+            }
+        }
+        PayrollRates higherTax = PayrollService.STANDARD_RATES.withTaxRate(0.30).withHealthInsurance(550);
+
+        Map<String, PayrollTotals> results = payrollService.simulate(Arrays.asList(
+            new PayrollScenario("baseline", snapshot -> snapshot, PayrollService.STANDARD_RATES),
+            new PayrollScenario("growth", snapshot -> snapshot.withAll(newHires), PayrollService.STANDARD_RATES),
+            new PayrollScenario("rates", snapshot -> snapshot, higherTax)));
+
+        assertThat(results).containsOnlyKeys("baseline", "growth", "rates");
+        assertThat(results.get("baseline").toString()).isEqualTo(live.toString());
+        assertThat(results.get("growth").getEmployeeCount()).isEqualTo(live.getEmployeeCount() + 40);
+        long addedGross = 0;
+        for (Employee hire : newHires) {
+            addedGross += Cents.divide(Cents.of(hire.getSalary()), 12);
+        }
+        assertThat(results.get("growth").getGrossPayCents()).isEqualTo(live.getGrossPayCents() + addedGross);
+        assertThat(results.get("rates").getGrossPayCents()).isEqualTo(live.getGrossPayCents());
+        assertThat(results.get("rates").getHealthInsuranceCents()).isEqualTo(live.getEmployeeCount() * 55_000L);
+        assertThat(results.get("rates").getTaxesCents()).isGreaterThan(live.getTaxesCents());
+        assertThat(repository.findAll()).hasSize((int) live.getEmployeeCount());
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,67 @@
+package com.example.employee.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Bounded Cache Tests")
+class BoundedCacheTest {
+
+    @Test
+    @DisplayName("Cache should stay bounded and keep re-read entries through a scan")
+    void shouldKeepHotEntriesThroughScan() {
+        BoundedCache<Integer, String> cache = new BoundedCache<>(100, 1, TimeUnit.HOURS);
+        for (int i = 0; i < 50; i++) {
+            cache.get(i, String::valueOf);
+            cache.get(i, String::valueOf);
+        }
+        for (int i = 1_000; i < 6_000; i++) {
+            cache.get(i, String::valueOf);
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+        for (int i = 0; i < 50; i++) {
+            assertThat(cache.getIfPresent(i)).isEqualTo(String.valueOf(i));
+        }
+        CacheStats stats = cache.stats();
+        assertThat(stats.getHitCount()).isEqualTo(50);
+        assertThat(stats.getMissCount()).isEqualTo(5_050);
+        assertThat(stats.getEvictionCount()).isEqualTo(5_050 - cache.size());
+    }
+
+    @Test
+    @DisplayName("Entries should expire after their time-to-live")
+    void shouldExpireEntries() {
+        AtomicLong now = new AtomicLong();
+        BoundedCache<String, String> cache = new BoundedCache<>(10, 5, TimeUnit.SECONDS, now::get);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("a", k -> "v" + loads.incrementAndGet());
+        now.addAndGet(TimeUnit.SECONDS.toNanos(4));
+        assertThat(cache.get("a", k -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertThat(cache.get("a", k -> "v" + loads.incrementAndGet())).isEqualTo("v2");
+        assertThat(cache.stats().getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Invalid or invalidated entries should be reloaded")
+    void shouldReloadInvalidatedEntries() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(10, 1, TimeUnit.HOURS);
+        AtomicInteger version = new AtomicInteger(1);
+
+        assertThat(cache.get("k", v -> v == version.get(), k -> version.get())).isEqualTo(1);
+        version.set(2);
+        assertThat(cache.get("k", v -> v == version.get(), k -> version.get())).isEqualTo(2);
+        cache.invalidate("k");
+        assertThat(cache.getIfPresent("k")).isNull();
+        assertThat(cache.stats().getInvalidationCount()).isEqualTo(2);
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,61 @@
+package com.example.employee.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Fixed-Point Cents Tests")
+class CentsTest {
+
+    @Test
+    @DisplayName("Conversion from dollars should round half-up on the decimal value")
+    void shouldConvertDollarsToCents() {
+        assertThat(Cents.of(1.005)).isEqualTo(101);
+        assertThat(Cents.of(0.125)).isEqualTo(13);
+        assertThat(Cents.of(-0.125)).isEqualTo(-13);
+        assertThat(Cents.of(85_000.0)).isEqualTo(8_500_000);
+
+        Random random = new Random(5);
+        for (int i = 0; i < 100_000; i++) {
+            double amount = (random.nextDouble() - 0.5) * 2e7;
+            assertThat(Cents.of(amount)).isEqualTo(
+                BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValue());
+        }
+        assertThatThrownBy(() -> Cents.of(Double.NaN)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("Division and rates should round half-up away from zero")
+    void shouldRoundDivisionAndRates() {
+        assertThat(Cents.divide(10_000_000, 12)).isEqualTo(833_333);
+        assertThat(Cents.divide(18, 12)).isEqualTo(2);
+        assertThat(Cents.divide(-18, 12)).isEqualTo(-2);
+        assertThat(Cents.divide(17, -12)).isEqualTo(-1);
+        assertThat(Cents.applyRate(833_333, 2_500)).isEqualTo(208_333);
+        assertThat(Cents.applyRate(833_334, 2_500)).isEqualTo(208_334);
+        assertThat(Cents.applyRate(10, 500)).isEqualTo(1);
+
+        Random random = new Random(9);
+        for (int i = 0; i < 100_000; i++) {
+            long cents = random.nextLong() % 1_000_000_000_000L;
+            long divisor = random.nextInt(10_000) + 1;
+            assertThat(Cents.divide(cents, divisor)).isEqualTo(
+                BigDecimal.valueOf(cents).divide(BigDecimal.valueOf(divisor), 0, RoundingMode.HALF_UP).longValue());
+        }
+    }
+
+    @Test
+    @DisplayName("Overflow should throw instead of wrapping")
+    void shouldDetectOverflow() {
+        assertThatThrownBy(() -> Cents.add(Long.MAX_VALUE, 1)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Cents.applyRate(Long.MAX_VALUE / 2, 2_500)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Cents.divide(1, 0)).isInstanceOf(ArithmeticException.class);
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,45 @@
+package com.example.employee.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Money Format Tests")
+class MoneyFormatTest {
+
+    @Test
+    @DisplayName("Fixed-point formatting should produce the same digits as String.format")
+    void shouldMatchStringFormat() {
+        double[] edgeCases = {0.0, -0.0, 0.125, 1.005, 2.675, -0.005, -0.001, 0.285,
+            99_999.995, 4_166.666666666667, 1e12 + 0.005, 1e14, Double.NaN};
+        for (double amount : edgeCases) {
+            assertThat(MoneyFormat.format(amount))
+                .as("%s", amount)
+                .isEqualTo(String.format(Locale.ROOT, "%.2f", amount));
+        }
+
+        Random random = new Random(17);
+        for (int i = 0; i < 200_000; i++) {
+            double amount = i % 2 == 0
+                ? (random.nextDouble() - 0.3) * 1e6
+                : (random.nextInt(10_000_000) + 0.5) / 100.0;
+            assertThat(MoneyFormat.format(amount))
+                .as("%s", amount)
+                .isEqualTo(String.format(Locale.ROOT, "%.2f", amount));
+        }
+    }
+
+    @Test
+    @DisplayName("Cent amounts should be formatted with two decimals and a sign")
+    void shouldFormatCents() {
+        assertThat(MoneyFormat.appendCents(new StringBuilder(), 123_456L).toString()).isEqualTo("1234.56");
+        assertThat(MoneyFormat.appendCents(new StringBuilder(), 5L).toString()).isEqualTo("0.05");
+        assertThat(MoneyFormat.appendCents(new StringBuilder(), -1_050L).toString()).isEqualTo("-10.50");
+    }
+}
+
+// Made with Bob
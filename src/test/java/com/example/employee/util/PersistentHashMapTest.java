@@ -0,0 +1,108 @@
+package com.example.employee.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PersistentHashMap Tests")
+class PersistentHashMapTest {
+
+    @Test
+    @DisplayName("Random puts and removes should match a HashMap, and old versions should stay intact")
+    void shouldMatchHashMapAndKeepOldVersions() {
+        Random random = new Random(7);
+        Map<Integer, Integer> expected = new HashMap<>();
+        PersistentHashMap<Integer, Integer> map = PersistentHashMap.empty();
+        PersistentHashMap<Integer, Integer> checkpoint = null;
+        Map<Integer, Integer> checkpointExpected = null;
+
+        for (int i = 0; i < 200_000; i++) {
+            int key = random.nextInt(20_000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.minus(key);
+            } else {
+                expected.put(key, i);
+                map = map.plus(key, i);
+            }
+            if (i == 100_000) {
+                checkpoint = map;
+                checkpointExpected = new HashMap<>(expected);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (int key = 0; key < 20_000; key++) {
+            assertThat(map.get(key)).isEqualTo(expected.get(key));
+            assertThat(checkpoint.get(key)).isEqualTo(checkpointExpected.get(key));
+        }
+        assertThat(checkpoint.size()).isEqualTo(checkpointExpected.size());
+        assertThat(map.values().parallel().mapToLong(Integer::longValue).sum())
+            .isEqualTo(expected.values().stream().mapToLong(Integer::longValue).sum());
+        assertThat(map.keys().parallel().collect(Collectors.toSet())).isEqualTo(expected.keySet());
+    }
+
+    @Test
+    @DisplayName("Keys with equal hashes should be stored, found and removed individually")
+    void shouldHandleFullHashCollisions() {
+        PersistentHashMap<Collider, String> map = PersistentHashMap.empty();
+        for (int i = 0; i < 5; i++) {
+            map = map.plus(new Collider(i), "v" + i);
+        }
+        map = map.plus(new Collider(99, 1), "other");
+
+        assertThat(map.size()).isEqualTo(6);
+        assertThat(map.get(new Collider(3))).isEqualTo("v3");
+        for (int i = 0; i < 4; i++) {
+            map = map.minus(new Collider(i));
+        }
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(new Collider(4))).isEqualTo("v4");
+        assertThat(map.get(new Collider(99, 1))).isEqualTo("other");
+        assertThat(map.minus(new Collider(4)).minus(new Collider(99, 1)).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Unchanged updates should return the same map")
+    void shouldReturnSameMapWhenNothingChanges() {
+        String value = "a";
+        PersistentHashMap<String, String> map = PersistentHashMap.<String, String>empty().plus("k", value);
+
+        assertThat(map.plus("k", value)).isSameAs(map);
+        assertThat(map.minus("missing")).isSameAs(map);
+        assertThat(map.plus("k", "b").get("k")).isEqualTo("b");
+        assertThat(map.get("k")).isEqualTo("a");
+    }
+
+    private static final class Collider {
+        private final int id;
+        private final int hash;
+
+        Collider(int id) {
+            this(id, 42);
+        }
+
+        Collider(int id, int hash) {
+            this.id = id;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Collider && ((Collider) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
+
+// Made with Bob
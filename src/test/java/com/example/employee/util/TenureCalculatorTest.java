@@ -0,0 +1,103 @@
+package com.example.employee.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Tenure Calculator Tests")
+class TenureCalculatorTest {
+    private static final ZoneId ZONE = ZoneId.of("America/New_York");
+
+    @Test
+    @DisplayName("Years should match Period.between around year ends and leap days")
+    void shouldMatchPeriodBetween() {
+        LocalDate[] todays = {
+            LocalDate.of(2024, 2, 28), LocalDate.of(2024, 2, 29), LocalDate.of(2024, 3, 1),
+            LocalDate.of(2025, 2, 28), LocalDate.of(2025, 3, 1),
+            LocalDate.of(2024, 12, 31), LocalDate.of(2025, 1, 1)
+        };
+        Random random = new Random(7);
+        for (LocalDate today : todays) {
+            TenureCalculator tenure = new TenureCalculator(fixedAt(today));
+            for (int i = 0; i < 20_000; i++) {
+                LocalDate hire = today.minusDays(random.nextInt(80 * 366) - 2 * 366);
+                assertThat(tenure.yearsOfService(hire))
+                    .as("hired %s, today %s", hire, today)
+                    .isEqualTo(Period.between(hire, today).getYears());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("A leap-day hire should complete a year on March 1 outside leap years")
+    void shouldHandleLeapDayHires() {
+        LocalDate hire = LocalDate.of(2020, 2, 29);
+        assertThat(new TenureCalculator(fixedAt(LocalDate.of(2021, 2, 28))).yearsOfService(hire)).isZero();
+        assertThat(new TenureCalculator(fixedAt(LocalDate.of(2021, 3, 1))).yearsOfService(hire)).isEqualTo(1);
+        assertThat(new TenureCalculator(fixedAt(LocalDate.of(2024, 2, 28))).yearsOfService(hire)).isEqualTo(3);
+        assertThat(new TenureCalculator(fixedAt(LocalDate.of(2024, 2, 29))).yearsOfService(hire)).isEqualTo(4);
+        assertThat(new TenureCalculator(fixedAt(LocalDate.of(2024, 2, 29))).yearsOfService((LocalDate) null)).isZero();
+    }
+
+    @Test
+    @DisplayName("Today should be cached within a day and roll over at local midnight")
+    void shouldRollOverAtMidnight() {
+        MutableClock clock = new MutableClock(LocalDateTime.of(2024, 12, 31, 23, 59, 59));
+        TenureCalculator tenure = new TenureCalculator(clock);
+        LocalDate hire = LocalDate.of(2020, 1, 1);
+
+        assertThat(tenure.yearsOfService(hire)).isEqualTo(4);
+        LocalDate cached = tenure.today();
+        clock.set(LocalDateTime.of(2024, 12, 31, 0, 0));
+        assertThat(tenure.today()).isSameAs(cached);
+
+        clock.set(LocalDateTime.of(2025, 1, 1, 0, 0));
+        assertThat(tenure.today()).isEqualTo(LocalDate.of(2025, 1, 1));
+        assertThat(tenure.yearsOfService(hire)).isEqualTo(5);
+
+        clock.set(LocalDateTime.of(2024, 12, 30, 12, 0));
+        assertThat(tenure.yearsOfService(hire)).isEqualTo(4);
+    }
+
+    private static Clock fixedAt(LocalDate date) {
+        return Clock.fixed(date.atTime(12, 0).atZone(ZONE).toInstant(), ZONE);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(LocalDateTime start) {
+            set(start);
+        }
+
+        void set(LocalDateTime time) {
+            instant = time.atZone(ZONE).toInstant();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
+
+// Made with Bob
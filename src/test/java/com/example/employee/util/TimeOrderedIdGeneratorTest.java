@@ -0,0 +1,111 @@
+package com.example.employee.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Time-Ordered Id Generator Tests")
+class TimeOrderedIdGeneratorTest {
+
+    @Test
+    @DisplayName("Concurrent threads should draw millions of ids without a duplicate")
+    void shouldGenerateUniqueIdsAcrossThreads() throws Exception {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(7);
+        int threads = 8;
+        int perThread = 500_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                long[] ids = new long[perThread];
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    ids[i] = generator.nextId();
+                }
+                return ids;
+            }));
+        }
+        start.countDown();
+
+        long[] all = new long[threads * perThread];
+        int filled = 0;
+        for (Future<long[]> future : futures) {
+            long[] ids = future.get();
+            for (int i = 1; i < ids.length; i++) {
+                assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+            }
+            System.arraycopy(ids, 0, all, filled, ids.length);
+            filled += ids.length;
+        }
+        executor.shutdown();
+
+        Arrays.sort(all);
+        for (int i = 1; i < all.length; i++) {
+            if (all[i] == all[i - 1]) {
+                fail("Duplicate id " + all[i]);
+            }
+        }
+        assertThat(TimeOrderedIdGenerator.nodeId(all[0])).isEqualTo(7);
+        assertThat(all[0]).isPositive();
+    }
+
+    @Test
+    @DisplayName("Ids should encode time and stay increasing through bursts and clock steps back")
+    void shouldStayMonotonicWhenClockStallsOrStepsBack() {
+        AtomicLong clock = new AtomicLong(TimeOrderedIdGenerator.EPOCH_MILLIS + 1_000);
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(3, clock::get);
+
+        long first = generator.nextId();
+        assertThat(TimeOrderedIdGenerator.timestampMillis(first)).isEqualTo(clock.get());
+        assertThat(TimeOrderedIdGenerator.sequence(first)).isZero();
+
+        long previous = first;
+        for (int i = 0; i < 5_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+        // 4096 ids fit in one millisecond; the rest borrow from the next.
+        assertThat(TimeOrderedIdGenerator.timestampMillis(previous)).isEqualTo(clock.get() + 1);
+
+        clock.addAndGet(-500);
+        long afterStepBack = generator.nextId();
+        assertThat(afterStepBack).isGreaterThan(previous);
+
+        clock.addAndGet(10_000);
+        long caughtUp = generator.nextId();
+        assertThat(TimeOrderedIdGenerator.timestampMillis(caughtUp)).isEqualTo(clock.get());
+        assertThat(TimeOrderedIdGenerator.sequence(caughtUp)).isZero();
+        assertThat(TimeOrderedIdGenerator.nodeId(caughtUp)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("String ids should be fixed width and sort in generation order")
+    void shouldFormatSortableStringIds() {
+        String a = IdGenerator.generateEventId();
+        String b = IdGenerator.generateEventId();
+        assertThat(a).startsWith("EVT").hasSize(19);
+        assertThat(b).isGreaterThan(a);
+        assertThat(IdGenerator.generateEmployeeId()).matches("E[0-9a-f]{16}");
+    }
+
+    @Test
+    @DisplayName("Node ids outside ten bits should be rejected")
+    void shouldRejectInvalidNodeId() {
+        assertThatThrownBy(() -> new TimeOrderedIdGenerator(1024))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
+
+// Made with Bob
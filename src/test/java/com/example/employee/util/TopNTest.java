@@ -0,0 +1,50 @@
+package com.example.employee.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Top-N Selection Tests")
+class TopNTest {
+
+    @Test
+    @DisplayName("Bounded heap should agree with sort-and-limit, sequentially and in parallel")
+    void shouldMatchSortAndLimit() {
+        Random random = new Random(7);
+        List<Integer> values = IntStream.range(0, 20_000)
+            .map(i -> random.nextInt(5_000))
+            .boxed()
+            .collect(Collectors.toList());
+        Comparator<Integer> descending = Comparator.reverseOrder();
+
+        for (int k : new int[] {0, 1, 10, 500, 25_000}) {
+            List<Integer> expected = values.stream()
+                .filter(v -> v % 3 != 0)
+                .sorted(descending)
+                .limit(k)
+                .collect(Collectors.toList());
+
+            assertThat(TopN.select(values, descending, v -> v % 3 != 0, k)).isEqualTo(expected);
+            assertThat(values.parallelStream()
+                .filter(v -> v % 3 != 0)
+                .collect(TopN.collector(descending, k))).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Negative k should be rejected")
+    void shouldRejectNegativeK() {
+        assertThatThrownBy(() -> TopN.select(IntStream.range(0, 3).boxed().collect(Collectors.toList()),
+            Comparator.<Integer>naturalOrder(), v -> true, -1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
+
+// Made with Bob